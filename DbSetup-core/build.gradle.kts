@@ -15,6 +15,7 @@ dependencies {
     testImplementation("junit:junit:4.+")
     testImplementation("org.mockito:mockito-all:1.9.0")
     testImplementation("org.hsqldb:hsqldb:2.3.3")
+    testImplementation("com.h2database:h2:1.4.200")
 }
 
 tasks {
@@ -33,6 +33,7 @@ import com.ninja_squad.dbsetup.bind.BinderConfiguration;
 import com.ninja_squad.dbsetup.bind.DefaultBinderConfiguration;
 import com.ninja_squad.dbsetup.destination.Destination;
 import com.ninja_squad.dbsetup.operation.Operation;
+import com.ninja_squad.dbsetup.plan.LaunchPlan;
 import com.ninja_squad.dbsetup.util.Preconditions;
 
 /**
@@ -124,6 +125,18 @@ public final class DbSetup {
         }
     }
 
+    /**
+     * Plans the sequence of operations, without connecting to the destination: the operations are executed against
+     * a fake connection which records the statements that would be prepared and executed, the number of rows and of
+     * bind calls, the number of round trips to the database, and the estimated number of bytes sent to the database.
+     * @return the plan, which can be exported as JSON
+     * @throws DbSetupRuntimeException if an operation fails, for example because a file it reads doesn't exist.
+     * @see LaunchPlan
+     */
+    public LaunchPlan plan() {
+        return LaunchPlan.of(operation, binderConfiguration);
+    }
+
     @Override
     public String toString() {
         return "DbSetup [destination="
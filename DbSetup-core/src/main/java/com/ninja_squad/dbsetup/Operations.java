@@ -24,11 +24,14 @@
 
 package com.ninja_squad.dbsetup;
 
+import java.nio.file.Path;
 import java.util.List;
 
 import javax.annotation.Nonnull;
 
+import com.ninja_squad.dbsetup.operation.BinaryFixture;
 import com.ninja_squad.dbsetup.operation.CompositeOperation;
+import com.ninja_squad.dbsetup.operation.CsvInsert;
 import com.ninja_squad.dbsetup.operation.DeleteAll;
 import com.ninja_squad.dbsetup.operation.Insert;
 import com.ninja_squad.dbsetup.operation.Operation;
@@ -133,6 +136,29 @@ public final class Operations {
         return Insert.into(table);
     }
 
+    /**
+     * Creates an operation inserting all the rows of a CSV file, having a header containing the column names, into
+     * a table. Use {@link CsvInsert#into(String, Path)} to customize the separator, the charset, the mapping of
+     * header names to column names, etc.
+     * @param table the table to insert into
+     * @param file the CSV file, optionally compressed with gzip
+     * @see CsvInsert
+     */
+    public static CsvInsert insertCsv(@Nonnull String table, @Nonnull Path file) {
+        return CsvInsert.into(table, file).build();
+    }
+
+    /**
+     * Creates an operation inserting all the rows stored in a binary fixture file, typically created using the
+     * {@link com.ninja_squad.dbsetup.export.FixtureExporter}. Use {@link BinaryFixture#from(Path, int)} to customize
+     * the batch size.
+     * @param file the binary fixture file
+     * @see BinaryFixture
+     */
+    public static BinaryFixture insertFixture(@Nonnull Path file) {
+        return BinaryFixture.from(file);
+    }
+
     /**
      * Creates a sequence of operations.
      * @param operations the operations to put in a sequence
@@ -27,6 +27,9 @@ package com.ninja_squad.dbsetup.bind;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
@@ -38,11 +41,17 @@ import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
-import java.util.TimeZone;
+
+import javax.annotation.Nonnull;
+
+import com.ninja_squad.dbsetup.util.Preconditions;
 
 /**
  * Utility class allowing to get various kinds of binders. The {@link DefaultBinderConfiguration} uses binders
  * returned by this class, based on the type of the parameter.
+ * <p>
+ * All the binders returned by this class bind {@link LobValue}s by streaming their content, using
+ * <code>setBinaryStream()</code> or <code>setCharacterStream()</code>.
  * @author JB Nizet
  */
 public final class Binders {
@@ -80,6 +89,8 @@ public final class Binders {
      *         <code>java.sql.Time</code>. The time zone is also used to create a <code>Calendar</code> passed as third
      *         argument of <code>PreparedStatement.setTime()</code> to pass the timezone</li>
      * </ul>
+     * The returned binder is also a {@link LongBinder} and a {@link DoubleBinder}, which binds primitive values
+     * using <code>setLong()</code> and <code>setDouble()</code>.
      */
     public static Binder defaultBinder() {
         return DEFAULT_BINDER;
@@ -187,6 +198,8 @@ public final class Binders {
      *   <li><code>String</code>: the string is transformed to a java.math.BigDecimal using its constructor</li>
      * </ul>
      * If the value is none of these types, <code>stmt.setObject()</code> is used to bind the value.
+     * The returned binder is also a {@link LongBinder} and a {@link DoubleBinder}, which binds primitive values
+     * using <code>setLong()</code> and <code>setDouble()</code>.
      */
     public static Binder decimalBinder() {
         return DECIMAL_BINDER;
@@ -204,29 +217,79 @@ public final class Binders {
      *   </li>
      * </ul>
      * If the value is none of these types, <code>stmt.setObject()</code> is used to bind the value.
+     * The returned binder is also a {@link LongBinder}, which binds primitive long values using
+     * <code>setLong()</code>.
      */
     public static Binder integerBinder() {
         return INTEGER_BINDER;
     }
 
+    /**
+     * Returns a binder for columns of the given SQL type, which is typically used when the type of a column is
+     * declared explicitly rather than read from the metadata. The returned binder converts the values to the Java type
+     * which exactly matches the SQL type, and binds them using the corresponding method of the statement:
+     * <ul>
+     *   <li>BIGINT: <code>Long</code>, bound with <code>setLong()</code></li>
+     *   <li>INTEGER, SMALLINT, TINYINT: <code>Integer</code>, bound with <code>setInt()</code></li>
+     *   <li>DOUBLE, FLOAT, REAL: <code>Double</code>, bound with <code>setDouble()</code></li>
+     *   <li>DECIMAL, NUMERIC: <code>BigDecimal</code>, bound with <code>setBigDecimal()</code></li>
+     *   <li>BOOLEAN, BIT: <code>Boolean</code>, bound with <code>setBoolean()</code></li>
+     *   <li>VARCHAR, CHAR, LONGVARCHAR, NVARCHAR, NCHAR, LONGNVARCHAR: <code>String</code>, bound with
+     *       <code>setString()</code></li>
+     *   <li>DATE: <code>java.sql.Date</code>, bound with <code>setDate()</code></li>
+     *   <li>TIME: <code>java.sql.Time</code>, bound with <code>setTime()</code></li>
+     *   <li>TIMESTAMP: <code>java.sql.Timestamp</code>, bound with <code>setTimestamp()</code></li>
+     * </ul>
+     * Strings, numbers, enums and <code>java.time</code> local values are converted. Floating-point numbers are
+     * only converted to integers if they don't have any fractional part. The values that the binder returned by this
+     * class for the same kind of column binds specifically are bound by this binder: enums for integer columns,
+     * <code>java.util.Date</code>, <code>Calendar</code> and zoned or offset <code>java.time</code> values for
+     * temporal columns, and any value for character columns. <code>null</code> is bound using <code>setNull()</code>
+     * with the SQL type. The returned binder is a {@link ConvertingBinder}, whose <code>convert()</code> method
+     * throws an <code>IllegalArgumentException</code> for any other value, or if a value can't be converted. For all
+     * the other SQL types, the {@link #defaultBinder() default binder} is returned.
+     */
+    public static Binder typedBinder(@Nonnull JDBCType type) {
+        Preconditions.checkNotNull(type, "type may not be null");
+        return TypedBinder.forType(type);
+    }
+
     /**
      * The implementation for {@link Binders#stringBinder()}
      * @author JB Nizet
      */
-    private static final class StringBinder implements Binder {
-        @Override
-        public void bind(java.sql.PreparedStatement stmt, int param, Object value) throws java.sql.SQLException {
-            if (value instanceof String) {
+    private static final class StringBinder extends ClassDispatchingBinder {
+        private static final Strategy STRING = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setString(param, (String) value);
             }
-            else if (value instanceof Enum<?>) {
+        };
+
+        private static final Strategy ENUM = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setString(param, ((Enum<?>) value).name());
             }
-            else if (value == null) {
-                stmt.setObject(param, null);
+        };
+
+        private static final Strategy TO_STRING = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+                stmt.setString(param, value.toString());
+            }
+        };
+
+        @Override
+        protected Strategy strategyFor(Class<?> type) {
+            if (type == String.class) {
+                return STRING;
+            }
+            else if (Enum.class.isAssignableFrom(type)) {
+                return ENUM;
             }
             else {
-                stmt.setString(param, value.toString());
+                return TO_STRING;
             }
         }
 
@@ -240,36 +303,83 @@ public final class Binders {
      * The implementation for {@link Binders#timeBinder()}
      * @author JB Nizet
      */
-    private static final class TimeBinder implements Binder {
-        @Override
-        public void bind(java.sql.PreparedStatement stmt, int param, Object value) throws java.sql.SQLException {
-            if (value instanceof Time) {
+    private static final class TimeBinder extends ClassDispatchingBinder implements ConvertingBinder {
+        private static final Strategy TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setTime(param, (Time) value);
             }
-            else if (value instanceof java.util.Date) {
+        };
+
+        private static final Strategy UTIL_DATE = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setTime(param, new Time(((java.util.Date) value).getTime()));
             }
-            else if (value instanceof Calendar) {
+        };
+
+        private static final Strategy CALENDAR = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 Calendar calendar = (Calendar) value;
                 stmt.setTime(param, new Time(calendar.getTimeInMillis()), calendar);
             }
-            else if (value instanceof String) {
+        };
+
+        private static final Strategy STRING = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setTime(param, Time.valueOf((String) value));
             }
-            else if (value instanceof LocalTime) {
+        };
+
+        private static final Strategy LOCAL_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setTime(param, Time.valueOf((LocalTime) value));
             }
-            else if (value instanceof OffsetTime) {
+        };
+
+        private static final Strategy OFFSET_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 OffsetTime offsetTime = (OffsetTime) value;
                 stmt.setTime(param,
                              Time.valueOf(offsetTime.toLocalTime()),
-                             Calendar.getInstance(TimeZone.getTimeZone(offsetTime.getOffset())));
+                             TimeZones.calendar(offsetTime.getOffset()));
+            }
+        };
+
+        @Override
+        protected Strategy strategyFor(Class<?> type) {
+            if (Time.class.isAssignableFrom(type)) {
+                return TIME;
+            }
+            else if (java.util.Date.class.isAssignableFrom(type)) {
+                return UTIL_DATE;
+            }
+            else if (Calendar.class.isAssignableFrom(type)) {
+                return CALENDAR;
+            }
+            else if (type == String.class) {
+                return STRING;
+            }
+            else if (type == LocalTime.class) {
+                return LOCAL_TIME;
+            }
+            else if (type == OffsetTime.class) {
+                return OFFSET_TIME;
             }
             else {
-                stmt.setObject(param, value);
+                return SET_OBJECT;
             }
         }
 
+        @Override
+        public Object convert(Object value) {
+            return value instanceof String ? Time.valueOf((String) value) : value;
+        }
+
         @Override
         public String toString() {
             return "Binders.timeBinder";
@@ -280,23 +390,49 @@ public final class Binders {
      * The implementation for {@link Binders#integerBinder()}
      * @author JB Nizet
      */
-    private static final class IntegerBinder implements Binder {
-        @Override
-        public void bind(java.sql.PreparedStatement stmt, int param, Object value) throws java.sql.SQLException {
-            if (value instanceof BigInteger) {
+    private static final class IntegerBinder extends ClassDispatchingBinder implements LongBinder {
+        private static final Strategy BIG_INTEGER = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setObject(param, value.toString(), Types.BIGINT);
             }
-            else if (value instanceof Enum<?>) {
+        };
+
+        private static final Strategy ENUM = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setInt(param, ((Enum<?>) value).ordinal());
             }
-            else if (value instanceof String) {
+        };
+
+        private static final Strategy STRING = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setObject(param, value, Types.BIGINT);
             }
+        };
+
+        @Override
+        protected Strategy strategyFor(Class<?> type) {
+            if (BigInteger.class.isAssignableFrom(type)) {
+                return BIG_INTEGER;
+            }
+            else if (Enum.class.isAssignableFrom(type)) {
+                return ENUM;
+            }
+            else if (type == String.class) {
+                return STRING;
+            }
             else {
-                stmt.setObject(param, value);
+                return SET_OBJECT;
             }
         }
 
+        @Override
+        public void bindLong(PreparedStatement stmt, int param, long value) throws SQLException {
+            stmt.setLong(param, value);
+        }
+
         @Override
         public String toString() {
             return "Binders.integerBinder";
@@ -307,15 +443,27 @@ public final class Binders {
      * The implementation for {@link Binders#decimalBinder()}
      * @author JB Nizet
      */
-    private static final class DecimalBinder implements Binder {
-        @Override
-        public void bind(java.sql.PreparedStatement stmt, int param, Object value) throws java.sql.SQLException {
-            if (value instanceof String) {
+    private static final class DecimalBinder extends ClassDispatchingBinder implements LongBinder, DoubleBinder {
+        private static final Strategy STRING = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setBigDecimal(param, new BigDecimal((String) value));
             }
-            else {
-                stmt.setObject(param, value);
-            }
+        };
+
+        @Override
+        protected Strategy strategyFor(Class<?> type) {
+            return type == String.class ? STRING : SET_OBJECT;
+        }
+
+        @Override
+        public void bindLong(PreparedStatement stmt, int param, long value) throws SQLException {
+            stmt.setLong(param, value);
+        }
+
+        @Override
+        public void bindDouble(PreparedStatement stmt, int param, double value) throws SQLException {
+            stmt.setDouble(param, value);
         }
 
         @Override
@@ -328,57 +476,125 @@ public final class Binders {
      * The implementation for {@link Binders#timestampBinder()}
      * @author JB Nizet
      */
-    private static final class TimestampBinder implements Binder {
+    private static final class TimestampBinder extends ClassDispatchingBinder implements ConvertingBinder {
         // the number of chars in yyyy-mm-dd hh:mm:ss
         private static final int MIN_NUMBER_OF_CHARS_FOR_TIMESTAMP = 19;
 
-        @Override
-        public void bind(java.sql.PreparedStatement stmt, int param, Object value) throws java.sql.SQLException {
-            if (value instanceof Timestamp) {
+        private static final Strategy TIMESTAMP = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setTimestamp(param, (Timestamp) value);
             }
-            else if (value instanceof java.util.Date) {
+        };
+
+        private static final Strategy UTIL_DATE = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setTimestamp(param, new Timestamp(((java.util.Date) value).getTime()));
             }
-            else if (value instanceof Calendar) {
+        };
+
+        private static final Strategy CALENDAR = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setTimestamp(param, new Timestamp(((Calendar) value).getTimeInMillis()), (Calendar) value);
             }
-            else if (value instanceof String) {
-                String valueAsString = (String) value;
-                if (valueAsString.length() >= MIN_NUMBER_OF_CHARS_FOR_TIMESTAMP) {
-                    stmt.setTimestamp(param, Timestamp.valueOf(valueAsString));
-                }
-                else {
-                    Date valueAsDate = Date.valueOf(valueAsString);
-                    stmt.setTimestamp(param, new Timestamp(valueAsDate.getTime()));
-                }
-            }
-            else if (value instanceof LocalDateTime) {
-                LocalDateTime localDateTime = (LocalDateTime) value;
-                stmt.setTimestamp(param, Timestamp.valueOf(localDateTime));
-            }
-            else if (value instanceof Instant) {
-                Instant instant = (Instant) value;
-                stmt.setTimestamp(param, Timestamp.from(instant));
-            }
-            else if (value instanceof ZonedDateTime) {
+        };
+
+        private static final Strategy STRING = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+                stmt.setTimestamp(param, parse((String) value));
+            }
+        };
+
+        private static final Strategy LOCAL_DATE_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+                stmt.setTimestamp(param, Timestamp.valueOf((LocalDateTime) value));
+            }
+        };
+
+        private static final Strategy INSTANT = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+                stmt.setTimestamp(param, Timestamp.from((Instant) value));
+            }
+        };
+
+        private static final Strategy ZONED_DATE_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 ZonedDateTime zonedDateTime = (ZonedDateTime) value;
                 stmt.setTimestamp(param,
-                                  Timestamp.from(zonedDateTime.toInstant()),
-                                  Calendar.getInstance(TimeZone.getTimeZone(zonedDateTime.getZone())));
+                                  TimeZones.timestamp(zonedDateTime.toEpochSecond(), zonedDateTime.getNano()),
+                                  TimeZones.calendar(zonedDateTime.getZone()));
             }
-            else if (value instanceof OffsetDateTime) {
+        };
+
+        private static final Strategy OFFSET_DATE_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 OffsetDateTime offsetDateTime = (OffsetDateTime) value;
                 stmt.setTimestamp(param,
-                                  Timestamp.from(offsetDateTime.toInstant()),
-                                  Calendar.getInstance(TimeZone.getTimeZone(offsetDateTime.getOffset())));
+                                  TimeZones.timestamp(offsetDateTime.toEpochSecond(), offsetDateTime.getNano()),
+                                  TimeZones.calendar(offsetDateTime.getOffset()));
+            }
+        };
+
+        private static final Strategy LOCAL_DATE = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+                stmt.setTimestamp(param, Timestamp.valueOf(((LocalDate) value).atStartOfDay()));
             }
-            else if (value instanceof LocalDate) {
-                LocalDate localDate = (LocalDate) value;
-                stmt.setTimestamp(param, Timestamp.valueOf(localDate.atStartOfDay()));
+        };
+
+        @Override
+        protected Strategy strategyFor(Class<?> type) {
+            if (Timestamp.class.isAssignableFrom(type)) {
+                return TIMESTAMP;
+            }
+            else if (java.util.Date.class.isAssignableFrom(type)) {
+                return UTIL_DATE;
+            }
+            else if (Calendar.class.isAssignableFrom(type)) {
+                return CALENDAR;
+            }
+            else if (type == String.class) {
+                return STRING;
+            }
+            else if (type == LocalDateTime.class) {
+                return LOCAL_DATE_TIME;
+            }
+            else if (type == Instant.class) {
+                return INSTANT;
+            }
+            else if (type == ZonedDateTime.class) {
+                return ZONED_DATE_TIME;
+            }
+            else if (type == OffsetDateTime.class) {
+                return OFFSET_DATE_TIME;
+            }
+            else if (type == LocalDate.class) {
+                return LOCAL_DATE;
+            }
+            else {
+                return SET_OBJECT;
+            }
+        }
+
+        @Override
+        public Object convert(Object value) {
+            return value instanceof String ? parse((String) value) : value;
+        }
+
+        private static Timestamp parse(String value) {
+            if (value.length() >= MIN_NUMBER_OF_CHARS_FOR_TIMESTAMP) {
+                return Timestamp.valueOf(value);
             }
             else {
-                stmt.setObject(param, value);
+                Date valueAsDate = Date.valueOf(value);
+                return new Timestamp(valueAsDate.getTime());
             }
         }
 
@@ -392,51 +608,116 @@ public final class Binders {
      * The implementation for {@link Binders#dateBinder()}
      * @author JB Nizet
      */
-    private static final class DateBinder implements Binder {
-        @Override
-        public void bind(java.sql.PreparedStatement stmt, int param, Object value) throws java.sql.SQLException {
-            if (value instanceof Date) {
+    private static final class DateBinder extends ClassDispatchingBinder implements ConvertingBinder {
+        private static final Strategy DATE = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setDate(param, (Date) value);
             }
-            else if (value instanceof java.util.Date) {
+        };
+
+        private static final Strategy UTIL_DATE = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setDate(param, new Date(((java.util.Date) value).getTime()));
             }
-            else if (value instanceof Calendar) {
+        };
+
+        private static final Strategy CALENDAR = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 Calendar calendar = (Calendar) value;
                 stmt.setDate(param, new Date(calendar.getTimeInMillis()), calendar);
             }
-            else if (value instanceof String) {
+        };
+
+        private static final Strategy STRING = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setDate(param, Date.valueOf((String) value));
             }
-            else if (value instanceof LocalDate) {
-                LocalDate localDate = (LocalDate) value;
-                stmt.setDate(param, Date.valueOf(localDate));
+        };
+
+        private static final Strategy LOCAL_DATE = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+                stmt.setDate(param, Date.valueOf((LocalDate) value));
             }
-            else if (value instanceof LocalDateTime) {
-                LocalDateTime localDateTime = (LocalDateTime) value;
-                stmt.setDate(param, Date.valueOf(localDateTime.toLocalDate()));
+        };
+
+        private static final Strategy LOCAL_DATE_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+                stmt.setDate(param, Date.valueOf(((LocalDateTime) value).toLocalDate()));
             }
-            else if (value instanceof Instant) {
-                Instant instant = (Instant) value;
-                stmt.setDate(param, new Date(instant.toEpochMilli()));
+        };
+
+        private static final Strategy INSTANT = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+                stmt.setDate(param, new Date(((Instant) value).toEpochMilli()));
             }
-            else if (value instanceof ZonedDateTime) {
+        };
+
+        private static final Strategy ZONED_DATE_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 ZonedDateTime zonedDateTime = (ZonedDateTime) value;
                 stmt.setDate(param,
-                             new Date(zonedDateTime.toInstant().toEpochMilli()),
-                             Calendar.getInstance(TimeZone.getTimeZone(zonedDateTime.getZone())));
+                             new Date(TimeZones.epochMilli(zonedDateTime.toEpochSecond(), zonedDateTime.getNano())),
+                             TimeZones.calendar(zonedDateTime.getZone()));
             }
-            else if (value instanceof OffsetDateTime) {
+        };
+
+        private static final Strategy OFFSET_DATE_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 OffsetDateTime offsetDateTime = (OffsetDateTime) value;
                 stmt.setDate(param,
-                             new Date(offsetDateTime.toInstant().toEpochMilli()),
-                             Calendar.getInstance(TimeZone.getTimeZone(offsetDateTime.getOffset())));
+                             new Date(TimeZones.epochMilli(offsetDateTime.toEpochSecond(), offsetDateTime.getNano())),
+                             TimeZones.calendar(offsetDateTime.getOffset()));
+            }
+        };
+
+        @Override
+        protected Strategy strategyFor(Class<?> type) {
+            if (Date.class.isAssignableFrom(type)) {
+                return DATE;
+            }
+            else if (java.util.Date.class.isAssignableFrom(type)) {
+                return UTIL_DATE;
+            }
+            else if (Calendar.class.isAssignableFrom(type)) {
+                return CALENDAR;
+            }
+            else if (type == String.class) {
+                return STRING;
+            }
+            else if (type == LocalDate.class) {
+                return LOCAL_DATE;
+            }
+            else if (type == LocalDateTime.class) {
+                return LOCAL_DATE_TIME;
+            }
+            else if (type == Instant.class) {
+                return INSTANT;
+            }
+            else if (type == ZonedDateTime.class) {
+                return ZONED_DATE_TIME;
+            }
+            else if (type == OffsetDateTime.class) {
+                return OFFSET_DATE_TIME;
             }
             else {
-                stmt.setObject(param, value);
+                return SET_OBJECT;
             }
         }
 
+        @Override
+        public Object convert(Object value) {
+            return value instanceof String ? Date.valueOf((String) value) : value;
+        }
+
         @Override
         public String toString() {
             return "Binders.dateBinder";
@@ -447,54 +728,134 @@ public final class Binders {
      * The implementation for {@link Binders#defaultBinder()}
      * @author JB Nizet
      */
-    private static final class DefaultBinder implements Binder {
-        @Override
-        public void bind(java.sql.PreparedStatement stmt, int param, Object value) throws java.sql.SQLException {
-            if (value instanceof Enum) {
-                stmt.setString(param, ((Enum) value).name());
+    private static final class DefaultBinder extends ClassDispatchingBinder implements LongBinder, DoubleBinder {
+        private static final Strategy ENUM = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+                stmt.setString(param, ((Enum<?>) value).name());
             }
-            else if (value instanceof java.util.Date) {
+        };
+
+        private static final Strategy UTIL_DATE = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setTimestamp(param, new Timestamp(((java.util.Date) value).getTime()));
             }
-            else if (value instanceof Calendar) {
+        };
+
+        private static final Strategy CALENDAR = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 Calendar calendar = (Calendar) value;
                 stmt.setTimestamp(param, new Timestamp(calendar.getTime().getTime()), calendar);
             }
-            else if (value instanceof LocalDate) {
+        };
+
+        private static final Strategy LOCAL_DATE = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setDate(param, Date.valueOf((LocalDate) value));
             }
-            else if (value instanceof LocalTime) {
+        };
+
+        private static final Strategy LOCAL_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setTime(param, Time.valueOf((LocalTime) value));
             }
-            else if (value instanceof LocalDateTime) {
+        };
+
+        private static final Strategy LOCAL_DATE_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setTimestamp(param, Timestamp.valueOf((LocalDateTime) value));
             }
-            else if (value instanceof Instant) {
+        };
+
+        private static final Strategy INSTANT = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 stmt.setTimestamp(param, Timestamp.from((Instant) value));
             }
-            else if (value instanceof ZonedDateTime) {
+        };
+
+        private static final Strategy ZONED_DATE_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 ZonedDateTime zonedDateTime = (ZonedDateTime) value;
                 stmt.setTimestamp(param,
-                                  Timestamp.from(zonedDateTime.toInstant()),
-                                  Calendar.getInstance(TimeZone.getTimeZone(zonedDateTime.getZone())));
+                                  TimeZones.timestamp(zonedDateTime.toEpochSecond(), zonedDateTime.getNano()),
+                                  TimeZones.calendar(zonedDateTime.getZone()));
             }
-            else if (value instanceof OffsetDateTime) {
+        };
+
+        private static final Strategy OFFSET_DATE_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 OffsetDateTime offsetDateTime = (OffsetDateTime) value;
                 stmt.setTimestamp(param,
-                                  Timestamp.from(offsetDateTime.toInstant()),
-                                  Calendar.getInstance(TimeZone.getTimeZone(offsetDateTime.getOffset())));
+                                  TimeZones.timestamp(offsetDateTime.toEpochSecond(), offsetDateTime.getNano()),
+                                  TimeZones.calendar(offsetDateTime.getOffset()));
             }
-            else if (value instanceof OffsetTime) {
+        };
+
+        private static final Strategy OFFSET_TIME = new Strategy() {
+            @Override
+            public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
                 OffsetTime offsetTime = (OffsetTime) value;
                 stmt.setTime(param,
                              Time.valueOf(offsetTime.toLocalTime()),
-                             Calendar.getInstance(TimeZone.getTimeZone(offsetTime.getOffset())));
+                             TimeZones.calendar(offsetTime.getOffset()));
+            }
+        };
+
+        @Override
+        protected Strategy strategyFor(Class<?> type) {
+            if (Enum.class.isAssignableFrom(type)) {
+                return ENUM;
+            }
+            else if (java.util.Date.class.isAssignableFrom(type)) {
+                return UTIL_DATE;
+            }
+            else if (Calendar.class.isAssignableFrom(type)) {
+                return CALENDAR;
+            }
+            else if (type == LocalDate.class) {
+                return LOCAL_DATE;
+            }
+            else if (type == LocalTime.class) {
+                return LOCAL_TIME;
+            }
+            else if (type == LocalDateTime.class) {
+                return LOCAL_DATE_TIME;
+            }
+            else if (type == Instant.class) {
+                return INSTANT;
+            }
+            else if (type == ZonedDateTime.class) {
+                return ZONED_DATE_TIME;
+            }
+            else if (type == OffsetDateTime.class) {
+                return OFFSET_DATE_TIME;
+            }
+            else if (type == OffsetTime.class) {
+                return OFFSET_TIME;
             }
             else {
-                stmt.setObject(param, value);
+                return SET_OBJECT;
             }
         }
 
+        @Override
+        public void bindLong(PreparedStatement stmt, int param, long value) throws SQLException {
+            stmt.setLong(param, value);
+        }
+
+        @Override
+        public void bindDouble(PreparedStatement stmt, int param, double value) throws SQLException {
+            stmt.setDouble(param, value);
+        }
+
         @Override
         public String toString() {
             return "Binders.defaultBinder";
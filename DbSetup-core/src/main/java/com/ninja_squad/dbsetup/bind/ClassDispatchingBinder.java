@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Base class for the binders whose way of binding a value only depends on the class of the value. Instead of testing
+ * the type of every bound value, such a binder resolves a {@link Strategy} once for each class of value, and caches
+ * it in a <code>ClassValue</code>. A <code>null</code> value is always bound using
+ * <code>stmt.setObject(param, null)</code>, and a {@link LobValue} is always bound by streaming its content.
+ * @author JB Nizet
+ */
+abstract class ClassDispatchingBinder implements Binder {
+
+    /**
+     * The strategy binding values using <code>stmt.setObject()</code>
+     */
+    static final Strategy SET_OBJECT = new Strategy() {
+        @Override
+        public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+            stmt.setObject(param, value);
+        }
+    };
+
+    /**
+     * The strategy binding {@link LobValue}s, by streaming their content
+     */
+    static final Strategy LOB = new Strategy() {
+        @Override
+        public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+            ((LobValue) value).bind(stmt, param);
+        }
+    };
+
+    private final ClassValue<Strategy> strategies = new ClassValue<Strategy>() {
+        @Override
+        protected Strategy computeValue(Class<?> type) {
+            if (LobValue.class.isAssignableFrom(type)) {
+                return LOB;
+            }
+            return strategyFor(type);
+        }
+    };
+
+    @Override
+    public final void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+        if (value == null) {
+            stmt.setObject(param, null);
+        }
+        else {
+            strategies.get(value.getClass()).bind(stmt, param, value);
+        }
+    }
+
+    /**
+     * Returns the strategy used to bind all the values of the given class. This method is called at most once per
+     * class of value (except in case of concurrent calls for the same class), and must thus always return the same
+     * strategy for a given class.
+     */
+    protected abstract Strategy strategyFor(Class<?> type);
+
+    /**
+     * A way of binding values of a given class
+     */
+    interface Strategy {
+        /**
+         * Binds the given non-null value, of the class this strategy has been resolved for
+         */
+        void bind(PreparedStatement stmt, int param, Object value) throws SQLException;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link BinderConfiguration} which is able to return the appropriate {@link Binder} for a column of a table, based
+ * on its name, rather than on the metadata of the prepared statement. When the configuration used by an insert
+ * implements this interface, and unless the insert has been configured to not use metadata, this method is called
+ * first for each column which isn't associated explicitly to a binder. The metadata of the prepared statement are
+ * only requested, and passed to {@link #getBinder(java.sql.ParameterMetaData, int)}, for the columns for which this
+ * method returns <code>null</code>.
+ * @see SchemaBinderConfiguration
+ * @author JB Nizet
+ */
+public interface ColumnBinderConfiguration extends BinderConfiguration {
+
+    /**
+     * Returns the appropriate {@link Binder} for the given column of the given table.
+     * @param connection the connection used to insert into the table
+     * @param table the name of the table, as passed to the insert operation
+     * @param column the name of the column, as passed to the insert operation
+     * @return the binder for the given column, or <code>null</code> if the binder can't be determined from the
+     * table and column names
+     * @throws SQLException if a SQLException occurs while determining the binder
+     */
+    @Nullable
+    Binder getBinder(@Nonnull Connection connection, @Nonnull String table, @Nonnull String column)
+        throws SQLException;
+}
@@ -0,0 +1,43 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+/**
+ * A binder able to convert a value, once and for all, to the form it would convert it to each time it binds it.
+ * Binding the converted value with this binder must have exactly the same effect as binding the original value. This
+ * allows inserts which are executed several times to parse their literal values (like <code>"2012-01-01"</code> for
+ * a date column) only once.
+ * @see com.ninja_squad.dbsetup.operation.Insert.Builder#preconvertValues(boolean)
+ * @author JB Nizet
+ */
+public interface ConvertingBinder extends Binder {
+    /**
+     * Converts the given value.
+     * @param value the value to convert (may be <code>null</code>)
+     * @return the converted value, or the given value itself if it doesn't need any conversion
+     * @throws IllegalArgumentException if the value can't be converted, typically because it's a malformed literal
+     */
+    Object convert(Object value);
+}
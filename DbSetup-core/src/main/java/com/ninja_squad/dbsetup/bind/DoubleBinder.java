@@ -0,0 +1,46 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * A binder which is also able to bind primitive <code>double</code> values, without boxing them. Inserts use this
+ * method instead of {@link #bind(PreparedStatement, int, Object)} when the value of a column is available as a
+ * primitive <code>double</code>. Binding a primitive value must have the same effect as binding its boxed equivalent.
+ * @author JB Nizet
+ */
+public interface DoubleBinder extends Binder {
+    /**
+     * Binds the given primitive value to the given parameter in the given prepared statement, typically using
+     * <code>PreparedStatement.setDouble()</code>.
+     * @param statement the statement to bind the parameter to
+     * @param param The index of the parameter to bind in the statement
+     * @param value The value to bind
+     * @throws SQLException if the binding throws a {@link SQLException}
+     */
+    void bindDouble(PreparedStatement statement, int param, double value) throws SQLException;
+}
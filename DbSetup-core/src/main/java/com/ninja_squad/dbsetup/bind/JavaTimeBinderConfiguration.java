@@ -0,0 +1,259 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import java.sql.JDBCType;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nonnull;
+
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * A {@link BinderConfiguration} which binds <code>java.time</code> values directly, using the JDBC 4.2 method
+ * <code>PreparedStatement.setObject(param, value, JDBCType)</code>, instead of converting them to
+ * <code>java.sql.Date</code>, <code>java.sql.Time</code> or <code>java.sql.Timestamp</code> as the binders
+ * returned by {@link Binders} do. Example usage:
+ * <pre>
+ *   DbSetup dbSetup = new DbSetup(destination, operation, new JavaTimeBinderConfiguration());
+ * </pre>
+ *
+ * The following values are bound natively:
+ * <ul>
+ *   <li><code>LocalDate</code> as <code>DATE</code></li>
+ *   <li><code>LocalTime</code> as <code>TIME</code></li>
+ *   <li><code>LocalDateTime</code> as <code>TIMESTAMP</code></li>
+ *   <li><code>OffsetTime</code> as <code>TIME_WITH_TIMEZONE</code></li>
+ *   <li><code>OffsetDateTime</code> as <code>TIMESTAMP_WITH_TIMEZONE</code></li>
+ * </ul>
+ * but only if the type of the parameter, returned by the metadata, is the one listed above, or is unknown. Other
+ * values, and values of these types bound to parameters of another type (a <code>LocalDate</code> bound to a
+ * <code>TIMESTAMP</code> column, for example), are bound using the binder returned by the delegate configuration
+ * ({@link DefaultBinderConfiguration} by default).
+ * <p>
+ * Not all drivers support this JDBC 4.2 method: if the driver throws a <code>SQLFeatureNotSupportedException</code>
+ * when a value is bound natively, the value is bound using the binder of the delegate configuration instead, and so
+ * are all the subsequent values bound as the same JDBC type. Any other <code>SQLException</code> is propagated. The
+ * support is thus detected once per instance and per JDBC type, and an instance should be used for a single kind of
+ * database.
+ * <p>
+ * Two instances are equal if their delegate configurations are equal. The binders returned for a given parameter
+ * type are reused as long as the delegate configuration returns the same binder.
+ * @author JB Nizet
+ */
+public final class JavaTimeBinderConfiguration implements BinderConfiguration {
+
+    /**
+     * The JDBC types used to bind values natively. The index of the type, plus one, is the index of the binders
+     * cached for parameters of this type. Index 0 is used for the binders of parameters of unknown type.
+     */
+    private static final JDBCType[] NATIVE_TYPES = {
+        JDBCType.DATE,
+        JDBCType.TIME,
+        JDBCType.TIMESTAMP,
+        JDBCType.TIME_WITH_TIMEZONE,
+        JDBCType.TIMESTAMP_WITH_TIMEZONE
+    };
+
+    private final BinderConfiguration delegate;
+
+    /**
+     * The last binder returned for each parameter type, reused as long as the delegate returns the same binder
+     */
+    private final AtomicReferenceArray<JavaTimeBinder> binders =
+        new AtomicReferenceArray<JavaTimeBinder>(NATIVE_TYPES.length + 1);
+
+    /**
+     * The JDBC types for which the driver threw a SQLFeatureNotSupportedException
+     */
+    private final Set<JDBCType> unsupportedTypes =
+        Collections.newSetFromMap(new ConcurrentHashMap<JDBCType, Boolean>());
+
+    /**
+     * Creates a configuration falling back to the {@link DefaultBinderConfiguration}
+     */
+    public JavaTimeBinderConfiguration() {
+        this(DefaultBinderConfiguration.INSTANCE);
+    }
+
+    /**
+     * Creates a configuration falling back to the given configuration
+     * @param delegate the configuration providing the binders used for the values which are not bound natively
+     */
+    public JavaTimeBinderConfiguration(@Nonnull BinderConfiguration delegate) {
+        Preconditions.checkNotNull(delegate, "delegate may not be null");
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Binder getBinder(ParameterMetaData metadata, int param) throws SQLException {
+        Binder fallback = delegate.getBinder(metadata, param);
+        int index = 0;
+        if (metadata != null) {
+            try {
+                index = binderIndex(metadata.getParameterType(param));
+            }
+            catch (SQLException e) {
+                // the database can't return types from parameters: the type is unknown.
+            }
+        }
+        if (index < 0) {
+            // no value is ever bound natively to this parameter
+            return fallback;
+        }
+
+        JavaTimeBinder binder = binders.get(index);
+        if (binder == null || !binder.fallback.equals(fallback)) {
+            binder = new JavaTimeBinder(fallback, index == 0 ? null : NATIVE_TYPES[index - 1]);
+            binders.set(index, binder);
+        }
+        return binder;
+    }
+
+    /**
+     * Tells if native binding is supported by the driver for the given type, i.e. if the driver hasn't thrown a
+     * SQLFeatureNotSupportedException when a value was bound natively as this type.
+     */
+    boolean isNativeBindingSupported(JDBCType type) {
+        return !unsupportedTypes.contains(type);
+    }
+
+    /**
+     * Returns the index of the binders cached for the given parameter type, or -1 if no value must be bound
+     * natively to a parameter of this type
+     */
+    private static int binderIndex(int parameterType) {
+        for (int i = 0; i < NATIVE_TYPES.length; i++) {
+            if (NATIVE_TYPES[i].getVendorTypeNumber() == parameterType) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the JDBC type used to bind the given value natively to a parameter of the given type, or
+     * <code>null</code> if the value must not be bound natively.
+     * @param parameterType the type of the parameter, or <code>null</code> if unknown
+     */
+    private static JDBCType nativeType(Object value, JDBCType parameterType) {
+        JDBCType valueType = null;
+        if (value instanceof LocalDate) {
+            valueType = JDBCType.DATE;
+        }
+        else if (value instanceof LocalDateTime) {
+            valueType = JDBCType.TIMESTAMP;
+        }
+        else if (value instanceof LocalTime) {
+            valueType = JDBCType.TIME;
+        }
+        else if (value instanceof OffsetDateTime) {
+            valueType = JDBCType.TIMESTAMP_WITH_TIMEZONE;
+        }
+        else if (value instanceof OffsetTime) {
+            valueType = JDBCType.TIME_WITH_TIMEZONE;
+        }
+        if (parameterType == null || parameterType == valueType) {
+            return valueType;
+        }
+        return null;
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        JavaTimeBinderConfiguration other = (JavaTimeBinderConfiguration) obj;
+        return delegate.equals(other.delegate);
+    }
+
+    @Override
+    public String toString() {
+        return "JavaTimeBinderConfiguration [delegate=" + delegate + "]";
+    }
+
+    /**
+     * The binder returned by this configuration, which binds the java.time values natively if possible, and uses
+     * the binder returned by the delegate configuration otherwise. It doesn't have any state, and can thus be reused
+     * for all the parameters of the same type.
+     */
+    private final class JavaTimeBinder implements Binder {
+        private final Binder fallback;
+
+        /**
+         * The type of the parameter, or null if unknown
+         */
+        private final JDBCType parameterType;
+
+        private JavaTimeBinder(Binder fallback, JDBCType parameterType) {
+            this.fallback = fallback;
+            this.parameterType = parameterType;
+        }
+
+        @Override
+        public void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+            JDBCType type = nativeType(value, parameterType);
+            if (type != null && !unsupportedTypes.contains(type)) {
+                try {
+                    stmt.setObject(param, value, type);
+                    return;
+                }
+                catch (SQLFeatureNotSupportedException e) {
+                    unsupportedTypes.add(type);
+                }
+            }
+            fallback.bind(stmt, param, value);
+        }
+
+        @Override
+        public String toString() {
+            return "JavaTimeBinder [fallback=" + fallback + ", parameterType=" + parameterType + "]";
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import java.io.Closeable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+
+import javax.annotation.Nonnull;
+
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * A binary or character large object, whose content is streamed to the database when it's bound, instead of being
+ * loaded in memory. Instances are created using the factory methods of {@link LobValues}, and can be used as values
+ * of an insert. All the binders returned by {@link Binders} bind such values by calling
+ * <code>setBinaryStream()</code> or <code>setCharacterStream()</code> with the length of the content.
+ * <p>
+ * The content is only opened when the value is bound. Drivers don't close the streams they read, and only read the
+ * number of bytes or characters they're given, so the operations inserting rows close the streams opened for a row
+ * once the row has been inserted (or once the batch containing the row has been executed), and when the statement
+ * is closed, even if the insertion fails. When bound directly by a {@link Binder}, the stream is only closed once
+ * the driver has read it entirely.
+ * @author JB Nizet
+ */
+public abstract class LobValue {
+
+    LobValue() {
+    }
+
+    /**
+     * Opens the content and binds it to the given parameter of the given statement
+     * @return the opened stream or reader, which is closed if the binding fails
+     * @throws SQLException if the binding throws a SQLException, or if the content can't be opened
+     */
+    abstract Closeable bind(PreparedStatement stmt, int param) throws SQLException;
+
+    /**
+     * Returns a value binding the same content as this one, but which adds the stream or reader that it opens, every
+     * time it's bound, to the given collection. This allows the caller to close them once the statement has been
+     * executed.
+     * @param openedStreams the collection to which the opened streams and readers are added
+     */
+    public final LobValue closedBy(@Nonnull Collection<? super Closeable> openedStreams) {
+        Preconditions.checkNotNull(openedStreams, "openedStreams may not be null");
+        return new TrackedLobValue(this, openedStreams);
+    }
+
+    /**
+     * The value returned by {@link #closedBy(Collection)}
+     */
+    private static final class TrackedLobValue extends LobValue {
+        private final LobValue value;
+        private final Collection<? super Closeable> openedStreams;
+
+        private TrackedLobValue(LobValue value, Collection<? super Closeable> openedStreams) {
+            this.value = value;
+            this.openedStreams = openedStreams;
+        }
+
+        @Override
+        Closeable bind(PreparedStatement stmt, int param) throws SQLException {
+            Closeable result = value.bind(stmt, param);
+            openedStreams.add(result);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return value.toString();
+        }
+    }
+}
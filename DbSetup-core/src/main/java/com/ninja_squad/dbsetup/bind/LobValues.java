@@ -0,0 +1,560 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import javax.annotation.Nonnull;
+
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * Utility class allowing to create {@link LobValue}s, i.e. values whose binary or character content is streamed to
+ * the database from a file, a classpath resource or a stream, instead of being held in memory by the insert.
+ * Example usage:
+ * <pre>
+ *   Insert insert =
+ *       Insert.into("DOCUMENT")
+ *             .columns("ID", "CONTENT", "DESCRIPTION")
+ *             .values(1L,
+ *                     LobValues.binaryFile(Paths.get("src/test/resources/document.pdf")),
+ *                     LobValues.textResource("/descriptions/document.txt", StandardCharsets.UTF_8))
+ *             .build();
+ * </pre>
+ *
+ * The files and resources are only opened when the value is bound, and are closed as described in
+ * {@link LobValue}. The length of the content, which is passed to <code>setBinaryStream()</code> and
+ * <code>setCharacterStream()</code>, is the size of the file for binary files. For the other binary resources and for
+ * the character contents, it's computed by reading the content a first time, without keeping it in memory.
+ * @author JB Nizet
+ */
+public final class LobValues {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private LobValues() {
+    }
+
+    /**
+     * Creates a binary value whose content is the content of the given file
+     */
+    public static LobValue binaryFile(@Nonnull Path file) {
+        Preconditions.checkNotNull(file, "file may not be null");
+        return new BinaryValue(new FileSource(file));
+    }
+
+    /**
+     * Creates a binary value whose content is the content of the given classpath resource, loaded by the class loader
+     * of this class. A leading slash in the resource name is ignored.
+     * @throws IllegalArgumentException if the resource doesn't exist
+     */
+    public static LobValue binaryResource(@Nonnull String resource) {
+        return new BinaryValue(new ResourceSource(resource));
+    }
+
+    /**
+     * Creates a binary value whose content is read from the streams opened by the given supplier. The supplier is
+     * called each time the value is bound, and must thus return a new stream, with the same content, each time.
+     * @param supplier the supplier of the content
+     * @param length the number of bytes of the content
+     */
+    public static LobValue binaryStream(@Nonnull InputStreamSupplier supplier, long length) {
+        return new BinaryValue(new SuppliedSource(supplier, length));
+    }
+
+    /**
+     * Creates a character value whose content is the content of the given file, decoded using the given charset
+     */
+    public static LobValue textFile(@Nonnull Path file, @Nonnull Charset charset) {
+        Preconditions.checkNotNull(file, "file may not be null");
+        return new TextValue(new DecodingReaderSource(new FileSource(file), charset));
+    }
+
+    /**
+     * Creates a character value whose content is the content of the given classpath resource, loaded by the class
+     * loader of this class and decoded using the given charset. A leading slash in the resource name is ignored.
+     * @throws IllegalArgumentException if the resource doesn't exist
+     */
+    public static LobValue textResource(@Nonnull String resource, @Nonnull Charset charset) {
+        return new TextValue(new DecodingReaderSource(new ResourceSource(resource), charset));
+    }
+
+    /**
+     * Creates a character value whose content is read from the readers opened by the given supplier. The supplier is
+     * called each time the value is bound, and must thus return a new reader, with the same content, each time.
+     * @param supplier the supplier of the content
+     * @param length the number of characters of the content
+     */
+    public static LobValue textStream(@Nonnull ReaderSupplier supplier, long length) {
+        return new TextValue(new SuppliedReaderSource(supplier, length));
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        }
+        catch (IOException e) {
+            // nothing to do: the binding has already failed, and its exception is more relevant
+        }
+    }
+
+    /**
+     * A supplier of binary content
+     */
+    public interface InputStreamSupplier {
+        /**
+         * Opens a new stream, positioned at the beginning of the content
+         * @throws IOException if the stream can't be opened
+         */
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * A supplier of character content
+     */
+    public interface ReaderSupplier {
+        /**
+         * Opens a new reader, positioned at the beginning of the content
+         * @throws IOException if the reader can't be opened
+         */
+        Reader open() throws IOException;
+    }
+
+    private static final class BinaryValue extends LobValue {
+        private final Source source;
+
+        private BinaryValue(Source source) {
+            this.source = source;
+        }
+
+        @Override
+        Closeable bind(PreparedStatement stmt, int param) throws SQLException {
+            InputStream in;
+            long length;
+            try {
+                length = source.length();
+                in = new AutoClosingInputStream(source.open());
+            }
+            catch (IOException e) {
+                throw new SQLException("Unable to read the binary content from " + source, e);
+            }
+            boolean bound = false;
+            try {
+                stmt.setBinaryStream(param, in, length);
+                bound = true;
+                return in;
+            }
+            finally {
+                if (!bound) {
+                    closeQuietly(in);
+                }
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return source.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null) {
+                return false;
+            }
+            if (getClass() != obj.getClass()) {
+                return false;
+            }
+            BinaryValue other = (BinaryValue) obj;
+            return source.equals(other.source);
+        }
+
+        @Override
+        public String toString() {
+            return "binary content from " + source;
+        }
+    }
+
+    private static final class TextValue extends LobValue {
+        private final ReaderSource source;
+
+        private TextValue(ReaderSource source) {
+            this.source = source;
+        }
+
+        @Override
+        Closeable bind(PreparedStatement stmt, int param) throws SQLException {
+            Reader reader;
+            long length;
+            try {
+                length = source.length();
+                reader = new AutoClosingReader(source.open());
+            }
+            catch (IOException e) {
+                throw new SQLException("Unable to read the character content from " + source, e);
+            }
+            boolean bound = false;
+            try {
+                stmt.setCharacterStream(param, reader, length);
+                bound = true;
+                return reader;
+            }
+            finally {
+                if (!bound) {
+                    closeQuietly(reader);
+                }
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return source.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null) {
+                return false;
+            }
+            if (getClass() != obj.getClass()) {
+                return false;
+            }
+            TextValue other = (TextValue) obj;
+            return source.equals(other.source);
+        }
+
+        @Override
+        public String toString() {
+            return "character content from " + source;
+        }
+    }
+
+    /**
+     * A source of binary content
+     */
+    private abstract static class Source {
+        abstract InputStream open() throws IOException;
+
+        /**
+         * Returns the number of bytes of the content. By default, the content is read to count them.
+         */
+        long length() throws IOException {
+            InputStream in = open();
+            try {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long result = 0L;
+                for (int count = in.read(buffer); count >= 0; count = in.read(buffer)) {
+                    result += count;
+                }
+                return result;
+            }
+            finally {
+                in.close();
+            }
+        }
+    }
+
+    private static final class FileSource extends Source {
+        private final Path file;
+
+        private FileSource(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        InputStream open() throws IOException {
+            return Files.newInputStream(file);
+        }
+
+        @Override
+        long length() throws IOException {
+            return Files.size(file);
+        }
+
+        @Override
+        public int hashCode() {
+            return file.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof FileSource && file.equals(((FileSource) obj).file);
+        }
+
+        @Override
+        public String toString() {
+            return "file " + file;
+        }
+    }
+
+    private static final class ResourceSource extends Source {
+        private final String resource;
+        private final URL url;
+
+        private ResourceSource(String resource) {
+            Preconditions.checkNotNull(resource, "resource may not be null");
+            this.resource = resource.startsWith("/") ? resource.substring(1) : resource;
+            this.url = LobValues.class.getClassLoader().getResource(this.resource);
+            Preconditions.checkArgument(url != null, "The resource " + resource + " doesn't exist");
+        }
+
+        @Override
+        InputStream open() throws IOException {
+            return url.openStream();
+        }
+
+        @Override
+        public int hashCode() {
+            return resource.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ResourceSource && resource.equals(((ResourceSource) obj).resource);
+        }
+
+        @Override
+        public String toString() {
+            return "resource " + resource;
+        }
+    }
+
+    private static final class SuppliedSource extends Source {
+        private final InputStreamSupplier supplier;
+        private final long length;
+
+        private SuppliedSource(InputStreamSupplier supplier, long length) {
+            Preconditions.checkNotNull(supplier, "supplier may not be null");
+            Preconditions.checkArgument(length >= 0, "length may not be negative");
+            this.supplier = supplier;
+            this.length = length;
+        }
+
+        @Override
+        InputStream open() throws IOException {
+            return supplier.open();
+        }
+
+        @Override
+        long length() {
+            return length;
+        }
+
+        @Override
+        public String toString() {
+            return "supplier " + supplier;
+        }
+    }
+
+    /**
+     * A source of character content
+     */
+    private abstract static class ReaderSource {
+        abstract Reader open() throws IOException;
+
+        /**
+         * Returns the number of characters of the content. By default, the content is read to count them.
+         */
+        long length() throws IOException {
+            Reader reader = open();
+            try {
+                char[] buffer = new char[BUFFER_SIZE];
+                long result = 0L;
+                for (int count = reader.read(buffer); count >= 0; count = reader.read(buffer)) {
+                    result += count;
+                }
+                return result;
+            }
+            finally {
+                reader.close();
+            }
+        }
+    }
+
+    private static final class DecodingReaderSource extends ReaderSource {
+        private final Source source;
+        private final Charset charset;
+
+        private DecodingReaderSource(Source source, Charset charset) {
+            Preconditions.checkNotNull(charset, "charset may not be null");
+            this.source = source;
+            this.charset = charset;
+        }
+
+        @Override
+        Reader open() throws IOException {
+            return new InputStreamReader(source.open(), charset);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * source.hashCode() + charset.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof DecodingReaderSource)) {
+                return false;
+            }
+            DecodingReaderSource other = (DecodingReaderSource) obj;
+            return source.equals(other.source) && charset.equals(other.charset);
+        }
+
+        @Override
+        public String toString() {
+            return source + " [charset=" + charset + "]";
+        }
+    }
+
+    private static final class SuppliedReaderSource extends ReaderSource {
+        private final ReaderSupplier supplier;
+        private final long length;
+
+        private SuppliedReaderSource(ReaderSupplier supplier, long length) {
+            Preconditions.checkNotNull(supplier, "supplier may not be null");
+            Preconditions.checkArgument(length >= 0, "length may not be negative");
+            this.supplier = supplier;
+            this.length = length;
+        }
+
+        @Override
+        Reader open() throws IOException {
+            return supplier.open();
+        }
+
+        @Override
+        long length() {
+            return length;
+        }
+
+        @Override
+        public String toString() {
+            return "supplier " + supplier;
+        }
+    }
+
+    /**
+     * A stream which closes itself once its end has been reached, since the statement doesn't close the streams
+     * it reads
+     */
+    private static final class AutoClosingInputStream extends FilterInputStream {
+        private boolean closed;
+
+        private AutoClosingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (closed) {
+                return -1;
+            }
+            return closeAtEnd(super.read());
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (closed) {
+                return -1;
+            }
+            return closeAtEnd(super.read(b, off, len));
+        }
+
+        private int closeAtEnd(int result) throws IOException {
+            if (result < 0) {
+                close();
+            }
+            return result;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                super.close();
+            }
+        }
+    }
+
+    /**
+     * A reader which closes itself once its end has been reached, since the statement doesn't close the readers
+     * it reads
+     */
+    private static final class AutoClosingReader extends FilterReader {
+        private boolean closed;
+
+        private AutoClosingReader(Reader in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (closed) {
+                return -1;
+            }
+            return closeAtEnd(super.read());
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (closed) {
+                return -1;
+            }
+            return closeAtEnd(super.read(cbuf, off, len));
+        }
+
+        private int closeAtEnd(int result) throws IOException {
+            if (result < 0) {
+                close();
+            }
+            return result;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                super.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ParameterMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * A {@link ColumnBinderConfiguration} which reads the types of the columns of each table once, using
+ * <code>DatabaseMetaData.getColumns()</code>, and caches them. The binders are thus chosen from the actual types of the
+ * columns, without depending on the parameter metadata of the prepared statements, which some drivers don't support
+ * and others obtain with an additional round trip to the database for each statement. Example usage:
+ * <pre>
+ *   // a single configuration per destination, reused for every launch
+ *   private static final BinderConfiguration BINDER_CONFIGURATION = new SchemaBinderConfiguration();
+ *   ...
+ *   DbSetup dbSetup = new DbSetup(destination, operation, BINDER_CONFIGURATION);
+ * </pre>
+ *
+ * The binder for a column is the one returned by the delegate configuration ({@link DefaultBinderConfiguration}
+ * by default) for a parameter whose type is the type of the column. If the columns of a table can't be read, or if
+ * a column isn't found, the binder is chosen from the parameter metadata, by the delegate configuration.
+ * <p>
+ * Table names may be qualified by a schema name (<code>SCHEMA.TABLE</code>), and may be quoted. Unquoted names are
+ * converted to the case used by the database to store identifiers. Column names are compared case-insensitively.
+ * Unqualified table names are searched in the current schema of the connection, as returned by
+ * <code>Connection.getSchema()</code>, and in its current catalog. If the driver doesn't tell the current schema,
+ * the table is searched in all the schemas, and is considered as not found if several schemas contain it.
+ * <p>
+ * The types of the columns of a table, or the fact that the table hasn't been found, are cached for the lifetime of
+ * the instance, and are supposed not to change. An instance should thus be used for a single destination, and the
+ * tables should exist when the first Insert into them is executed. If the columns can't be read because the driver
+ * throws a <code>SQLException</code>, nothing is cached, and the columns are read again the next time.
+ * <p>
+ * Two instances are equal if their delegate configurations are equal.
+ * @author JB Nizet
+ */
+public final class SchemaBinderConfiguration implements ColumnBinderConfiguration {
+
+    private static final String QUOTE = "\"";
+
+    // the indices of the columns of the result set returned by DatabaseMetaData.getColumns()
+    private static final int TABLE_SCHEM = 2;
+    private static final int COLUMN_NAME = 4;
+    private static final int DATA_TYPE = 5;
+
+    private final BinderConfiguration delegate;
+
+    /**
+     * The SQL types of the columns, indexed by table name and by upper-case column name
+     */
+    private final ConcurrentMap<String, Map<String, Integer>> columnTypesByTable =
+        new ConcurrentHashMap<String, Map<String, Integer>>();
+
+    /**
+     * Creates a configuration using the {@link DefaultBinderConfiguration} to choose the binder of each column type
+     */
+    public SchemaBinderConfiguration() {
+        this(DefaultBinderConfiguration.INSTANCE);
+    }
+
+    /**
+     * Creates a configuration using the given configuration to choose the binder of each column type
+     * @param delegate the configuration returning the binder for a column type, or for a parameter whose column
+     * isn't found.
+     */
+    public SchemaBinderConfiguration(@Nonnull BinderConfiguration delegate) {
+        Preconditions.checkNotNull(delegate, "delegate may not be null");
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the binder returned by the delegate configuration
+     */
+    @Override
+    public Binder getBinder(ParameterMetaData metadata, int param) throws SQLException {
+        return delegate.getBinder(metadata, param);
+    }
+
+    @Override
+    public Binder getBinder(@Nonnull Connection connection, @Nonnull String table, @Nonnull String column)
+        throws SQLException {
+        Map<String, Integer> columnTypes = columnTypesByTable.get(table);
+        if (columnTypes == null) {
+            columnTypes = readColumnTypes(connection, table);
+            if (columnTypes == null) {
+                return null;
+            }
+            columnTypesByTable.putIfAbsent(table, columnTypes);
+        }
+
+        Integer sqlType = columnTypes.get(unquote(column).toUpperCase(Locale.ROOT));
+        if (sqlType == null) {
+            return null;
+        }
+        return delegate.getBinder(new ColumnTypeMetaData(sqlType), 1);
+    }
+
+    /**
+     * Reads the types of the columns of the given table. Returns an empty map if the table isn't found, and null if
+     * the columns can't be read, in which case nothing must be cached, since the failure can be transient, or caused
+     * by the connection used to {@link com.ninja_squad.dbsetup.DbSetup#plan() plan} a launch.
+     */
+    private static Map<String, Integer> readColumnTypes(Connection connection, String table) {
+        Map<String, Integer> result = new HashMap<String, Integer>();
+        String schema = null;
+        String tableName = table;
+        int dot = table.lastIndexOf('.');
+        if (dot >= 0) {
+            schema = table.substring(0, dot);
+            tableName = table.substring(dot + 1);
+        }
+
+        try {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String schemaPattern = null;
+            if (schema != null) {
+                schemaPattern = toPattern(metaData, schema);
+            }
+            else {
+                String currentSchema = getCurrentSchema(connection);
+                if (currentSchema != null) {
+                    schemaPattern = escape(metaData, currentSchema);
+                }
+            }
+            ResultSet rs = metaData.getColumns(connection.getCatalog(),
+                                               schemaPattern,
+                                               toPattern(metaData, tableName),
+                                               "%");
+            try {
+                String foundSchema = null;
+                while (rs.next()) {
+                    String rowSchema = rs.getString(TABLE_SCHEM);
+                    if (foundSchema == null) {
+                        foundSchema = rowSchema;
+                    }
+                    else if (!foundSchema.equals(rowSchema)) {
+                        // the current schema is unknown, and several schemas contain the table: it's ambiguous
+                        result.clear();
+                        break;
+                    }
+                    result.put(rs.getString(COLUMN_NAME).toUpperCase(Locale.ROOT), rs.getInt(DATA_TYPE));
+                }
+            }
+            finally {
+                rs.close();
+            }
+        }
+        catch (SQLException e) {
+            // the database can't return the columns of the table. Fall back to the parameter metadata.
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the current schema of the connection, or null if the driver doesn't tell it
+     */
+    private static String getCurrentSchema(Connection connection) {
+        try {
+            return connection.getSchema();
+        }
+        catch (SQLException e) {
+            return null;
+        }
+        catch (AbstractMethodError e) {
+            // the driver was written before JDBC 4.1, which introduced this method
+            return null;
+        }
+    }
+
+    /**
+     * Transforms the given identifier into a search pattern matching it, as stored by the database
+     */
+    private static String toPattern(DatabaseMetaData metaData, String identifier) throws SQLException {
+        String result;
+        if (identifier.startsWith(QUOTE) && identifier.endsWith(QUOTE) && identifier.length() > 1) {
+            result = unquote(identifier);
+        }
+        else if (metaData.storesUpperCaseIdentifiers()) {
+            result = identifier.toUpperCase(Locale.ROOT);
+        }
+        else if (metaData.storesLowerCaseIdentifiers()) {
+            result = identifier.toLowerCase(Locale.ROOT);
+        }
+        else {
+            result = identifier;
+        }
+        return escape(metaData, result);
+    }
+
+    /**
+     * Transforms the given name, as stored by the database, into a search pattern matching it
+     */
+    private static String escape(DatabaseMetaData metaData, String name) throws SQLException {
+        String escape = metaData.getSearchStringEscape();
+        if (escape != null && !escape.isEmpty()) {
+            return name.replace(escape, escape + escape)
+                       .replace("_", escape + "_")
+                       .replace("%", escape + "%");
+        }
+        return name;
+    }
+
+    private static String unquote(String identifier) {
+        if (identifier.startsWith(QUOTE) && identifier.endsWith(QUOTE) && identifier.length() > 1) {
+            return identifier.substring(1, identifier.length() - 1);
+        }
+        return identifier;
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        SchemaBinderConfiguration other = (SchemaBinderConfiguration) obj;
+        return delegate.equals(other.delegate);
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaBinderConfiguration [delegate=" + delegate + "]";
+    }
+
+    /**
+     * Parameter metadata passed to the delegate configuration, telling that the type of the parameter is the type of
+     * the column. All the other methods throw a <code>SQLFeatureNotSupportedException</code>.
+     */
+    private static final class ColumnTypeMetaData implements ParameterMetaData {
+        private final int sqlType;
+
+        private ColumnTypeMetaData(int sqlType) {
+            this.sqlType = sqlType;
+        }
+
+        @Override
+        public int getParameterType(int param) {
+            return sqlType;
+        }
+
+        @Override
+        public int getParameterCount() throws SQLException {
+            throw unsupported();
+        }
+
+        @Override
+        public int isNullable(int param) throws SQLException {
+            throw unsupported();
+        }
+
+        @Override
+        public boolean isSigned(int param) throws SQLException {
+            throw unsupported();
+        }
+
+        @Override
+        public int getPrecision(int param) throws SQLException {
+            throw unsupported();
+        }
+
+        @Override
+        public int getScale(int param) throws SQLException {
+            throw unsupported();
+        }
+
+        @Override
+        public String getParameterTypeName(int param) throws SQLException {
+            throw unsupported();
+        }
+
+        @Override
+        public String getParameterClassName(int param) throws SQLException {
+            throw unsupported();
+        }
+
+        @Override
+        public int getParameterMode(int param) throws SQLException {
+            throw unsupported();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            throw unsupported();
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return false;
+        }
+
+        private SQLException unsupported() {
+            return new SQLFeatureNotSupportedException("Only the parameter type is known");
+        }
+
+        @Override
+        public String toString() {
+            return "ColumnTypeMetaData [sqlType=" + sqlType + "]";
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Conversions used by the binders to bind zoned date/time values, designed to avoid the repeated lookup of time
+ * zones and the creation of a new calendar for every bound value.
+ * <p>
+ * Time zones are looked up once per zone, and shared by all the threads (they're never modified). Calendars, on the
+ * other hand, are mutable: drivers use them to compute the fields of the bound values. A calendar is thus reused only
+ * by the thread which created it, for all the values of its zone. Since binding values of a statement is done by a
+ * single thread, a calendar is never used concurrently, and since all the values of a given zone share the same
+ * calendar, a driver which keeps a reference to the calendar until the statement is executed still uses the right
+ * zone. The timestamps and dates themselves are not reused, since drivers keep references to them until the
+ * statement (or the batch) is executed.
+ * @author JB Nizet
+ */
+final class TimeZones {
+
+    private static final int MAX_CACHED_TIME_ZONES = 1000;
+    private static final int MAX_CACHED_CALENDARS_PER_THREAD = 16;
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final int NANOS_PER_MILLI = 1000000;
+
+    private static final ConcurrentMap<ZoneId, TimeZone> TIME_ZONES = new ConcurrentHashMap<ZoneId, TimeZone>();
+
+    private static final ThreadLocal<Map<ZoneId, Calendar>> CALENDARS = new ThreadLocal<Map<ZoneId, Calendar>>() {
+        @Override
+        protected Map<ZoneId, Calendar> initialValue() {
+            return new HashMap<ZoneId, Calendar>();
+        }
+    };
+
+    private TimeZones() {
+    }
+
+    /**
+     * Returns the time zone equivalent to the given zone, i.e. <code>TimeZone.getTimeZone(zone)</code>. The returned
+     * time zone is shared, and must not be modified.
+     */
+    static TimeZone timeZone(ZoneId zone) {
+        TimeZone result = TIME_ZONES.get(zone);
+        if (result == null) {
+            result = TimeZone.getTimeZone(zone);
+            // offsets can have seconds, so their number is not really bounded: avoid filling the cache with them
+            if (TIME_ZONES.size() < MAX_CACHED_TIME_ZONES) {
+                TIME_ZONES.putIfAbsent(zone, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a calendar for the given zone, equivalent to
+     * <code>Calendar.getInstance(TimeZone.getTimeZone(zone))</code>. The returned calendar is reused for all the values
+     * of the same zone bound by the current thread, and must thus only be passed to the driver.
+     */
+    static Calendar calendar(ZoneId zone) {
+        Map<ZoneId, Calendar> calendars = CALENDARS.get();
+        Calendar result = calendars.get(zone);
+        if (result == null) {
+            if (calendars.size() >= MAX_CACHED_CALENDARS_PER_THREAD) {
+                calendars.clear();
+            }
+            result = Calendar.getInstance(timeZone(zone));
+            calendars.put(zone, result);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a timestamp from the given number of seconds since the epoch and the given nanoseconds. This is
+     * equivalent to <code>Timestamp.from(Instant.ofEpochSecond(epochSecond, nano))</code>, but without creating the
+     * instant.
+     * @throws IllegalArgumentException if the number of milliseconds since the epoch doesn't fit in a long
+     */
+    static Timestamp timestamp(long epochSecond, int nano) {
+        try {
+            Timestamp result = new Timestamp(Math.multiplyExact(epochSecond, MILLIS_PER_SECOND));
+            result.setNanos(nano);
+            return result;
+        }
+        catch (ArithmeticException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Computes the number of milliseconds since the epoch from the given number of seconds since the epoch and the
+     * given nanoseconds. This is equivalent to <code>Instant.ofEpochSecond(epochSecond, nano).toEpochMilli()</code>,
+     * but without creating the instant.
+     * @throws ArithmeticException if the result doesn't fit in a long
+     */
+    static long epochMilli(long epochSecond, int nano) {
+        return Math.addExact(Math.multiplyExact(epochSecond, MILLIS_PER_SECOND), nano / NANOS_PER_MILLI);
+    }
+}
@@ -0,0 +1,529 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Base class for the binders returned by {@link Binders#typedBinder(JDBCType)}. Such a binder converts values to the
+ * Java type which exactly matches its SQL type, and binds them using the corresponding <code>set*</code> method of
+ * the statement. The few values that the binder returned by {@link Binders} for the same kind of column handles
+ * specifically (like enums for integer columns, or <code>java.util.Date</code> for temporal columns) are bound by
+ * that binder, and <code>null</code> is bound using <code>setNull()</code> with its SQL type. The conversion of any
+ * other value fails, so that it's detected as soon as the value is converted rather than when the statement is
+ * executed.
+ * @author JB Nizet
+ */
+abstract class TypedBinder implements ConvertingBinder {
+
+    private static final Map<JDBCType, Binder> BINDERS = createBinders();
+
+    private final JDBCType type;
+    private final Binder fallback;
+
+    TypedBinder(JDBCType type, Binder fallback) {
+        this.type = type;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Returns the binder for the given type
+     */
+    static Binder forType(JDBCType type) {
+        Binder result = BINDERS.get(type);
+        return result == null ? Binders.defaultBinder() : result;
+    }
+
+    private static Map<JDBCType, Binder> createBinders() {
+        Map<JDBCType, Binder> result = new EnumMap<JDBCType, Binder>(JDBCType.class);
+        result.put(JDBCType.BIGINT, new BigintColumnBinder());
+        for (JDBCType type : new JDBCType[] {JDBCType.INTEGER, JDBCType.SMALLINT, JDBCType.TINYINT}) {
+            result.put(type, new IntegerColumnBinder(type));
+        }
+        for (JDBCType type : new JDBCType[] {JDBCType.DOUBLE, JDBCType.FLOAT, JDBCType.REAL}) {
+            result.put(type, new DoubleColumnBinder(type));
+        }
+        for (JDBCType type : new JDBCType[] {JDBCType.DECIMAL, JDBCType.NUMERIC}) {
+            result.put(type, new DecimalColumnBinder(type));
+        }
+        for (JDBCType type : new JDBCType[] {JDBCType.BOOLEAN, JDBCType.BIT}) {
+            result.put(type, new BooleanColumnBinder(type));
+        }
+        for (JDBCType type : new JDBCType[] {JDBCType.VARCHAR,
+                                             JDBCType.CHAR,
+                                             JDBCType.LONGVARCHAR,
+                                             JDBCType.NVARCHAR,
+                                             JDBCType.NCHAR,
+                                             JDBCType.LONGNVARCHAR}) {
+            result.put(type, new StringColumnBinder(type));
+        }
+        result.put(JDBCType.DATE, new DateColumnBinder());
+        result.put(JDBCType.TIME, new TimeColumnBinder());
+        result.put(JDBCType.TIMESTAMP, new TimestampColumnBinder());
+        return result;
+    }
+
+    @Override
+    public final void bind(PreparedStatement stmt, int param, Object value) throws SQLException {
+        if (value == null) {
+            stmt.setNull(param, type.getVendorTypeNumber());
+        }
+        else {
+            Object converted = convert(value);
+            if (!bindConverted(stmt, param, converted)) {
+                fallback.bind(stmt, param, converted);
+            }
+        }
+    }
+
+    @Override
+    public final Object convert(Object value) {
+        return value == null ? null : convertNonNull(value);
+    }
+
+    /**
+     * Converts the given non-null value to the Java type of this binder
+     * @throws IllegalArgumentException if the value can't be converted
+     */
+    abstract Object convertNonNull(Object value);
+
+    /**
+     * Binds the given converted, non-null value if it's of the exact Java type of this binder
+     * @return true if the value has been bound, false if it must be bound by the fallback binder
+     */
+    abstract boolean bindConverted(PreparedStatement stmt, int param, Object value) throws SQLException;
+
+    /**
+     * Tells if the given value is a Long, an Integer, a Short or a Byte
+     */
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Tells if the given value is one of the temporal values that the date, time and timestamp binders of
+     * {@link Binders} handle specifically
+     */
+    private static boolean isLegacyTemporal(Object value) {
+        return value instanceof java.util.Date || value instanceof Calendar;
+    }
+
+    /**
+     * Creates the exception thrown when a value can't be converted to the type of this binder
+     */
+    final IllegalArgumentException conversionFailure(Object value, Throwable cause) {
+        IllegalArgumentException e =
+            new IllegalArgumentException("The value " + value + " can't be converted to " + type);
+        e.initCause(cause);
+        return e;
+    }
+
+    @Override
+    public String toString() {
+        return "Binders.typedBinder(" + type + ")";
+    }
+
+    private static final class BigintColumnBinder extends TypedBinder implements LongBinder {
+        private BigintColumnBinder() {
+            super(JDBCType.BIGINT, Binders.integerBinder());
+        }
+
+        @Override
+        Object convertNonNull(Object value) {
+            try {
+                if (value instanceof Long || value instanceof Enum) {
+                    return value;
+                }
+                if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    return Long.valueOf(((Number) value).longValue());
+                }
+                if (value instanceof BigInteger) {
+                    return Long.valueOf(((BigInteger) value).longValueExact());
+                }
+                if (value instanceof BigDecimal) {
+                    return Long.valueOf(((BigDecimal) value).longValueExact());
+                }
+                if (value instanceof Double || value instanceof Float) {
+                    return Long.valueOf(new BigDecimal(value.toString()).longValueExact());
+                }
+                if (value instanceof String) {
+                    return Long.valueOf(((String) value).trim());
+                }
+                throw conversionFailure(value, null);
+            }
+            catch (ArithmeticException e) {
+                throw conversionFailure(value, e);
+            }
+            catch (NumberFormatException e) {
+                throw conversionFailure(value, e);
+            }
+        }
+
+        @Override
+        boolean bindConverted(PreparedStatement stmt, int param, Object value) throws SQLException {
+            if (value instanceof Long) {
+                stmt.setLong(param, (Long) value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void bindLong(PreparedStatement stmt, int param, long value) throws SQLException {
+            stmt.setLong(param, value);
+        }
+    }
+
+    private static final class IntegerColumnBinder extends TypedBinder implements LongBinder {
+        private IntegerColumnBinder(JDBCType type) {
+            super(type, Binders.integerBinder());
+        }
+
+        @Override
+        Object convertNonNull(Object value) {
+            try {
+                if (value instanceof Integer || value instanceof Enum) {
+                    return value;
+                }
+                if (value instanceof Long || value instanceof Short || value instanceof Byte) {
+                    return Integer.valueOf(Math.toIntExact(((Number) value).longValue()));
+                }
+                if (value instanceof BigInteger) {
+                    return Integer.valueOf(((BigInteger) value).intValueExact());
+                }
+                if (value instanceof BigDecimal) {
+                    return Integer.valueOf(((BigDecimal) value).intValueExact());
+                }
+                if (value instanceof Double || value instanceof Float) {
+                    return Integer.valueOf(new BigDecimal(value.toString()).intValueExact());
+                }
+                if (value instanceof String) {
+                    return Integer.valueOf(((String) value).trim());
+                }
+                throw conversionFailure(value, null);
+            }
+            catch (ArithmeticException e) {
+                throw conversionFailure(value, e);
+            }
+            catch (NumberFormatException e) {
+                throw conversionFailure(value, e);
+            }
+        }
+
+        @Override
+        boolean bindConverted(PreparedStatement stmt, int param, Object value) throws SQLException {
+            if (value instanceof Integer) {
+                stmt.setInt(param, (Integer) value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void bindLong(PreparedStatement stmt, int param, long value) throws SQLException {
+            try {
+                stmt.setInt(param, Math.toIntExact(value));
+            }
+            catch (ArithmeticException e) {
+                throw conversionFailure(value, e);
+            }
+        }
+    }
+
+    private static final class DoubleColumnBinder extends TypedBinder implements DoubleBinder {
+        private DoubleColumnBinder(JDBCType type) {
+            super(type, Binders.decimalBinder());
+        }
+
+        @Override
+        Object convertNonNull(Object value) {
+            try {
+                if (value instanceof Double) {
+                    return value;
+                }
+                if (value instanceof Number) {
+                    return Double.valueOf(((Number) value).doubleValue());
+                }
+                if (value instanceof String) {
+                    return Double.valueOf(((String) value).trim());
+                }
+                throw conversionFailure(value, null);
+            }
+            catch (NumberFormatException e) {
+                throw conversionFailure(value, e);
+            }
+        }
+
+        @Override
+        boolean bindConverted(PreparedStatement stmt, int param, Object value) throws SQLException {
+            if (value instanceof Double) {
+                stmt.setDouble(param, (Double) value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void bindDouble(PreparedStatement stmt, int param, double value) throws SQLException {
+            stmt.setDouble(param, value);
+        }
+    }
+
+    private static final class DecimalColumnBinder extends TypedBinder {
+        private DecimalColumnBinder(JDBCType type) {
+            super(type, Binders.decimalBinder());
+        }
+
+        @Override
+        Object convertNonNull(Object value) {
+            try {
+                if (value instanceof BigDecimal) {
+                    return value;
+                }
+                if (isIntegral(value)) {
+                    return BigDecimal.valueOf(((Number) value).longValue());
+                }
+                if (value instanceof Double || value instanceof Float) {
+                    return new BigDecimal(value.toString());
+                }
+                if (value instanceof BigInteger) {
+                    return new BigDecimal((BigInteger) value);
+                }
+                if (value instanceof String) {
+                    return new BigDecimal(((String) value).trim());
+                }
+                throw conversionFailure(value, null);
+            }
+            catch (NumberFormatException e) {
+                throw conversionFailure(value, e);
+            }
+        }
+
+        @Override
+        boolean bindConverted(PreparedStatement stmt, int param, Object value) throws SQLException {
+            if (value instanceof BigDecimal) {
+                stmt.setBigDecimal(param, (BigDecimal) value);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class BooleanColumnBinder extends TypedBinder {
+        private BooleanColumnBinder(JDBCType type) {
+            super(type, Binders.defaultBinder());
+        }
+
+        @Override
+        Object convertNonNull(Object value) {
+            if (value instanceof String) {
+                String s = ((String) value).trim();
+                if (s.equalsIgnoreCase("true")) {
+                    return Boolean.TRUE;
+                }
+                if (s.equalsIgnoreCase("false")) {
+                    return Boolean.FALSE;
+                }
+                throw conversionFailure(value, null);
+            }
+            if (isIntegral(value)) {
+                return Boolean.valueOf(((Number) value).longValue() != 0L);
+            }
+            if (value instanceof Boolean) {
+                return value;
+            }
+            throw conversionFailure(value, null);
+        }
+
+        @Override
+        boolean bindConverted(PreparedStatement stmt, int param, Object value) throws SQLException {
+            if (value instanceof Boolean) {
+                stmt.setBoolean(param, (Boolean) value);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class StringColumnBinder extends TypedBinder {
+        private StringColumnBinder(JDBCType type) {
+            super(type, Binders.stringBinder());
+        }
+
+        @Override
+        Object convertNonNull(Object value) {
+            if (value instanceof Enum) {
+                return ((Enum<?>) value).name();
+            }
+            if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+                return value.toString();
+            }
+            return value;
+        }
+
+        @Override
+        boolean bindConverted(PreparedStatement stmt, int param, Object value) throws SQLException {
+            if (value instanceof String) {
+                stmt.setString(param, (String) value);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class DateColumnBinder extends TypedBinder {
+        private DateColumnBinder() {
+            super(JDBCType.DATE, Binders.dateBinder());
+        }
+
+        @Override
+        Object convertNonNull(Object value) {
+            try {
+                if (value instanceof String) {
+                    return Date.valueOf((String) value);
+                }
+                if (value instanceof LocalDate) {
+                    return Date.valueOf((LocalDate) value);
+                }
+                if (value instanceof LocalDateTime) {
+                    return Date.valueOf(((LocalDateTime) value).toLocalDate());
+                }
+                if (isLegacyTemporal(value)
+                    || value instanceof Instant
+                    || value instanceof ZonedDateTime
+                    || value instanceof OffsetDateTime) {
+                    // java.sql.Date is a java.util.Date, and is thus returned as is
+                    return value;
+                }
+                throw conversionFailure(value, null);
+            }
+            catch (IllegalArgumentException e) {
+                throw conversionFailure(value, e);
+            }
+        }
+
+        @Override
+        boolean bindConverted(PreparedStatement stmt, int param, Object value) throws SQLException {
+            if (value instanceof Date) {
+                stmt.setDate(param, (Date) value);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class TimeColumnBinder extends TypedBinder {
+        private TimeColumnBinder() {
+            super(JDBCType.TIME, Binders.timeBinder());
+        }
+
+        @Override
+        Object convertNonNull(Object value) {
+            try {
+                if (value instanceof String) {
+                    return Time.valueOf((String) value);
+                }
+                if (value instanceof LocalTime) {
+                    return Time.valueOf((LocalTime) value);
+                }
+                if (isLegacyTemporal(value) || value instanceof OffsetTime) {
+                    // java.sql.Time is a java.util.Date, and is thus returned as is
+                    return value;
+                }
+                throw conversionFailure(value, null);
+            }
+            catch (IllegalArgumentException e) {
+                throw conversionFailure(value, e);
+            }
+        }
+
+        @Override
+        boolean bindConverted(PreparedStatement stmt, int param, Object value) throws SQLException {
+            if (value instanceof Time) {
+                stmt.setTime(param, (Time) value);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class TimestampColumnBinder extends TypedBinder {
+        private TimestampColumnBinder() {
+            super(JDBCType.TIMESTAMP, Binders.timestampBinder());
+        }
+
+        @Override
+        Object convertNonNull(Object value) {
+            try {
+                if (value instanceof String) {
+                    return ((ConvertingBinder) Binders.timestampBinder()).convert(value);
+                }
+                if (value instanceof LocalDateTime) {
+                    return Timestamp.valueOf((LocalDateTime) value);
+                }
+                if (value instanceof LocalDate) {
+                    return Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+                }
+                if (value instanceof Instant) {
+                    return Timestamp.from((Instant) value);
+                }
+                if (isLegacyTemporal(value) || value instanceof ZonedDateTime || value instanceof OffsetDateTime) {
+                    // java.sql.Timestamp is a java.util.Date, and is thus returned as is
+                    return value;
+                }
+                throw conversionFailure(value, null);
+            }
+            catch (IllegalArgumentException e) {
+                throw conversionFailure(value, e);
+            }
+        }
+
+        @Override
+        boolean bindConverted(PreparedStatement stmt, int param, Object value) throws SQLException {
+            if (value instanceof Timestamp) {
+                stmt.setTimestamp(param, (Timestamp) value);
+                return true;
+            }
+            return false;
+        }
+    }
+}
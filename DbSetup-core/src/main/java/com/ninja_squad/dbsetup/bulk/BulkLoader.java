@@ -0,0 +1,68 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bulk;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+import com.ninja_squad.dbsetup.DbSetupTracker;
+
+/**
+ * An object which loads the rows of an {@link com.ninja_squad.dbsetup.operation.Insert} using a native bulk-ingest
+ * mechanism of the database, instead of executing a parameterized insert statement for every row. An Insert is
+ * associated with a bulk loader using
+ * {@link com.ninja_squad.dbsetup.operation.Insert.Builder#withBulkLoader(BulkLoader)}. If the loader doesn't
+ * {@link #supports(Connection) support} the database, the Insert falls back to the standard JDBC path.
+ * <p>
+ * It's advised to make implementations of this interface immutable, and to make them implement equals and hashCode
+ * in order for {@link DbSetupTracker} to function properly, or to make them singletons.
+ * @see BulkLoaders for useful implementations of this interface
+ * @author JB Nizet
+ */
+public interface BulkLoader {
+
+    /**
+     * Tells if this loader can be used with the database that the given connection is connected to.
+     * @param connection the connection used to execute the Insert
+     * @return <code>true</code> if the rows can be loaded by this loader, <code>false</code> if the Insert must
+     * fall back to the standard JDBC path
+     * @throws SQLException if a SQLException occurs while inspecting the connection
+     */
+    boolean supports(Connection connection) throws SQLException;
+
+    /**
+     * Loads the given rows into the given table.
+     * @param connection the connection used to execute the Insert
+     * @param table the table to insert into
+     * @param columns the names of the columns to insert into
+     * @param rows the rows to insert. Each row contains one value per column, in the same order as the columns.
+     * The rows are produced on the fly, while they are iterated.
+     * @throws SQLException if a SQLException occurs while loading the rows
+     */
+    void load(Connection connection, String table, List<String> columns, Iterator<? extends List<?>> rows)
+        throws SQLException;
+}
@@ -0,0 +1,353 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bulk;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ninja_squad.dbsetup.bind.LobValue;
+
+/**
+ * Utility class allowing to get various kinds of bulk loaders.
+ * <p>
+ * The returned loaders serialize the rows of the Insert, on the fly, into a temporary CSV file, and then ask the
+ * database to read this file. Every value is serialized as text, which the database then converts to the type of its
+ * column:
+ * <ul>
+ *     <li><code>null</code>: an empty, unquoted field, read as NULL by the database</li>
+ *     <li><code>enum</code>: the name of the enum</li>
+ *     <li><code>java.util.Date</code>, <code>java.util.Calendar</code>, <code>java.time.Instant</code>,
+ *         <code>java.time.LocalDateTime</code>, <code>java.time.ZonedDateTime</code> and
+ *         <code>java.time.OffsetDateTime</code>: the local date and time, in the same time zone as the one used by
+ *         {@link com.ninja_squad.dbsetup.bind.Binders#timestampBinder()}, using the
+ *         <code>yyyy-mm-dd hh:mm:ss.fffffffff</code> format</li>
+ *     <li><code>java.time.OffsetTime</code>: the local time</li>
+ *     <li><code>BigDecimal</code>: the plain string representation of the number</li>
+ *     <li><code>byte[]</code>: the hexadecimal representation of the bytes</li>
+ *     <li>other: the <code>toString()</code> of the value</li>
+ * </ul>
+ * Since {@link com.ninja_squad.dbsetup.bind.Binder binders} can't be applied to such a text representation, an
+ * Insert which has an explicit binder associated to one of its columns, or which is executed with another
+ * {@link com.ninja_squad.dbsetup.bind.BinderConfiguration binder configuration} than the default one, always uses the
+ * standard JDBC path. So does an Insert having a {@link LobValue} among its values, since its content is streamed
+ * by the statement.
+ * @author JB Nizet
+ */
+public final class BulkLoaders {
+
+    private static final BulkLoader H2_CSV_READ = new H2CsvReadLoader();
+    private static final BulkLoader HSQLDB_TEXT_TABLE = new HsqldbTextTableLoader();
+
+    private BulkLoaders() {
+    }
+
+    /**
+     * Returns a bulk loader which uses the <code>CSVREAD</code> function of H2:
+     * <pre>
+     *     insert into TABLE (COLUMNS) select * from CSVREAD('temporary file', 'COLUMNS', 'charset=UTF-8')
+     * </pre>
+     * The returned loader only supports H2 databases.
+     */
+    public static BulkLoader h2CsvRead() {
+        return H2_CSV_READ;
+    }
+
+    /**
+     * Returns a bulk loader which uses a temporary text table of HSQLDB, having the temporary CSV file as source:
+     * <pre>
+     *     create text table TEMP_TABLE as (select COLUMNS from TABLE) with no data
+     *     set table TEMP_TABLE source 'temporary file;encoding=UTF-8'
+     *     insert into TABLE (COLUMNS) select COLUMNS from TEMP_TABLE
+     *     drop table TEMP_TABLE
+     * </pre>
+     * The returned loader only supports HSQLDB databases. Note that HSQLDB commits the current transaction when
+     * executing DDL statements, and that the temporary file is referenced by its absolute path, which HSQLDB only
+     * accepts if the system property <code>textdb.allow_full_path</code> is set to <code>true</code>. HSQLDB reads
+     * this property when the database is opened, so it must be set before the first connection to the database is
+     * made (for an in-memory database, setting it afterwards makes HSQLDB refuse the text table as "memory only").
+     * If HSQLDB refuses the temporary file, the load fails with a SQLException explaining this requirement.
+     */
+    public static BulkLoader hsqldbTextTable() {
+        return HSQLDB_TEXT_TABLE;
+    }
+
+    /**
+     * Transforms the given value to the text representation used in the CSV file
+     * @return the text representation of the value, or <code>null</code> if the value is null
+     */
+    static String toText(Object value) {
+        if (value == null) {
+            return null;
+        }
+        else if (value instanceof String) {
+            return (String) value;
+        }
+        else if (value instanceof Enum<?>) {
+            return ((Enum<?>) value).name();
+        }
+        else if (value instanceof java.sql.Date || value instanceof java.sql.Time || value instanceof Timestamp) {
+            return value.toString();
+        }
+        else if (value instanceof java.util.Date) {
+            return new Timestamp(((java.util.Date) value).getTime()).toString();
+        }
+        else if (value instanceof Calendar) {
+            Calendar calendar = (Calendar) value;
+            return toText(calendar.toInstant().atZone(calendar.getTimeZone().toZoneId()).toLocalDateTime());
+        }
+        else if (value instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) value).toString();
+        }
+        else if (value instanceof Instant) {
+            return Timestamp.from((Instant) value).toString();
+        }
+        else if (value instanceof ZonedDateTime) {
+            return toText(((ZonedDateTime) value).toLocalDateTime());
+        }
+        else if (value instanceof OffsetDateTime) {
+            return toText(((OffsetDateTime) value).toLocalDateTime());
+        }
+        else if (value instanceof OffsetTime) {
+            return ((OffsetTime) value).toLocalTime().toString();
+        }
+        else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        else if (value instanceof byte[]) {
+            return toHex((byte[]) value);
+        }
+        else if (value instanceof LobValue) {
+            throw new IllegalArgumentException("The LOB value " + value + " can't be loaded as text");
+        }
+        return value.toString();
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] digits = "0123456789abcdef".toCharArray();
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(digits[(b >> 4) & 0xF]).append(digits[b & 0xF]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes the given rows to the given writer, using commas as separators, double quotes around every non-null
+     * value, and two double quotes for every double quote inside a value.
+     */
+    static void writeCsv(Writer writer, Iterator<? extends List<?>> rows) throws IOException {
+        while (rows.hasNext()) {
+            boolean first = true;
+            for (Object value : rows.next()) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                String text = toText(value);
+                if (text != null) {
+                    writer.write('"');
+                    writer.write(text.replace("\"", "\"\""));
+                    writer.write('"');
+                }
+            }
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Returns the given string as a SQL string literal
+     */
+    static String quote(String s) {
+        return "'" + s.replace("'", "''") + "'";
+    }
+
+    private static String join(List<String> strings, String separator) {
+        StringBuilder builder = new StringBuilder();
+        for (Iterator<String> it = strings.iterator(); it.hasNext(); ) {
+            builder.append(it.next());
+            if (it.hasNext()) {
+                builder.append(separator);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Base class for the loaders which write the rows to a temporary CSV file, and then ask the database to read it.
+     * @author JB Nizet
+     */
+    private abstract static class CsvFileBulkLoader implements BulkLoader {
+
+        private final String databaseProductName;
+
+        protected CsvFileBulkLoader(String databaseProductName) {
+            this.databaseProductName = databaseProductName;
+        }
+
+        @Override
+        public boolean supports(Connection connection) throws SQLException {
+            return databaseProductName.equals(connection.getMetaData().getDatabaseProductName());
+        }
+
+        @Override
+        public void load(Connection connection, String table, List<String> columns, Iterator<? extends List<?>> rows)
+            throws SQLException {
+            Path file = null;
+            try {
+                file = Files.createTempFile("dbsetup-", ".csv");
+                Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                try {
+                    writeCsv(writer, rows);
+                }
+                finally {
+                    writer.close();
+                }
+
+                Statement stmt = connection.createStatement();
+                try {
+                    load(stmt, table, columns, file.toAbsolutePath().toString());
+                }
+                finally {
+                    stmt.close();
+                }
+            }
+            catch (IOException e) {
+                throw new SQLException("Unable to write the temporary CSV file for the bulk load of " + table, e);
+            }
+            finally {
+                deleteIfNotNull(file);
+            }
+        }
+
+        /**
+         * Loads the given CSV file, containing one line per row and one field per column, into the given table
+         */
+        protected abstract void load(Statement stmt, String table, List<String> columns, String csvFile)
+            throws SQLException;
+
+        private void deleteIfNotNull(Path file) {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                }
+                catch (IOException e) {
+                    // nothing to do: the file is in the temporary directory anyway
+                }
+            }
+        }
+    }
+
+    /**
+     * The implementation for {@link BulkLoaders#h2CsvRead()}
+     * @author JB Nizet
+     */
+    private static final class H2CsvReadLoader extends CsvFileBulkLoader {
+
+        private H2CsvReadLoader() {
+            super("H2");
+        }
+
+        @Override
+        protected void load(Statement stmt, String table, List<String> columns, String csvFile)
+            throws SQLException {
+            String columnList = join(columns, ", ");
+            stmt.executeUpdate("insert into " + table + " (" + columnList + ") select * from CSVREAD("
+                                   + quote(csvFile) + ", "
+                                   + quote(join(columns, ",")) + ", "
+                                   + quote("charset=UTF-8") + ")");
+        }
+
+        @Override
+        public String toString() {
+            return "BulkLoaders.h2CsvRead";
+        }
+    }
+
+    /**
+     * The implementation for {@link BulkLoaders#hsqldbTextTable()}
+     * @author JB Nizet
+     */
+    private static final class HsqldbTextTableLoader extends CsvFileBulkLoader {
+
+        private static final AtomicLong TEXT_TABLE_COUNTER = new AtomicLong();
+
+        private HsqldbTextTableLoader() {
+            super("HSQL Database Engine");
+        }
+
+        @Override
+        protected void load(Statement stmt, String table, List<String> columns, String csvFile)
+            throws SQLException {
+            String textTable = "DBSETUP_BULK_" + TEXT_TABLE_COUNTER.incrementAndGet();
+            String columnList = join(columns, ", ");
+            stmt.executeUpdate("create text table " + textTable
+                                   + " as (select " + columnList + " from " + table + ") with no data");
+            try {
+                setSource(stmt, textTable, csvFile);
+                stmt.executeUpdate("insert into " + table + " (" + columnList + ") select " + columnList
+                                       + " from " + textTable);
+            }
+            finally {
+                stmt.executeUpdate("drop table " + textTable);
+            }
+        }
+
+        private void setSource(Statement stmt, String textTable, String csvFile) throws SQLException {
+            try {
+                stmt.executeUpdate("set table " + textTable + " source " + quote(csvFile + ";encoding=UTF-8"));
+            }
+            catch (SQLException e) {
+                throw new SQLException("HSQLDB refused " + csvFile + " as the source of a text table. The system "
+                                           + "property textdb.allow_full_path must be set to true before the "
+                                           + "database is opened: " + e.getMessage(),
+                                       e.getSQLState(),
+                                       e.getErrorCode(),
+                                       e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "BulkLoaders.hsqldbTextTable";
+        }
+    }
+}
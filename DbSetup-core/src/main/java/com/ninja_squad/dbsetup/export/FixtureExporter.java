@@ -0,0 +1,291 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.export;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import com.ninja_squad.dbsetup.DbSetupRuntimeException;
+import com.ninja_squad.dbsetup.destination.Destination;
+import com.ninja_squad.dbsetup.operation.BinaryFixture;
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * Exports the rows of live tables to a binary fixture file, which can then be reloaded using a
+ * {@link BinaryFixture} operation. Example usage:
+ * <pre>
+ *   FixtureExporter.from(destination).export(Paths.get("src/test/resources/vendors.dbsetup"), "VENDOR", "PRODUCT");
+ *
+ *   // and later, in a test:
+ *   new DbSetup(destination, sequenceOf(deleteAllFrom("PRODUCT", "VENDOR"),
+ *                                       BinaryFixture.from(Paths.get("src/test/resources/vendors.dbsetup"))))
+ *       .launch();
+ * </pre>
+ *
+ * The tables are exported in the given order, which is also the order in which they will be inserted when the
+ * fixture is reloaded. Referenced tables must thus be exported before the tables referencing them.
+ * <p>
+ * The rows are read using a forward-only, read-only result set, fetched from the database by chunks of
+ * {@link #withFetchSize(int) fetchSize} rows, and are written to the file as they're read, so that exporting large
+ * tables doesn't require storing all their rows in memory. The export is done in a transaction which is rolled back
+ * at the end, because some drivers (like PostgreSQL's) only honor the fetch size when auto-commit is disabled.
+ * <p>
+ * Values are read from the result set according to the SQL type of their column: dates, times and timestamps are
+ * stored without any time zone, character and CLOB columns are stored as strings, and binary and BLOB columns are
+ * stored as byte arrays. Times keep their fractional seconds. Columns of other types are read using
+ * <code>getObject()</code>, and the export fails, naming the table and the column, if the type of the returned value
+ * is not supported by the {@link BinaryFixture.Writer}.
+ * @author JB Nizet
+ */
+@Immutable
+public final class FixtureExporter {
+
+    /**
+     * The default number of rows fetched from the database in a single round-trip
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final Destination destination;
+    private final int fetchSize;
+
+    private FixtureExporter(Destination destination, int fetchSize) {
+        this.destination = destination;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Creates an exporter reading the tables from the given destination
+     * @param destination the destination to read the tables from
+     * @return the created exporter
+     */
+    public static FixtureExporter from(@Nonnull Destination destination) {
+        Preconditions.checkNotNull(destination, "destination may not be null");
+        return new FixtureExporter(destination, DEFAULT_FETCH_SIZE);
+    }
+
+    /**
+     * Returns a new exporter, identical to this one except it fetches the given number of rows from the database in
+     * a single round-trip. The default is {@link #DEFAULT_FETCH_SIZE}.
+     * @param fetchSize the fetch size. Must be &gt; 0.
+     * @return the new exporter
+     */
+    public FixtureExporter withFetchSize(int fetchSize) {
+        Preconditions.checkArgument(fetchSize > 0, "fetchSize must be > 0");
+        return new FixtureExporter(destination, fetchSize);
+    }
+
+    /**
+     * Exports all the rows of the given tables to the given file, which is created or replaced.
+     * @param file the binary fixture file to write
+     * @param tables the tables to export, in the order in which they must be reloaded
+     * @throws DbSetupRuntimeException if reading the tables or writing the file fails, or if a value can't be stored
+     * in the file
+     */
+    public void export(@Nonnull Path file, @Nonnull String... tables) {
+        export(file, Arrays.asList(tables));
+    }
+
+    /**
+     * Exports all the rows of the given tables to the given file, which is created or replaced.
+     * @param file the binary fixture file to write
+     * @param tables the tables to export, in the order in which they must be reloaded
+     * @throws DbSetupRuntimeException if reading the tables or writing the file fails, or if a value can't be stored
+     * in the file
+     */
+    public void export(@Nonnull Path file, @Nonnull List<String> tables) {
+        Preconditions.checkNotNull(file, "file may not be null");
+        Preconditions.checkNotNull(tables, "tables may not be null");
+        for (String table : tables) {
+            Preconditions.checkNotNull(table, "table may not be null");
+        }
+        try {
+            Connection connection = destination.getConnection();
+            try {
+                connection.setAutoCommit(false);
+                BinaryFixture.Writer writer = BinaryFixture.writer(file);
+                try {
+                    for (String table : tables) {
+                        exportTable(connection, table, writer);
+                    }
+                }
+                finally {
+                    writer.close();
+                }
+            }
+            finally {
+                try {
+                    connection.rollback();
+                }
+                finally {
+                    connection.close();
+                }
+            }
+        }
+        catch (SQLException e) {
+            throw new DbSetupRuntimeException("Unable to export the tables " + tables + " to " + file, e);
+        }
+        catch (IOException e) {
+            throw new DbSetupRuntimeException("Unable to export the tables " + tables + " to " + file, e);
+        }
+    }
+
+    @edu.umd.cs.findbugs.annotations.SuppressWarnings(
+        value = "SQL_NONCONSTANT_STRING_PASSED_TO_EXECUTE",
+        justification = "The point here is precisely to compose a SQL String from a table name coming from the user")
+    private void exportTable(Connection connection, String table, BinaryFixture.Writer writer)
+        throws SQLException, IOException {
+        Statement stmt = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        try {
+            stmt.setFetchSize(fetchSize);
+            ResultSet rs = stmt.executeQuery("select * from " + table);
+            try {
+                ResultSetMetaData metaData = rs.getMetaData();
+                int columnCount = metaData.getColumnCount();
+                List<String> columns = new ArrayList<String>(columnCount);
+                int[] columnTypes = new int[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    columns.add(metaData.getColumnLabel(i + 1));
+                    columnTypes[i] = metaData.getColumnType(i + 1);
+                }
+
+                writer.startTable(table, columns);
+                Object[] values = new Object[columnCount];
+                while (rs.next()) {
+                    for (int i = 0; i < columnCount; i++) {
+                        values[i] = readValue(rs, i + 1, columnTypes[i]);
+                    }
+                    try {
+                        writer.writeRow(values);
+                    }
+                    catch (IllegalArgumentException e) {
+                        throw new DbSetupRuntimeException("Unable to export the table " + table + ": "
+                                                          + e.getMessage(), e);
+                    }
+                }
+            }
+            finally {
+                rs.close();
+            }
+        }
+        finally {
+            stmt.close();
+        }
+    }
+
+    private static Object readValue(ResultSet rs, int column, int sqlType) throws SQLException {
+        Object result;
+        switch (sqlType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.CLOB:
+            case Types.NCLOB:
+                return rs.getString(column);
+            case Types.BIT:
+            case Types.BOOLEAN:
+                result = rs.getBoolean(column);
+                break;
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                result = rs.getInt(column);
+                break;
+            case Types.BIGINT:
+                result = rs.getLong(column);
+                break;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                result = rs.getDouble(column);
+                break;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return rs.getBigDecimal(column);
+            case Types.DATE:
+                Date date = rs.getDate(column);
+                return date == null ? null : date.toLocalDate();
+            case Types.TIME:
+                return readTime(rs, column);
+            case Types.TIMESTAMP:
+                Timestamp timestamp = rs.getTimestamp(column);
+                return timestamp == null ? null : timestamp.toLocalDateTime();
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return rs.getBytes(column);
+            default:
+                return rs.getObject(column);
+        }
+        return rs.wasNull() ? null : result;
+    }
+
+    /**
+     * Reads a time, with its fractional seconds. <code>Time.toLocalTime()</code> ignores the milliseconds, so the
+     * time is read as a <code>LocalTime</code> if the driver supports it, and its milliseconds are added back
+     * otherwise. Some drivers ignore the requested class and return a <code>java.sql.Time</code>, so the type of the
+     * returned value is checked.
+     */
+    private static LocalTime readTime(ResultSet rs, int column) throws SQLException {
+        try {
+            Object value = rs.getObject(column, LocalTime.class);
+            if (value == null || value instanceof LocalTime) {
+                return (LocalTime) value;
+            }
+        }
+        catch (SQLException e) {
+            // the driver doesn't support LocalTime. Fall back to java.sql.Time
+        }
+        Time time = rs.getTime(column);
+        if (time == null) {
+            return null;
+        }
+        return time.toLocalTime().plusNanos(Math.floorMod(time.getTime(), 1000L) * 1_000_000L);
+    }
+
+    @Override
+    public String toString() {
+        return "FixtureExporter [destination=" + destination + ", fetchSize=" + fetchSize + "]";
+    }
+}
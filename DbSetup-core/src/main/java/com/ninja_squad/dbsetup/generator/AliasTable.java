@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+/**
+ * An alias table (built using Vose's algorithm), allowing to pick an index among n weighted indices in constant time,
+ * from a single random number. The table is made of n columns, each one having the same probability of being
+ * chosen. Each column contains its own index, with a given probability, and the index of another column, its alias,
+ * otherwise. The random number is used to choose the column, and the fractional part of the multiplication of the
+ * random number by n, which is uniformly distributed independently of the chosen column, to choose between the column
+ * index and its alias.
+ * <p>
+ * Instances of this class are immutable, and can thus be shared by several generators.
+ * @author JB Nizet
+ */
+final class AliasTable {
+
+    /**
+     * The probability, for each column, to pick the column index rather than its alias
+     */
+    private final double[] probabilities;
+
+    /**
+     * The alias of each column
+     */
+    private final int[] aliases;
+
+    /**
+     * Creates an alias table from the given weights, which must be &gt;= 0, finite, and whose sum must be &gt; 0
+     */
+    AliasTable(double[] weights) {
+        int size = weights.length;
+        double total = 0.0;
+        for (double weight : weights) {
+            total += weight;
+        }
+
+        this.probabilities = new double[size];
+        this.aliases = new int[size];
+
+        double[] scaledWeights = new double[size];
+        int[] small = new int[size];
+        int smallCount = 0;
+        int[] large = new int[size];
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaledWeights[i] = weights[i] * size / total;
+            if (scaledWeights[i] < 1.0) {
+                small[smallCount++] = i;
+            }
+            else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int smallIndex = small[--smallCount];
+            int largeIndex = large[--largeCount];
+            probabilities[smallIndex] = scaledWeights[smallIndex];
+            aliases[smallIndex] = largeIndex;
+            scaledWeights[largeIndex] = (scaledWeights[largeIndex] + scaledWeights[smallIndex]) - 1.0;
+            if (scaledWeights[largeIndex] < 1.0) {
+                small[smallCount++] = largeIndex;
+            }
+            else {
+                large[largeCount++] = largeIndex;
+            }
+        }
+
+        // the remaining columns are full, except for rounding errors
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            probabilities[index] = 1.0;
+            aliases[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            probabilities[index] = 1.0;
+            aliases[index] = index;
+        }
+    }
+
+    /**
+     * Returns the index picked using the given random number
+     */
+    int sample(long random) {
+        int column = (int) RandomValueGenerator.bounded(random, probabilities.length);
+        double fraction = RandomValueGenerator.toDouble(random * probabilities.length);
+        return fraction < probabilities[column] ? column : aliases[column];
+    }
+
+    int size() {
+        return probabilities.length;
+    }
+}
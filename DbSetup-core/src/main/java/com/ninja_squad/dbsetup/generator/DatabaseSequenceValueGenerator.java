@@ -0,0 +1,163 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+import com.ninja_squad.dbsetup.DbSetupRuntimeException;
+import com.ninja_squad.dbsetup.destination.Destination;
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+import javax.annotation.Nonnull;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * A {@link ValueGenerator} which generates keys from a database sequence, by reserving blocks of values, using a
+ * single query per block, in the spirit of the hi/lo allocation. Instances of this class are created using
+ * {@link ValueGenerators#databaseSequence(Destination, String, int)}.
+ * <p>
+ * The sequence must be incremented by the block size. Each value <code>v</code> returned by the sequence reserves the
+ * block of values <code>v, v + 1, ..., v + blockSize - 1</code>, which are then generated from memory. For example,
+ * with the following sequence, and a block size of 100, the generator only queries the sequence once for every 100
+ * generated values:
+ * <pre>
+ *   create sequence CLIENT_SEQ start with 1 increment by 100
+ * </pre>
+ * Other programs using the same sequence must of course use the same allocation strategy.
+ * <p>
+ * The sequence is queried using a connection obtained from the given destination, which is typically the
+ * destination of the DbSetup launching the insert, when a block has been exhausted. Since the values of an insert are
+ * generated when it's built, this happens when the insert is built. The default query, <code>values (next value for
+ * SEQUENCE_NAME)</code>, uses the standard SQL syntax supported for example by HSQLDB, H2, Derby and DB2, and can be
+ * replaced using {@link #withQuery(String)} for other databases.
+ * <p>
+ * Being a {@link LongValueGenerator}, this generator generates the values of an insert in bulk, without boxing them.
+ * @author JB Nizet
+ */
+public final class DatabaseSequenceValueGenerator implements LongValueGenerator {
+    private final Destination destination;
+    private final String sequenceName;
+    private final int blockSize;
+    private String query;
+
+    /**
+     * The next value of the current block
+     */
+    private long next;
+
+    /**
+     * The number of values which remain in the current block
+     */
+    private long remaining;
+
+    DatabaseSequenceValueGenerator(Destination destination, String sequenceName, int blockSize) {
+        this.destination = destination;
+        this.sequenceName = sequenceName;
+        this.blockSize = blockSize;
+        this.query = "values (next value for " + sequenceName + ")";
+    }
+
+    /**
+     * Sets the query used to get the next value of the sequence, for databases which don't support the standard
+     * SQL syntax. For example, <code>select nextval('CLIENT_SEQ')</code> for PostgreSQL, or
+     * <code>select CLIENT_SEQ.nextval from dual</code> for Oracle. The query must return a single row with a single
+     * numeric column.
+     * @param query the query returning the next value of the sequence
+     * @return this instance, for chaining
+     */
+    public DatabaseSequenceValueGenerator withQuery(@Nonnull String query) {
+        Preconditions.checkNotNull(query, "query may not be null");
+        this.query = query;
+        return this;
+    }
+
+    @Override
+    public Long nextValue() {
+        return nextLong();
+    }
+
+    @Override
+    public long nextLong() {
+        if (remaining == 0) {
+            reserveBlock();
+        }
+        remaining--;
+        return next++;
+    }
+
+    @Override
+    public void nextLongs(long[] values, int offset, int count) {
+        int index = offset;
+        int end = offset + count;
+        while (index < end) {
+            if (remaining == 0) {
+                reserveBlock();
+            }
+            int blockEnd = (int) Math.min(end, index + remaining);
+            for (; index < blockEnd; index++) {
+                values[index] = next++;
+                remaining--;
+            }
+        }
+    }
+
+    private void reserveBlock() {
+        try {
+            Connection connection = destination.getConnection();
+            try {
+                Statement statement = connection.createStatement();
+                try {
+                    ResultSet resultSet = statement.executeQuery(query);
+                    if (!resultSet.next()) {
+                        throw new DbSetupRuntimeException("The query " + query + " didn't return any value");
+                    }
+                    next = resultSet.getLong(1);
+                    remaining = blockSize;
+                }
+                finally {
+                    statement.close();
+                }
+            }
+            finally {
+                connection.close();
+            }
+        }
+        catch (SQLException e) {
+            throw new DbSetupRuntimeException("Unable to get the next value of the sequence " + sequenceName, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DatabaseSequenceValueGenerator["
+               + "sequenceName=" + sequenceName
+               + ", blockSize=" + blockSize
+               + ", query=" + query
+               + ", next=" + next
+               + ", remaining=" + remaining
+               + "]";
+    }
+}
@@ -26,12 +26,18 @@ package com.ninja_squad.dbsetup.generator;
 
 import javax.annotation.Nonnull;
 import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.TimeZone;
@@ -41,13 +47,33 @@ import com.ninja_squad.dbsetup.util.Preconditions;
 /**
  * A {@link ValueGenerator} that returns a sequence of dates, starting at a given zoned date time and incremented by a
  * given time, specified as an increment and a temporal unit.
+ * <p>
+ * This generator can jump over values or be split, and the jumps always lead to the date that the generator would
+ * have reached by being incremented repeatedly. They're done by adding the whole jumped amount at once, unless the
+ * unit is date-based and the repeated increments could be affected by the end of the months (when incrementing the
+ * 29th, 30th or 31st of a month by months or years) or by a time zone transition at the time of day of the sequence.
+ * In these rare cases, the generator is incremented repeatedly.
+ * <p>
+ * When the increment has a fixed duration (i.e. when the unit is time-based, or when it's the day or the week and
+ * the time zone has a fixed offset), the dates are computed with plain arithmetic on their epoch second and nano,
+ * rather than by adding the increment to a ZonedDateTime. The dates can also be generated as epoch millis, without
+ * creating any object, or as local date times, using {@link #asEpochMillis()} and {@link #asLocalDateTimes()}.
+ * When the unit is date-based and the time zone has daylight saving time transitions, the dates are still computed
+ * using the calendar rules.
  * @author JB
  */
-public final class DateSequenceValueGenerator implements ValueGenerator<ZonedDateTime> {
+public final class DateSequenceValueGenerator implements SplittableValueGenerator<ZonedDateTime> {
 
     // the number of chars in yyyy-mm-dd hh:mm:ss
     private static final int MIN_NUMBER_OF_CHARS_FOR_TIMESTAMP = 19;
 
+    // the last day of month which exists in every month
+    private static final int MAX_SAFE_DAY_OF_MONTH = 28;
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+    private static final long MILLIS_PER_SECOND = 1000L;
+
     /**
      * The available units for the increment of this sequence
      * @deprecated use ChronoField instead. This enum is only kept to maintain backward compatibility
@@ -73,18 +99,60 @@ public final class DateSequenceValueGenerator implements ValueGenerator<ZonedDat
         }
     }
 
+    /**
+     * The next date, when the arithmetic mode is not used
+     */
     private ZonedDateTime next;
     private int increment;
     private TemporalUnit unit;
 
+    /**
+     * The time zone of the dates, used when the arithmetic mode is used
+     */
+    private ZoneId zone;
+
+    /**
+     * Tells if the arithmetic mode is used, i.e. if the dates are computed by adding a fixed duration to their epoch
+     * second and nano, instead of adding the increment to a ZonedDateTime
+     */
+    private boolean arithmetic;
+
+    /**
+     * The epoch second of the next date, when the arithmetic mode is used
+     */
+    private long nextSecond;
+
+    /**
+     * The nano of the next date, when the arithmetic mode is used
+     */
+    private int nextNano;
+
+    /**
+     * The seconds of the duration added to each date, when the arithmetic mode is used
+     */
+    private long stepSeconds;
+
+    /**
+     * The nanos of the duration added to each date, when the arithmetic mode is used
+     */
+    private int stepNanos;
+
+    /**
+     * The offset of the time zone at nextSecond, and the range of epoch seconds where it's valid, used to compute
+     * local date times and cached until the next time zone transition
+     */
+    private ZoneOffset offset;
+    private long offsetStart;
+    private long offsetEnd;
+
     DateSequenceValueGenerator() {
         this(LocalDate.now().atStartOfDay().atZone(ZoneId.systemDefault()), 1, ChronoUnit.DAYS);
     }
 
     private DateSequenceValueGenerator(ZonedDateTime next, int increment, TemporalUnit unit) {
-        this.next = next;
         this.increment = increment;
         this.unit = unit;
+        setNext(next);
     }
 
     /**
@@ -96,7 +164,7 @@ public final class DateSequenceValueGenerator implements ValueGenerator<ZonedDat
     public DateSequenceValueGenerator startingAt(@Nonnull Date startDate, @Nonnull TimeZone timeZone) {
         Preconditions.checkNotNull(startDate, "startDate may not be null");
         Preconditions.checkNotNull(timeZone, "timeZone may not be null");
-        next = startDate.toInstant().atZone(timeZone.toZoneId());
+        setNext(startDate.toInstant().atZone(timeZone.toZoneId()));
         return this;
     }
 
@@ -118,7 +186,7 @@ public final class DateSequenceValueGenerator implements ValueGenerator<ZonedDat
     @Deprecated
     public DateSequenceValueGenerator startingAt(@Nonnull Calendar startDate) {
         Preconditions.checkNotNull(startDate, "startDate may not be null");
-        next = startDate.toInstant().atZone(startDate.getTimeZone().toZoneId());
+        setNext(startDate.toInstant().atZone(startDate.getTimeZone().toZoneId()));
         return this;
     }
 
@@ -160,7 +228,7 @@ public final class DateSequenceValueGenerator implements ValueGenerator<ZonedDat
      * @return this instance, for chaining
      */
     public DateSequenceValueGenerator startingAt(@Nonnull ZonedDateTime startDate) {
-        next = startDate;
+        setNext(startDate);
         return this;
     }
 
@@ -182,22 +250,251 @@ public final class DateSequenceValueGenerator implements ValueGenerator<ZonedDat
      */
     public DateSequenceValueGenerator incrementingBy(int increment, @Nonnull TemporalUnit unit) {
         Preconditions.checkNotNull(unit, "unit may not be null");
+        ZonedDateTime current = current();
         this.increment = increment;
         this.unit = unit;
+        setNext(current);
         return this;
     }
 
     @Override
     public ZonedDateTime nextValue() {
+        if (arithmetic) {
+            ZonedDateTime result = ZonedDateTime.ofInstant(Instant.ofEpochSecond(nextSecond, nextNano), zone);
+            step();
+            return result;
+        }
         ZonedDateTime result = next;
         next = next.plus(increment, unit);
         return result;
     }
 
+    /**
+     * Generates the next date, as the number of milliseconds since the epoch. In arithmetic mode, this doesn't
+     * create any object.
+     * @return the next date, as epoch millis
+     * @see #asEpochMillis()
+     */
+    public long nextEpochMilli() {
+        if (arithmetic) {
+            long result = Math.addExact(Math.multiplyExact(nextSecond, MILLIS_PER_SECOND),
+                                        nextNano / NANOS_PER_MILLI);
+            step();
+            return result;
+        }
+        return nextValue().toInstant().toEpochMilli();
+    }
+
+    /**
+     * Generates the next date, as a local date time in the time zone of the sequence. In arithmetic mode, the
+     * offset of the time zone is computed only once per time zone transition, and only the returned LocalDateTime is
+     * created.
+     * @return the next date, as a local date time
+     * @see #asLocalDateTimes()
+     */
+    public LocalDateTime nextLocalDateTime() {
+        if (arithmetic) {
+            if (nextSecond < offsetStart || nextSecond >= offsetEnd) {
+                computeOffset();
+            }
+            LocalDateTime result = LocalDateTime.ofEpochSecond(nextSecond, nextNano, offset);
+            step();
+            return result;
+        }
+        return nextValue().toLocalDateTime();
+    }
+
+    /**
+     * Returns a view of this generator which generates the dates as epoch millis, which can for example be inserted
+     * into a BIGINT column. The returned generator is a {@link LongValueGenerator}, whose values are thus generated
+     * in bulk, and bound without boxing. Generating a value from the view advances this generator, and vice-versa.
+     * @see #nextEpochMilli()
+     */
+    public LongValueGenerator asEpochMillis() {
+        return new LongValueGenerator() {
+            @Override
+            public long nextLong() {
+                return nextEpochMilli();
+            }
+
+            @Override
+            public Long nextValue() {
+                return nextEpochMilli();
+            }
+
+            @Override
+            public String toString() {
+                return DateSequenceValueGenerator.this + ".asEpochMillis()";
+            }
+        };
+    }
+
+    /**
+     * Returns a view of this generator which generates the dates as local date times in the time zone of the
+     * sequence, which are cheaper to generate than zoned date times, and can be bound directly to timestamp
+     * columns. Generating a value from the view advances this generator, and vice-versa.
+     * @see #nextLocalDateTime()
+     */
+    public ValueGenerator<LocalDateTime> asLocalDateTimes() {
+        return new ValueGenerator<LocalDateTime>() {
+            @Override
+            public LocalDateTime nextValue() {
+                return nextLocalDateTime();
+            }
+
+            @Override
+            public String toString() {
+                return DateSequenceValueGenerator.this + ".asLocalDateTimes()";
+            }
+        };
+    }
+
+    @Override
+    public void jump(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        if (arithmetic) {
+            Duration jumped = Duration.ofSeconds(stepSeconds, stepNanos).multipliedBy(count);
+            Instant instant = Instant.ofEpochSecond(nextSecond, nextNano).plus(jumped);
+            nextSecond = instant.getEpochSecond();
+            nextNano = instant.getNano();
+        }
+        else {
+            next = jump(next, count);
+        }
+    }
+
+    @Override
+    public DateSequenceValueGenerator split(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        DateSequenceValueGenerator result = new DateSequenceValueGenerator(current(), increment, unit);
+        jump(count);
+        return result;
+    }
+
+    /**
+     * Sets the next date, and chooses between the arithmetic mode and the calendar mode. The arithmetic mode is
+     * used when the increment has a fixed duration: when the unit is time-based (in which case the dates are
+     * incremented on the time-line, even in time zones with daylight saving time), or when the unit is the day or
+     * the week, and the time zone has a fixed offset.
+     */
+    private void setNext(ZonedDateTime date) {
+        boolean fixedDuration =
+            unit.isTimeBased() || unit == ChronoUnit.DAYS || unit == ChronoUnit.WEEKS;
+        arithmetic = unit instanceof ChronoUnit
+            && fixedDuration
+            && (unit.isTimeBased() || date.getZone().getRules().isFixedOffset());
+        if (arithmetic) {
+            Duration step = unit.getDuration().multipliedBy(increment);
+            stepSeconds = step.getSeconds();
+            stepNanos = step.getNano();
+            zone = date.getZone();
+            nextSecond = date.toEpochSecond();
+            nextNano = date.getNano();
+            offset = null;
+            offsetStart = Long.MAX_VALUE;
+            offsetEnd = Long.MIN_VALUE;
+            next = null;
+        }
+        else {
+            next = date;
+        }
+    }
+
+    /**
+     * Returns the next date, without advancing the sequence
+     */
+    private ZonedDateTime current() {
+        if (arithmetic) {
+            return ZonedDateTime.ofInstant(Instant.ofEpochSecond(nextSecond, nextNano), zone);
+        }
+        return next;
+    }
+
+    /**
+     * Advances the sequence by one step, in arithmetic mode
+     */
+    private void step() {
+        nextSecond = Math.addExact(nextSecond, stepSeconds);
+        nextNano += stepNanos;
+        if (nextNano >= NANOS_PER_SECOND) {
+            nextNano -= NANOS_PER_SECOND;
+            nextSecond = Math.addExact(nextSecond, 1L);
+        }
+    }
+
+    /**
+     * Computes the offset of the time zone at the next epoch second, and the range of epoch seconds where this offset
+     * is valid, i.e. between the previous and the next transitions of the time zone
+     */
+    private void computeOffset() {
+        ZoneRules rules = zone.getRules();
+        Instant instant = Instant.ofEpochSecond(nextSecond);
+        offset = rules.getOffset(instant);
+        if (rules.isFixedOffset()) {
+            offsetStart = Long.MIN_VALUE;
+            offsetEnd = Long.MAX_VALUE;
+        }
+        else {
+            ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+            ZoneOffsetTransition following = rules.nextTransition(instant);
+            offsetStart = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+            offsetEnd = following == null ? Long.MAX_VALUE : following.toEpochSecond();
+        }
+    }
+
+    private ZonedDateTime jump(ZonedDateTime from, long count) {
+        long amount = Math.multiplyExact(count, (long) increment);
+        if (unit.isTimeBased()) {
+            return from.plus(amount, unit);
+        }
+        if (unit.isDateBased()
+            && (unit == ChronoUnit.DAYS || unit == ChronoUnit.WEEKS || from.getDayOfMonth() <= MAX_SAFE_DAY_OF_MONTH)) {
+            ZonedDateTime result = from.plus(amount, unit);
+            if (!isTransitionCrossed(from, result)) {
+                return result;
+            }
+        }
+        ZonedDateTime result = from;
+        for (long i = 0; i < count; i++) {
+            result = result.plus(increment, unit);
+        }
+        return result;
+    }
+
+    /**
+     * Tells if a transition of the time zone (gap or overlap) happens, between the two given dates, at the time of
+     * day of the first one. If that's the case, the offset or even the time of day of the dates obtained by repeated
+     * increments could differ from the ones obtained by adding the whole amount at once.
+     */
+    private static boolean isTransitionCrossed(ZonedDateTime from, ZonedDateTime to) {
+        ZoneRules rules = from.getZone().getRules();
+        if (rules.isFixedOffset()) {
+            return false;
+        }
+        Instant start = from.isBefore(to) ? from.toInstant() : to.toInstant();
+        Instant end = from.isBefore(to) ? to.toInstant() : from.toInstant();
+        LocalTime timeOfDay = from.toLocalTime();
+        for (ZoneOffsetTransition transition = rules.nextTransition(start.minusSeconds(1));
+             transition != null && !transition.getInstant().isAfter(end);
+             transition = rules.nextTransition(transition.getInstant())) {
+            LocalDateTime before = transition.getDateTimeBefore();
+            LocalDateTime after = transition.getDateTimeAfter();
+            LocalDateTime min = before.isBefore(after) ? before : after;
+            LocalDateTime max = before.isBefore(after) ? after : before;
+            for (LocalDate date = min.toLocalDate(); !date.isAfter(max.toLocalDate()); date = date.plusDays(1)) {
+                LocalDateTime dateTime = date.atTime(timeOfDay);
+                if (!dateTime.isBefore(min) && dateTime.isBefore(max)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @Override
     public String toString() {
         return "DateSequenceValueGenerator["
-               + "next=" + next
+               + "next=" + current()
                + ", increment=" + increment
                + ", unit=" + unit
                + "]";
@@ -0,0 +1,59 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+/**
+ * A {@link ValueGenerator} of double values, which is able to generate its values as primitive doubles, one by one
+ * or in bulk, without boxing them. When the generated values of a column are generated by such a generator, the
+ * {@link com.ninja_squad.dbsetup.operation.Insert} generates them all at once, using
+ * {@link #nextDoubles(double[], int, int)}, stores them in an array of primitive doubles, and binds them without
+ * boxing them.
+ * @see ValueGenerators#randomNormal(long, double, double)
+ * @see ValueGenerators#randomExponential(long, double)
+ * @author JB Nizet
+ */
+public interface DoubleValueGenerator extends ValueGenerator<Double> {
+    /**
+     * Generates the next value, as a primitive double. This method must return the same value as the one that
+     * {@link #nextValue()} would have returned.
+     * @return the next value
+     */
+    double nextDouble();
+
+    /**
+     * Generates the given number of values, and stores them in the given array, starting at the given offset.
+     * The stored values must be the values that successive calls to {@link #nextDouble()} would have returned. The
+     * default implementation simply calls {@link #nextDouble()} in a loop.
+     * @param values the array into which the generated values are stored
+     * @param offset the index, in the array, of the first generated value
+     * @param count the number of values to generate
+     * @throws ArrayIndexOutOfBoundsException if the array is too small to hold all the generated values
+     */
+    default void nextDoubles(double[] values, int offset, int count) {
+        for (int i = offset; i < offset + count; i++) {
+            values[i] = nextDouble();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+import java.util.List;
+
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * A {@link ValueGenerator} which generates each of the values of a list a given number of times, one after the other,
+ * and cycles when the end of the list is reached. Instances of this class are created by
+ * {@link ValueGenerators#roundRobin(List)} and {@link ValueGenerators#fanOut(List, int)}. Since the generated value
+ * only depends on the position of the generator, it can jump over values or be split in constant time.
+ * @param <T> the type of value that this generator generates
+ * @author JB Nizet
+ */
+final class FanOutValueGenerator<T> implements SplittableValueGenerator<T> {
+    private final List<? extends T> values;
+    private final int fanOut;
+    private long position;
+
+    FanOutValueGenerator(List<? extends T> values, int fanOut) {
+        this(values, fanOut, 0L);
+    }
+
+    private FanOutValueGenerator(List<? extends T> values, int fanOut, long position) {
+        this.values = values;
+        this.fanOut = fanOut;
+        this.position = position;
+    }
+
+    @Override
+    public T nextValue() {
+        T result = values.get((int) ((position / fanOut) % values.size()));
+        position++;
+        return result;
+    }
+
+    @Override
+    public void jump(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        position += count;
+    }
+
+    @Override
+    public FanOutValueGenerator<T> split(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        FanOutValueGenerator<T> result = new FanOutValueGenerator<T>(values, fanOut, position);
+        jump(count);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "FanOutValueGenerator["
+               + "values.size=" + values.size()
+               + ", fanOut=" + fanOut
+               + ", position=" + position
+               + "]";
+    }
+}
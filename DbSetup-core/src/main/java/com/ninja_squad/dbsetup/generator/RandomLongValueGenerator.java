@@ -0,0 +1,74 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+/**
+ * A {@link RandomValueGenerator} which generates random long values in a given range. Instances of this class are
+ * created using {@link ValueGenerators#randomLong(long, long, long)}. Being a {@link LongValueGenerator}, it can
+ * generate its values in bulk, without boxing them.
+ * @author JB Nizet
+ */
+public final class RandomLongValueGenerator extends RandomValueGenerator<Long> implements LongValueGenerator {
+    private final long origin;
+    private final long bound;
+
+    RandomLongValueGenerator(long seed, long origin, long bound) {
+        super(seed);
+        this.origin = origin;
+        this.bound = bound;
+    }
+
+    @Override
+    Long generate(long random) {
+        return between(random, origin, bound);
+    }
+
+    @Override
+    RandomLongValueGenerator copy(long seed) {
+        return new RandomLongValueGenerator(seed, origin, bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return between(nextRandom(), origin, bound);
+    }
+
+    @Override
+    public void nextLongs(long[] values, int offset, int count) {
+        for (int i = offset; i < offset + count; i++) {
+            values[i] = between(nextRandom(), origin, bound);
+        }
+    }
+
+    @Override
+    public RandomLongValueGenerator split(long count) {
+        return (RandomLongValueGenerator) super.split(count);
+    }
+
+    @Override
+    String describe() {
+        return super.describe() + ", origin=" + origin + ", bound=" + bound;
+    }
+}
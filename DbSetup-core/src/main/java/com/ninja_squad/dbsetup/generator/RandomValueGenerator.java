@@ -0,0 +1,524 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * Base class of the generators of random values created by the <code>random*()</code> methods of
+ * {@link ValueGenerators}. Such a generator is deterministic: two generators created with the same seed and the same
+ * arguments always generate the same values.
+ * <p>
+ * The random numbers are generated using the algorithm of <code>java.util.SplittableRandom</code>: the n-th random
+ * number used by a generator is the n-th number returned by <code>new SplittableRandom(seed).nextLong()</code>, and
+ * each generated value uses exactly one of these random numbers. Since the n-th number can be computed directly
+ * from the seed, the generator can {@link #jump(long) jump} over values, or be {@link #split(long) split}, in
+ * constant time, and thus be used to generate values in parallel, while generating exactly the same values as a
+ * single generator used sequentially.
+ * @param <T> the type of value that this generator generates
+ * @author JB Nizet
+ */
+public abstract class RandomValueGenerator<T> implements SplittableValueGenerator<T> {
+
+    /**
+     * The increment of the state of the generator, which is also the default gamma used by SplittableRandom
+     */
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * The shift and the unit used to turn a random long into a double between 0 (inclusive) and 1 (exclusive), as
+     * done by SplittableRandom
+     */
+    private static final int DOUBLE_SHIFT = 11;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private final long seed;
+    private long state;
+
+    RandomValueGenerator(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /**
+     * Generates the next value from the given random number
+     */
+    abstract T generate(long random);
+
+    /**
+     * Creates a new generator, generating its values exactly as this one, from the given seed
+     */
+    abstract RandomValueGenerator<T> copy(long seed);
+
+    @Override
+    public final T nextValue() {
+        return generate(nextRandom());
+    }
+
+    /**
+     * Returns the next random number, and advances the state of this generator
+     */
+    final long nextRandom() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    @Override
+    public final void jump(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        state += count * GOLDEN_GAMMA;
+    }
+
+    @Override
+    public RandomValueGenerator<T> split(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        RandomValueGenerator<T> result = copy(seed);
+        result.state = state;
+        jump(count);
+        return result;
+    }
+
+    /**
+     * The mixing function of SplittableRandom, turning a state into a random number
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns a number between 0 (inclusive) and the given bound (exclusive) from the given random number. The bound
+     * is interpreted as an unsigned value, so that the whole range of longs can be used. The returned number is
+     * the high part of the 128-bits product of the random number and of the bound, which avoids the division of
+     * <code>random % bound</code>, and the loop rejecting some random numbers used by SplittableRandom.
+     */
+    static long bounded(long random, long bound) {
+        long randomHigh = random >>> 32;
+        long randomLow = random & 0xFFFFFFFFL;
+        long boundHigh = bound >>> 32;
+        long boundLow = bound & 0xFFFFFFFFL;
+        long lowLow = randomLow * boundLow;
+        long highLow = randomHigh * boundLow;
+        long lowHigh = randomLow * boundHigh;
+        long middle = (lowLow >>> 32) + (highLow & 0xFFFFFFFFL) + (lowHigh & 0xFFFFFFFFL);
+        return randomHigh * boundHigh + (highLow >>> 32) + (lowHigh >>> 32) + (middle >>> 32);
+    }
+
+    /**
+     * Returns a double between 0 (inclusive) and 1 (exclusive) from the given random number
+     */
+    static double toDouble(long random) {
+        return (random >>> DOUBLE_SHIFT) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Returns a number between origin (inclusive) and bound (exclusive) from the given random number
+     */
+    static long between(long random, long origin, long bound) {
+        return origin + bounded(random, bound - origin);
+    }
+
+    String describe() {
+        return "seed=" + seed;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + describe() + "]";
+    }
+
+    /**
+     * Generates random decimals, with a given scale, in a given range
+     */
+    static final class RandomDecimalValueGenerator extends RandomValueGenerator<BigDecimal> {
+        private final long unscaledOrigin;
+        private final long unscaledBound;
+        private final int scale;
+
+        RandomDecimalValueGenerator(long seed, long unscaledOrigin, long unscaledBound, int scale) {
+            super(seed);
+            this.unscaledOrigin = unscaledOrigin;
+            this.unscaledBound = unscaledBound;
+            this.scale = scale;
+        }
+
+        @Override
+        BigDecimal generate(long random) {
+            return BigDecimal.valueOf(between(random, unscaledOrigin, unscaledBound), scale);
+        }
+
+        @Override
+        RandomDecimalValueGenerator copy(long seed) {
+            return new RandomDecimalValueGenerator(seed, unscaledOrigin, unscaledBound, scale);
+        }
+
+        @Override
+        String describe() {
+            return super.describe()
+                + ", origin=" + BigDecimal.valueOf(unscaledOrigin, scale)
+                + ", bound=" + BigDecimal.valueOf(unscaledBound, scale);
+        }
+    }
+
+    /**
+     * Generates random strings made of characters of a given alphabet, with a length in a given range. All the
+     * characters of a string are derived from the single random number used for the string, using a local sequence
+     * of random numbers seeded by this random number.
+     */
+    static final class RandomStringValueGenerator extends RandomValueGenerator<String> {
+        private final String alphabet;
+        private final int minLength;
+        private final int maxLength;
+
+        /**
+         * The buffer in which the characters of the generated strings are stored, reused for every string
+         */
+        private final char[] buffer;
+
+        RandomStringValueGenerator(long seed, String alphabet, int minLength, int maxLength) {
+            super(seed);
+            this.alphabet = alphabet;
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            this.buffer = new char[maxLength];
+        }
+
+        @Override
+        String generate(long random) {
+            int length = (int) between(random, minLength, maxLength + 1L);
+            long characterState = random;
+            for (int i = 0; i < length; i++) {
+                characterState += GOLDEN_GAMMA;
+                buffer[i] = alphabet.charAt((int) bounded(mix64(characterState), alphabet.length()));
+            }
+            return new String(buffer, 0, length);
+        }
+
+        @Override
+        RandomStringValueGenerator copy(long seed) {
+            return new RandomStringValueGenerator(seed, alphabet, minLength, maxLength);
+        }
+
+        @Override
+        String describe() {
+            return super.describe()
+                + ", alphabet='" + alphabet + '\''
+                + ", minLength=" + minLength
+                + ", maxLength=" + maxLength;
+        }
+    }
+
+    /**
+     * Generates random local dates in a given range
+     */
+    static final class RandomDateValueGenerator extends RandomValueGenerator<LocalDate> {
+        private final long originEpochDay;
+        private final long boundEpochDay;
+
+        RandomDateValueGenerator(long seed, long originEpochDay, long boundEpochDay) {
+            super(seed);
+            this.originEpochDay = originEpochDay;
+            this.boundEpochDay = boundEpochDay;
+        }
+
+        @Override
+        LocalDate generate(long random) {
+            return LocalDate.ofEpochDay(between(random, originEpochDay, boundEpochDay));
+        }
+
+        @Override
+        RandomDateValueGenerator copy(long seed) {
+            return new RandomDateValueGenerator(seed, originEpochDay, boundEpochDay);
+        }
+
+        @Override
+        String describe() {
+            return super.describe()
+                + ", origin=" + LocalDate.ofEpochDay(originEpochDay)
+                + ", bound=" + LocalDate.ofEpochDay(boundEpochDay);
+        }
+    }
+
+    /**
+     * Picks random values among given values, each value having a weight. The probability of a value to be picked
+     * is its weight divided by the total weight.
+     */
+    static final class RandomChoiceValueGenerator<T> extends RandomValueGenerator<T> {
+        private final Object[] values;
+
+        /**
+         * The cumulated weights: the value at index i is picked if the random weight is lower than the cumulated
+         * weight at index i, and larger than or equal to the one at index i - 1
+         */
+        private final long[] cumulatedWeights;
+
+        RandomChoiceValueGenerator(long seed, Object[] values, long[] cumulatedWeights) {
+            super(seed);
+            this.values = values;
+            this.cumulatedWeights = cumulatedWeights;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        T generate(long random) {
+            long weight = bounded(random, cumulatedWeights[cumulatedWeights.length - 1]);
+            int index = Arrays.binarySearch(cumulatedWeights, weight);
+            // if the weight is found, the value is the next one with a non-null weight. Otherwise, it's the one at
+            // the insertion point
+            if (index >= 0) {
+                index++;
+                while (cumulatedWeights[index] == weight) {
+                    index++;
+                }
+                return (T) values[index];
+            }
+            return (T) values[-index - 1];
+        }
+
+        @Override
+        RandomChoiceValueGenerator<T> copy(long seed) {
+            return new RandomChoiceValueGenerator<T>(seed, values, cumulatedWeights);
+        }
+
+        @Override
+        String describe() {
+            return super.describe()
+                + ", values=" + Arrays.toString(values)
+                + ", cumulatedWeights=" + Arrays.toString(cumulatedWeights);
+        }
+    }
+
+    /**
+     * Picks random elements of a list, all the elements having the same probability of being picked
+     */
+    static final class RandomElementValueGenerator<T> extends RandomValueGenerator<T> {
+        private final List<? extends T> values;
+
+        RandomElementValueGenerator(long seed, List<? extends T> values) {
+            super(seed);
+            this.values = values;
+        }
+
+        @Override
+        T generate(long random) {
+            return values.get((int) bounded(random, values.size()));
+        }
+
+        @Override
+        RandomElementValueGenerator<T> copy(long seed) {
+            return new RandomElementValueGenerator<T>(seed, values);
+        }
+
+        @Override
+        String describe() {
+            return super.describe() + ", values.size=" + values.size();
+        }
+    }
+
+    /**
+     * Picks random elements of a list, the first elements being picked more often than the last ones. The index of
+     * the picked element is <code>floor(size * u<sup>skew</sup>)</code>, where u is a random number uniformly
+     * distributed between 0 and 1. The probability for the index to be lower than <code>size * x</code> is thus
+     * <code>x<sup>1/skew</sup></code>.
+     */
+    static final class SkewedElementValueGenerator<T> extends RandomValueGenerator<T> {
+        private final List<? extends T> values;
+        private final double skew;
+
+        SkewedElementValueGenerator(long seed, List<? extends T> values, double skew) {
+            super(seed);
+            this.values = values;
+            this.skew = skew;
+        }
+
+        @Override
+        T generate(long random) {
+            double uniform = toDouble(random);
+            int index = (int) (values.size() * Math.pow(uniform, skew));
+            return values.get(Math.min(index, values.size() - 1));
+        }
+
+        @Override
+        SkewedElementValueGenerator<T> copy(long seed) {
+            return new SkewedElementValueGenerator<T>(seed, values, skew);
+        }
+
+        @Override
+        String describe() {
+            return super.describe() + ", values.size=" + values.size() + ", skew=" + skew;
+        }
+    }
+
+    /**
+     * Picks random elements of a list, according to the weights of an alias table, in constant time
+     */
+    static final class AliasElementValueGenerator<T> extends RandomValueGenerator<T> {
+        private final List<? extends T> values;
+        private final AliasTable aliasTable;
+
+        AliasElementValueGenerator(long seed, List<? extends T> values, AliasTable aliasTable) {
+            super(seed);
+            this.values = values;
+            this.aliasTable = aliasTable;
+        }
+
+        @Override
+        T generate(long random) {
+            return values.get(aliasTable.sample(random));
+        }
+
+        @Override
+        AliasElementValueGenerator<T> copy(long seed) {
+            return new AliasElementValueGenerator<T>(seed, values, aliasTable);
+        }
+
+        @Override
+        String describe() {
+            return super.describe() + ", values.size=" + values.size();
+        }
+    }
+
+    /**
+     * Generates random longs following a histogram: a bucket is picked according to the weights of an alias table,
+     * and the value is then uniformly distributed in the bucket. The value is derived from the single random number
+     * used for the value, using a local random number seeded by this random number.
+     */
+    static final class HistogramValueGenerator extends RandomValueGenerator<Long> {
+        /**
+         * The bounds of the buckets: bucket i contains the values between bounds[i] (inclusive) and bounds[i + 1]
+         * (exclusive)
+         */
+        private final long[] bounds;
+        private final AliasTable aliasTable;
+
+        HistogramValueGenerator(long seed, long[] bounds, AliasTable aliasTable) {
+            super(seed);
+            this.bounds = bounds;
+            this.aliasTable = aliasTable;
+        }
+
+        @Override
+        Long generate(long random) {
+            int bucket = aliasTable.sample(random);
+            return between(mix64(random + GOLDEN_GAMMA), bounds[bucket], bounds[bucket + 1]);
+        }
+
+        @Override
+        HistogramValueGenerator copy(long seed) {
+            return new HistogramValueGenerator(seed, bounds, aliasTable);
+        }
+
+        @Override
+        String describe() {
+            return super.describe() + ", bounds=" + Arrays.toString(bounds);
+        }
+    }
+
+    /**
+     * Generates random doubles following a normal distribution, using the Box-Muller transform. The two uniform
+     * numbers needed by the transform are the random number used for the value, and a local random number seeded by
+     * this random number.
+     */
+    static final class NormalValueGenerator extends RandomValueGenerator<Double> implements DoubleValueGenerator {
+        private final double mean;
+        private final double standardDeviation;
+
+        NormalValueGenerator(long seed, double mean, double standardDeviation) {
+            super(seed);
+            this.mean = mean;
+            this.standardDeviation = standardDeviation;
+        }
+
+        @Override
+        Double generate(long random) {
+            return normal(random);
+        }
+
+        @Override
+        public double nextDouble() {
+            return normal(nextRandom());
+        }
+
+        private double normal(long random) {
+            // 1 - u is in (0, 1], and its logarithm is thus finite
+            double radius = Math.sqrt(-2.0 * Math.log(1.0 - toDouble(random)));
+            double angle = 2.0 * Math.PI * toDouble(mix64(random + GOLDEN_GAMMA));
+            return mean + standardDeviation * radius * Math.cos(angle);
+        }
+
+        @Override
+        NormalValueGenerator copy(long seed) {
+            return new NormalValueGenerator(seed, mean, standardDeviation);
+        }
+
+        @Override
+        String describe() {
+            return super.describe() + ", mean=" + mean + ", standardDeviation=" + standardDeviation;
+        }
+    }
+
+    /**
+     * Generates random doubles following an exponential distribution, by inverting its cumulative distribution
+     * function
+     */
+    static final class ExponentialValueGenerator extends RandomValueGenerator<Double> implements DoubleValueGenerator {
+        private final double mean;
+
+        ExponentialValueGenerator(long seed, double mean) {
+            super(seed);
+            this.mean = mean;
+        }
+
+        @Override
+        Double generate(long random) {
+            return exponential(random);
+        }
+
+        @Override
+        public double nextDouble() {
+            return exponential(nextRandom());
+        }
+
+        private double exponential(long random) {
+            return -mean * Math.log(1.0 - toDouble(random));
+        }
+
+        @Override
+        ExponentialValueGenerator copy(long seed) {
+            return new ExponentialValueGenerator(seed, mean);
+        }
+
+        @Override
+        String describe() {
+            return super.describe() + ", mean=" + mean;
+        }
+    }
+}
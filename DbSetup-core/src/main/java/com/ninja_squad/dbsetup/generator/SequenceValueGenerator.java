@@ -24,13 +24,17 @@
 
 package com.ninja_squad.dbsetup.generator;
 
+import com.ninja_squad.dbsetup.util.Preconditions;
+
 /**
  * A {@link ValueGenerator} which generates a sequence of long values. By default, the sequence starts at 1 and
  * increments by 1, but this can be customized. Instances of this class are created using
- * {@link ValueGenerators#sequence()}.
+ * {@link ValueGenerators#sequence()}. Being a {@link LongValueGenerator}, it can generate its values in bulk,
+ * without boxing them, and being a {@link SplittableValueGenerator}, it can jump over values or be split in
+ * constant time.
  * @author JB Nizet
  */
-public final class SequenceValueGenerator implements ValueGenerator<Long> {
+public final class SequenceValueGenerator implements LongValueGenerator, SplittableValueGenerator<Long> {
 
     private long next = 1L;
     private int increment = 1;
@@ -65,11 +69,40 @@ public final class SequenceValueGenerator implements ValueGenerator<Long> {
 
     @Override
     public Long nextValue() {
+        return nextLong();
+    }
+
+    @Override
+    public long nextLong() {
         long result = next;
         next += increment;
         return result;
     }
 
+    @Override
+    public void nextLongs(long[] values, int offset, int count) {
+        long value = next;
+        for (int i = offset; i < offset + count; i++) {
+            values[i] = value;
+            value += increment;
+        }
+        next = value;
+    }
+
+    @Override
+    public void jump(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        next += count * increment;
+    }
+
+    @Override
+    public SequenceValueGenerator split(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        SequenceValueGenerator result = new SequenceValueGenerator(next, increment);
+        jump(count);
+        return result;
+    }
+
     @Override
     public String toString() {
         return "SequenceValueGenerator["
@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+/**
+ * A {@link ValueGenerator} which can jump over any number of values at once, and can be split into several generators
+ * generating disjoint ranges of its sequence. This allows generating the values of a large insert by several
+ * threads, each of them using its own generator, while generating exactly the same values as a single generator
+ * used sequentially:
+ * <pre>
+ *   SequenceValueGenerator second = ValueGenerators.sequence();
+ *   SequenceValueGenerator first = second.split(500_000);
+ *   // first generates the 500,000 first values of the sequence, and second generates the following ones
+ * </pre>
+ * @param <T> the type of value that this generator generates
+ * @author JB Nizet
+ */
+public interface SplittableValueGenerator<T> extends ValueGenerator<T> {
+    /**
+     * Advances this generator by the given number of values, as if {@link #nextValue()} had been called
+     * <code>count</code> times, but without generating the skipped values.
+     * @param count the number of values to skip. Must be &gt;= 0.
+     * @throws IllegalArgumentException if count is negative
+     */
+    void jump(long count);
+
+    /**
+     * Splits this generator in two. The returned generator is a new generator whose <code>count</code> first values
+     * are the <code>count</code> next values of this generator, and this generator jumps over these values. The two
+     * generators are independent from each other.
+     * @param count the number of values of the range handled by the returned generator. Must be &gt;= 0.
+     * @return a new generator, starting at the current position of this generator
+     * @throws IllegalArgumentException if count is negative
+     */
+    SplittableValueGenerator<T> split(long count);
+}
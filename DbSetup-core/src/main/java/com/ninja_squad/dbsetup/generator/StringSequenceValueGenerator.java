@@ -24,15 +24,26 @@
 
 package com.ninja_squad.dbsetup.generator;
 
+import java.util.Arrays;
+
 import com.ninja_squad.dbsetup.util.Preconditions;
 
 /**
  * A {@link ValueGenerator} that returns a string prefix followed by a sequence number, optionally left-padded
  * with 0 to ensure a correct ordering (for example: CODE_001, CODE_002, etc.). Instances of this generator
- * are created by {@link ValueGenerators#stringSequence(String)}.
+ * are created by {@link ValueGenerators#stringSequence(String)}. This generator can jump over values or be split in
+ * constant time.
+ * <p>
+ * The values are formatted into a buffer reused for every value, which already contains the prefix, so that the only
+ * allocation per value is the returned String. Even this allocation can be avoided by using
+ * {@link #nextCharSequence()}.
  * @author JB
  */
-public final class StringSequenceValueGenerator implements ValueGenerator<String> {
+public final class StringSequenceValueGenerator implements SplittableValueGenerator<String> {
+
+    // the number of chars of Long.MIN_VALUE, which is the longest long
+    private static final int MAX_NUMBER_LENGTH = 20;
+
     private String prefix;
     private long next;
     private int increment;
@@ -42,6 +53,17 @@ public final class StringSequenceValueGenerator implements ValueGenerator<String
      */
     private int paddedNumberLength;
 
+    /**
+     * The buffer into which the values are formatted. It starts with the prefix, and is large enough to contain the
+     * longest padded number. It's lazily created, and discarded when the padding changes.
+     */
+    private char[] buffer;
+
+    /**
+     * The view over the buffer returned by {@link #nextCharSequence()}
+     */
+    private final BufferView view = new BufferView();
+
     StringSequenceValueGenerator(String prefix) {
         this(prefix, 1L, 1, 0);
     }
@@ -63,6 +85,7 @@ public final class StringSequenceValueGenerator implements ValueGenerator<String
     public StringSequenceValueGenerator withLeftPadding(int paddedNumberLength) {
         Preconditions.checkArgument(paddedNumberLength > 0, "paddedNumberLength must be > 0");
         this.paddedNumberLength = paddedNumberLength;
+        this.buffer = null;
         return this;
     }
 
@@ -72,6 +95,7 @@ public final class StringSequenceValueGenerator implements ValueGenerator<String
      */
     public StringSequenceValueGenerator withoutLeftPadding() {
         this.paddedNumberLength = 0;
+        this.buffer = null;
         return this;
     }
 
@@ -96,21 +120,79 @@ public final class StringSequenceValueGenerator implements ValueGenerator<String
 
     @Override
     public String nextValue() {
+        int length = formatNext();
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * Generates the next value, as {@link #nextValue()} does, but without creating a String: the returned character
+     * sequence is a view over the internal buffer of this generator, which is reused for every generated value. It's
+     * thus only valid until the next value is generated, and must be consumed (or copied, using
+     * <code>toString()</code>) immediately. This is useful to write many generated values, for example to a
+     * <code>Writer</code> or a <code>StringBuilder</code>, without any allocation per value.
+     * @return a view over the next value, only valid until the next value is generated
+     */
+    public CharSequence nextCharSequence() {
+        view.length = formatNext();
+        return view;
+    }
+
+    @Override
+    public void jump(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        next += count * increment;
+    }
+
+    @Override
+    public StringSequenceValueGenerator split(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        StringSequenceValueGenerator result =
+            new StringSequenceValueGenerator(prefix, next, increment, paddedNumberLength);
+        jump(count);
+        return result;
+    }
+
+    /**
+     * Formats the next value into the buffer, and advances the sequence
+     * @return the length of the formatted value
+     */
+    private int formatNext() {
         long number = next;
         next += increment;
-        return prefix + leftPadIfNecessary(number);
-    }
 
-    private String leftPadIfNecessary(long number) {
-        String numberAsString = Long.toString(number);
-        if (numberAsString.length() >= paddedNumberLength) {
-            return numberAsString;
+        if (buffer == null) {
+            buffer = new char[prefix.length() + Math.max(paddedNumberLength, MAX_NUMBER_LENGTH)];
+            prefix.getChars(0, prefix.length(), buffer, 0);
         }
-        StringBuilder builder = new StringBuilder(paddedNumberLength);
-        for (int i = 0; i < paddedNumberLength - numberAsString.length(); i++) {
-            builder.append('0');
+        int numberLength = numberLength(number);
+        int paddingLength = Math.max(paddedNumberLength - numberLength, 0);
+        int end = prefix.length() + paddingLength + numberLength;
+        Arrays.fill(buffer, prefix.length(), prefix.length() + paddingLength, '0');
+
+        // the digits are written from the last one, using a negative number to also support Long.MIN_VALUE
+        int position = end;
+        long remaining = number < 0 ? number : -number;
+        do {
+            buffer[--position] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (number < 0) {
+            buffer[--position] = '-';
         }
-        return builder.append(numberAsString).toString();
+        return end;
+    }
+
+    /**
+     * Returns the number of chars of the given number, including the minus sign
+     */
+    private static int numberLength(long number) {
+        int length = number < 0 ? 2 : 1;
+        long remaining = number < 0 ? number : -number;
+        while (remaining <= -10) {
+            remaining /= 10;
+            length++;
+        }
+        return length;
     }
 
     @Override
@@ -122,4 +204,34 @@ public final class StringSequenceValueGenerator implements ValueGenerator<String
                + ", paddedNumberLength=" + paddedNumberLength
                + "]";
     }
+
+    /**
+     * A character sequence over the first chars of the buffer
+     */
+    private final class BufferView implements CharSequence {
+        private int length;
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+            }
+            return buffer[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, 0, length);
+        }
+    }
 }
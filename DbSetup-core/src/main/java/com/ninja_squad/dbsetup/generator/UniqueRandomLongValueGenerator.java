@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * A {@link ValueGenerator} which generates unique, random-looking long values in a given range, typically used to
+ * fill unique columns. Instances of this class are created using
+ * {@link ValueGenerators#uniqueRandomLong(long, long, long)}.
+ * <p>
+ * Rather than remembering the values generated so far, the generator walks a pseudo-random permutation of the range,
+ * keyed by the seed: the n-th generated value is the image of n by the permutation. The permutation is a balanced
+ * Feistel network over the smallest even number of bits able to represent all the indices of the range, and the
+ * images which fall outside of the range are permuted again until they fall in it (cycle walking). Generating a value
+ * thus takes constant time on average, and the generator only uses a constant amount of memory, whatever the number
+ * of generated values.
+ * <p>
+ * The generated values are determined by the seed: two generators created with the same arguments generate the same
+ * values. Once all the values of the range have been generated, the generator throws an
+ * <code>IllegalStateException</code>. Being a {@link LongValueGenerator}, it can generate its values in bulk,
+ * without boxing them, and being a {@link SplittableValueGenerator}, it can jump over values or be split in
+ * constant time, the values generated by split generators being unique as well.
+ * @author JB Nizet
+ */
+public final class UniqueRandomLongValueGenerator implements LongValueGenerator, SplittableValueGenerator<Long> {
+
+    /**
+     * The number of rounds of the Feistel network
+     */
+    private static final int ROUNDS = 6;
+
+    private final long seed;
+    private final long origin;
+
+    /**
+     * The number of values in the range
+     */
+    private final long size;
+
+    /**
+     * The number of bits of each half of the permuted numbers, and the corresponding mask
+     */
+    private final int halfBits;
+    private final long halfMask;
+
+    /**
+     * The keys of the rounds of the Feistel network, derived from the seed
+     */
+    private final long[] roundKeys;
+
+    /**
+     * The index, in the range, of the next value to permute
+     */
+    private long index;
+
+    UniqueRandomLongValueGenerator(long seed, long origin, long bound) {
+        this(seed, origin, bound - origin, createRoundKeys(seed), 0L);
+    }
+
+    private UniqueRandomLongValueGenerator(long seed, long origin, long size, long[] roundKeys, long index) {
+        this.seed = seed;
+        this.origin = origin;
+        this.size = size;
+        int bits = 64 - Long.numberOfLeadingZeros(size - 1);
+        this.halfBits = Math.max(1, (bits + 1) / 2);
+        this.halfMask = (1L << halfBits) - 1;
+        this.roundKeys = roundKeys;
+        this.index = index;
+    }
+
+    private static long[] createRoundKeys(long seed) {
+        long[] result = new long[ROUNDS];
+        long state = seed;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += RandomValueGenerator.GOLDEN_GAMMA;
+            result[i] = RandomValueGenerator.mix64(state);
+        }
+        return result;
+    }
+
+    @Override
+    public Long nextValue() {
+        return nextLong();
+    }
+
+    @Override
+    public long nextLong() {
+        Preconditions.checkState(index < size, "all the values of the range have already been generated");
+        long result = origin + permute(index);
+        index++;
+        return result;
+    }
+
+    @Override
+    public void nextLongs(long[] values, int offset, int count) {
+        Preconditions.checkState(count <= size - index, "all the values of the range have already been generated");
+        for (int i = offset; i < offset + count; i++) {
+            values[i] = origin + permute(index);
+            index++;
+        }
+    }
+
+    /**
+     * Returns the image of the given index, lower than size, by the permutation of the range
+     */
+    private long permute(long value) {
+        long result = value;
+        do {
+            result = feistel(result);
+        } while (Long.compareUnsigned(result, size) >= 0);
+        return result;
+    }
+
+    /**
+     * Permutes the given number of 2 * halfBits bits
+     */
+    private long feistel(long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long roundKey : roundKeys) {
+            long newRight = left ^ (RandomValueGenerator.mix64(right ^ roundKey) & halfMask);
+            left = right;
+            right = newRight;
+        }
+        return (left << halfBits) | right;
+    }
+
+    @Override
+    public void jump(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        index += count;
+    }
+
+    @Override
+    public UniqueRandomLongValueGenerator split(long count) {
+        Preconditions.checkArgument(count >= 0, "count must be >= 0");
+        UniqueRandomLongValueGenerator result =
+            new UniqueRandomLongValueGenerator(seed, origin, size, roundKeys, index);
+        jump(count);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "UniqueRandomLongValueGenerator["
+               + "seed=" + seed
+               + ", origin=" + origin
+               + ", bound=" + (origin + size)
+               + ", index=" + index
+               + "]";
+    }
+}
@@ -24,10 +24,17 @@
 
 package com.ninja_squad.dbsetup.generator;
 
+import com.ninja_squad.dbsetup.destination.Destination;
 import com.ninja_squad.dbsetup.util.Preconditions;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Utility class containing factory methods for {@link ValueGenerator}
@@ -84,4 +91,324 @@ public final class ValueGenerators {
     public static DateSequenceValueGenerator dateSequence() {
         return new DateSequenceValueGenerator();
     }
+
+    /**
+     * Returns a value generator which generates keys from the given database sequence, reserving blocks of
+     * <code>blockSize</code> values with a single query. The sequence must be incremented by the block size.
+     * @param destination the destination used to get a connection to query the sequence, typically the destination of
+     * the DbSetup launching the operations
+     * @param sequenceName the name of the sequence
+     * @param blockSize the number of values reserved by each value of the sequence. Must be &gt; 0.
+     * @see DatabaseSequenceValueGenerator
+     */
+    public static DatabaseSequenceValueGenerator databaseSequence(@Nonnull Destination destination,
+                                                                  @Nonnull String sequenceName,
+                                                                  int blockSize) {
+        Preconditions.checkNotNull(destination, "destination may not be null");
+        Preconditions.checkNotNull(sequenceName, "sequenceName may not be null");
+        Preconditions.checkArgument(blockSize > 0, "blockSize must be > 0");
+        return new DatabaseSequenceValueGenerator(destination, sequenceName, blockSize);
+    }
+
+    /**
+     * Returns a value generator which generates random long values between the given origin (inclusive) and the
+     * given bound (exclusive). The generated values are determined by the seed: two generators created with the same
+     * arguments generate the same values.
+     * @see RandomValueGenerator
+     */
+    public static RandomLongValueGenerator randomLong(long seed, long origin, long bound) {
+        Preconditions.checkArgument(origin < bound, "origin must be lower than bound");
+        return new RandomLongValueGenerator(seed, origin, bound);
+    }
+
+    /**
+     * Returns a value generator which generates unique random long values between the given origin (inclusive) and
+     * the given bound (exclusive), typically used to fill unique columns, without having to remember the values
+     * generated so far or to retry on constraint violations. Once all the values of the range have been generated,
+     * the generator throws an <code>IllegalStateException</code>. The generated values are determined by the seed:
+     * two generators created with the same arguments generate the same values.
+     * @throws IllegalArgumentException if origin is not lower than bound, or if the number of values in the range
+     * doesn't fit in a long
+     * @see UniqueRandomLongValueGenerator
+     */
+    public static UniqueRandomLongValueGenerator uniqueRandomLong(long seed, long origin, long bound) {
+        Preconditions.checkArgument(origin < bound, "origin must be lower than bound");
+        Preconditions.checkArgument(bound - origin > 0, "the range is too large");
+        return new UniqueRandomLongValueGenerator(seed, origin, bound);
+    }
+
+    /**
+     * Returns a value generator which generates random decimal values with the given scale, between the given origin
+     * (inclusive) and the given bound (exclusive). For example, <code>randomDecimal(seed, 0, 100, 2)</code> generates
+     * values such as 12.57 or 99.99. The generated values are determined by the seed: two generators created with the
+     * same arguments generate the same values.
+     * @param scale the number of digits after the decimal point of the generated values. Must be &gt;= 0.
+     * @throws IllegalArgumentException if origin is not lower than bound, or if their unscaled values, with the
+     * given scale, don't fit in a long
+     * @see RandomValueGenerator
+     */
+    public static RandomValueGenerator<BigDecimal> randomDecimal(long seed,
+                                                                 @Nonnull BigDecimal origin,
+                                                                 @Nonnull BigDecimal bound,
+                                                                 int scale) {
+        Preconditions.checkNotNull(origin, "origin may not be null");
+        Preconditions.checkNotNull(bound, "bound may not be null");
+        Preconditions.checkArgument(scale >= 0, "scale must be >= 0");
+        Preconditions.checkArgument(origin.compareTo(bound) < 0, "origin must be lower than bound");
+        try {
+            long unscaledOrigin = origin.setScale(scale, RoundingMode.CEILING).unscaledValue().longValueExact();
+            long unscaledBound = bound.setScale(scale, RoundingMode.CEILING).unscaledValue().longValueExact();
+            Preconditions.checkArgument(unscaledOrigin < unscaledBound,
+                                        "no value with this scale between origin and bound");
+            return new RandomValueGenerator.RandomDecimalValueGenerator(seed, unscaledOrigin, unscaledBound, scale);
+        }
+        catch (ArithmeticException e) {
+            throw new IllegalArgumentException("origin and bound are too large for the scale " + scale, e);
+        }
+    }
+
+    /**
+     * Returns a value generator which generates random strings made of characters of the given alphabet, whose length
+     * is between the given minimum and maximum lengths (both inclusive). The generated values are determined by the
+     * seed: two generators created with the same arguments generate the same values.
+     * @param alphabet the characters that the generated strings may contain, for example
+     * <code>"ABCDEFGHIJKLMNOPQRSTUVWXYZ"</code>. May not be empty.
+     * @see RandomValueGenerator
+     */
+    public static RandomValueGenerator<String> randomString(long seed,
+                                                            @Nonnull String alphabet,
+                                                            int minLength,
+                                                            int maxLength) {
+        Preconditions.checkNotNull(alphabet, "alphabet may not be null");
+        Preconditions.checkArgument(!alphabet.isEmpty(), "alphabet may not be empty");
+        Preconditions.checkArgument(minLength >= 0, "minLength must be >= 0");
+        Preconditions.checkArgument(maxLength >= minLength, "maxLength must be >= minLength");
+        return new RandomValueGenerator.RandomStringValueGenerator(seed, alphabet, minLength, maxLength);
+    }
+
+    /**
+     * Returns a value generator which generates random dates between the given origin (inclusive) and the given bound
+     * (exclusive). The generated values are determined by the seed: two generators created with the same arguments
+     * generate the same values.
+     * @see RandomValueGenerator
+     */
+    public static RandomValueGenerator<LocalDate> randomDate(long seed,
+                                                             @Nonnull LocalDate origin,
+                                                             @Nonnull LocalDate bound) {
+        Preconditions.checkNotNull(origin, "origin may not be null");
+        Preconditions.checkNotNull(bound, "bound may not be null");
+        Preconditions.checkArgument(origin.isBefore(bound), "origin must be before bound");
+        return new RandomValueGenerator.RandomDateValueGenerator(seed, origin.toEpochDay(), bound.toEpochDay());
+    }
+
+    /**
+     * Returns a value generator which randomly picks one of the given values, all the values having the same
+     * probability of being picked. The generated values are determined by the seed: two generators created with the
+     * same arguments generate the same values.
+     * @see RandomValueGenerator
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> RandomValueGenerator<T> randomChoice(long seed, @Nonnull T... values) {
+        Preconditions.checkNotNull(values, "values may not be null");
+        Preconditions.checkArgument(values.length > 0, "values may not be empty");
+        return new RandomValueGenerator.RandomElementValueGenerator<T>(seed, Arrays.asList(values.clone()));
+    }
+
+    /**
+     * Returns a value generator which randomly picks one of the keys of the given map, the probability of a key to be
+     * picked being its weight (i.e. its value in the map) divided by the sum of all the weights. For example, the
+     * following generator picks NORMAL 90% of the time, and HIGH_PRIORITY 10% of the time:
+     * <pre>
+     *     Map&lt;ClientType, Integer&gt; weights = new EnumMap&lt;ClientType, Integer&gt;(ClientType.class);
+     *     weights.put(ClientType.NORMAL, 9);
+     *     weights.put(ClientType.HIGH_PRIORITY, 1);
+     *     ValueGenerators.randomChoice(seed, weights);
+     * </pre>
+     * The generated values are determined by the seed and by the iteration order of the map: two generators created
+     * with the same seed and maps iterating over the same entries in the same order generate the same values. An
+     * EnumMap, a LinkedHashMap or a SortedMap should thus be used.
+     * @param weights the weights of the values. They must be &gt;= 0, and their sum must be &gt; 0.
+     * @see RandomValueGenerator
+     */
+    public static <T> RandomValueGenerator<T> randomChoice(long seed, @Nonnull Map<T, Integer> weights) {
+        Preconditions.checkNotNull(weights, "weights may not be null");
+        Object[] values = new Object[weights.size()];
+        long[] cumulatedWeights = new long[weights.size()];
+        long total = 0L;
+        int i = 0;
+        for (Map.Entry<T, Integer> entry : weights.entrySet()) {
+            Integer weight = entry.getValue();
+            Preconditions.checkArgument(weight != null && weight >= 0, "weights must be >= 0");
+            total += weight;
+            values[i] = entry.getKey();
+            cumulatedWeights[i] = total;
+            i++;
+        }
+        Preconditions.checkArgument(total > 0, "the sum of the weights must be > 0");
+        return new RandomValueGenerator.RandomChoiceValueGenerator<T>(seed, values, cumulatedWeights);
+    }
+
+    /**
+     * Returns a value generator which generates the values of the given list, one after the other, and starts again
+     * from the first one once the last one has been generated. The list is typically the list of the primary keys of
+     * another table, obtained using {@link com.ninja_squad.dbsetup.operation.Insert#getColumnValues(String)}, and the
+     * generator is used to generate a foreign key referencing these primary keys, without any query to the database.
+     * @param values the values to generate. The list must not be empty, and must not be modified once passed to this
+     * method.
+     * @see #fanOut(List, int)
+     */
+    public static <T> SplittableValueGenerator<T> roundRobin(@Nonnull List<? extends T> values) {
+        return fanOut(values, 1);
+    }
+
+    /**
+     * Returns a value generator which generates each value of the given list the given number of times, one after the
+     * other, and starts again from the first one once the last one has been generated the given number of times.
+     * For example, if the list contains the primary keys of clients, and the generator is used to generate the client
+     * foreign key of orders, with a fan-out of 3, the first 3 orders reference the first client, the next 3 ones the
+     * second client, and so on.
+     * @param values the values to generate. The list must not be empty, and must not be modified once passed to this
+     * method.
+     * @param fanOut the number of times each value is generated. Must be &gt; 0.
+     * @see com.ninja_squad.dbsetup.operation.Insert#getColumnValues(String)
+     */
+    public static <T> SplittableValueGenerator<T> fanOut(@Nonnull List<? extends T> values, int fanOut) {
+        Preconditions.checkNotNull(values, "values may not be null");
+        Preconditions.checkArgument(!values.isEmpty(), "values may not be empty");
+        Preconditions.checkArgument(fanOut > 0, "fanOut must be > 0");
+        return new FanOutValueGenerator<T>(values, fanOut);
+    }
+
+    /**
+     * Returns a value generator which randomly picks one of the values of the given list, all the values having the
+     * same probability of being picked. The generated values are determined by the seed: two generators created with
+     * the same arguments generate the same values.
+     * @param values the values to pick from, typically obtained using
+     * {@link com.ninja_squad.dbsetup.operation.Insert#getColumnValues(String)}. The list must not be empty, and must
+     * not be modified once passed to this method.
+     * @see RandomValueGenerator
+     */
+    public static <T> RandomValueGenerator<T> randomElement(long seed, @Nonnull List<? extends T> values) {
+        Preconditions.checkNotNull(values, "values may not be null");
+        Preconditions.checkArgument(!values.isEmpty(), "values may not be empty");
+        return new RandomValueGenerator.RandomElementValueGenerator<T>(seed, values);
+    }
+
+    /**
+     * Returns a value generator which randomly picks one of the values of the given list, the first values of the list
+     * being picked more often than the last ones. This allows generating, for example, orders referencing a few
+     * clients very often, and most of the clients rarely. The larger the skew, the more the first values are
+     * favored: with a skew of 1, all the values have the same probability of being picked, and with a skew of 2, the
+     * first quarter of the values is picked half of the time. The generated values are determined by the seed: two
+     * generators created with the same arguments generate the same values.
+     * @param values the values to pick from, typically obtained using
+     * {@link com.ninja_squad.dbsetup.operation.Insert#getColumnValues(String)}. The list must not be empty, and must
+     * not be modified once passed to this method.
+     * @param skew the skew of the distribution. Must be &gt;= 1.
+     * @see RandomValueGenerator
+     */
+    public static <T> RandomValueGenerator<T> skewedElement(long seed,
+                                                            @Nonnull List<? extends T> values,
+                                                            double skew) {
+        Preconditions.checkNotNull(values, "values may not be null");
+        Preconditions.checkArgument(!values.isEmpty(), "values may not be empty");
+        Preconditions.checkArgument(skew >= 1.0, "skew must be >= 1");
+        return new RandomValueGenerator.SkewedElementValueGenerator<T>(seed, values, skew);
+    }
+
+    /**
+     * Returns a value generator which randomly picks one of the values of the given list following a Zipf
+     * distribution: the probability of the value of rank k (starting at 1) to be picked is proportional to
+     * <code>1 / k<sup>exponent</sup></code>. This reproduces the skew of real data, where a few hot keys are referenced
+     * much more often than the others. With an exponent of 1, for example, the first value is picked twice as often
+     * as the second one, and ten times as often as the tenth one. The probabilities are precomputed as an alias table
+     * when the generator is created, so that each value is picked in constant time. The generated values are
+     * determined by the seed: two generators created with the same arguments generate the same values.
+     * @param values the values to pick from, typically obtained using
+     * {@link com.ninja_squad.dbsetup.operation.Insert#getColumnValues(String)}. The list must not be empty, and must
+     * not be modified once passed to this method.
+     * @param exponent the exponent of the distribution. Must be &gt;= 0. An exponent of 0 generates uniformly
+     * distributed values.
+     * @see RandomValueGenerator
+     */
+    public static <T> RandomValueGenerator<T> zipfElement(long seed,
+                                                          @Nonnull List<? extends T> values,
+                                                          double exponent) {
+        Preconditions.checkNotNull(values, "values may not be null");
+        Preconditions.checkArgument(!values.isEmpty(), "values may not be empty");
+        Preconditions.checkArgument(exponent >= 0.0 && !Double.isInfinite(exponent), "exponent must be >= 0");
+        double[] weights = new double[values.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, exponent);
+        }
+        return new RandomValueGenerator.AliasElementValueGenerator<T>(seed, values, new AliasTable(weights));
+    }
+
+    /**
+     * Returns a value generator which generates random long values following the given histogram, such as the ones
+     * computed by databases to describe the distribution of the values of a column. The histogram is made of
+     * consecutive buckets: the bucket i contains the values between <code>bounds[i]</code> (inclusive) and
+     * <code>bounds[i + 1]</code> (exclusive), and the probability of a value to be in the bucket i is proportional to
+     * <code>frequencies[i]</code>. Inside a bucket, the values are uniformly distributed. For example, the following
+     * generator generates amounts between 0 and 10 half of the time, and between 10 and 1000 the other half:
+     * <pre>
+     *     ValueGenerators.randomHistogram(seed, new long[] {0, 10, 1000}, new long[] {1, 1});
+     * </pre>
+     * The frequencies are precomputed as an alias table when the generator is created, so that each value is
+     * generated in constant time. The generated values are determined by the seed: two generators created with the
+     * same arguments generate the same values.
+     * @param bounds the bounds of the buckets. They must be in strictly ascending order, and there must be one more
+     * bound than frequencies.
+     * @param frequencies the frequencies of the buckets. They must be &gt;= 0, and their sum must be &gt; 0.
+     * @see RandomValueGenerator
+     */
+    public static RandomValueGenerator<Long> randomHistogram(long seed,
+                                                             @Nonnull long[] bounds,
+                                                             @Nonnull long[] frequencies) {
+        Preconditions.checkNotNull(bounds, "bounds may not be null");
+        Preconditions.checkNotNull(frequencies, "frequencies may not be null");
+        Preconditions.checkArgument(frequencies.length > 0, "frequencies may not be empty");
+        Preconditions.checkArgument(bounds.length == frequencies.length + 1,
+                                    "there must be one more bound than frequencies");
+        double[] weights = new double[frequencies.length];
+        long total = 0L;
+        for (int i = 0; i < frequencies.length; i++) {
+            Preconditions.checkArgument(bounds[i] < bounds[i + 1], "bounds must be in strictly ascending order");
+            Preconditions.checkArgument(frequencies[i] >= 0, "frequencies must be >= 0");
+            total += frequencies[i];
+            weights[i] = frequencies[i];
+        }
+        Preconditions.checkArgument(total > 0, "the sum of the frequencies must be > 0");
+        return new RandomValueGenerator.HistogramValueGenerator(seed, bounds.clone(), new AliasTable(weights));
+    }
+
+    /**
+     * Returns a value generator which generates random double values following a normal (Gaussian) distribution with
+     * the given mean and standard deviation. Each value is generated in constant time. The generated values are
+     * determined by the seed: two generators created with the same arguments generate the same values. The returned
+     * generator is a {@link DoubleValueGenerator}, whose values are thus generated and bound without being boxed.
+     * @param standardDeviation the standard deviation of the distribution. Must be &gt;= 0.
+     * @see RandomValueGenerator
+     */
+    public static RandomValueGenerator<Double> randomNormal(long seed, double mean, double standardDeviation) {
+        Preconditions.checkArgument(!Double.isNaN(mean) && !Double.isInfinite(mean), "mean must be finite");
+        Preconditions.checkArgument(standardDeviation >= 0.0 && !Double.isInfinite(standardDeviation),
+                                    "standardDeviation must be >= 0");
+        return new RandomValueGenerator.NormalValueGenerator(seed, mean, standardDeviation);
+    }
+
+    /**
+     * Returns a value generator which generates random positive double values following an exponential distribution
+     * with the given mean, typically used to generate durations or delays between events. Each value is generated in
+     * constant time. The generated values are determined by the seed: two generators created with the same arguments
+     * generate the same values. The returned generator is a {@link DoubleValueGenerator}, whose values are thus
+     * generated and bound without being boxed.
+     * @param mean the mean of the distribution. Must be &gt; 0.
+     * @see RandomValueGenerator
+     */
+    public static RandomValueGenerator<Double> randomExponential(long seed, double mean) {
+        Preconditions.checkArgument(mean > 0.0 && !Double.isInfinite(mean), "mean must be > 0");
+        return new RandomValueGenerator.ExponentialValueGenerator(seed, mean);
+    }
 }
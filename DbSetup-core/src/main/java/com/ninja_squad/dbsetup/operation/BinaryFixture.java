@@ -0,0 +1,343 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import com.ninja_squad.dbsetup.bind.Binder;
+import com.ninja_squad.dbsetup.bind.BinderConfiguration;
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * Operation which inserts all the rows stored in a binary fixture file. Such a file contains the rows of one or
+ * several tables, and is typically created by exporting tables of an existing database using the
+ * {@link com.ninja_squad.dbsetup.export.FixtureExporter}, or written programmatically using a {@link Writer}.
+ * Example usage:
+ * <pre>
+ *   BinaryFixture.Writer writer = BinaryFixture.writer(Paths.get("target/vendors.dbsetup"));
+ *   try {
+ *       writer.startTable("VENDOR", Arrays.asList("ID", "CODE", "NAME"));
+ *       writer.writeRow(1L, "AMA", "AMAZON");
+ *       writer.writeRow(2L, "PMI", "PHILIP MORRIS");
+ *   }
+ *   finally {
+ *       writer.close();
+ *   }
+ *
+ *   Operation operation = BinaryFixture.from(Paths.get("target/vendors.dbsetup"));
+ * </pre>
+ *
+ * Every value is stored in the file with its type (string, number, date, etc.) in a compact binary form, so that
+ * reading the file is much faster than parsing a textual format. The tables are inserted in the order they've been
+ * written. The file is read while the operation is executed, one row at a time, and every row is directly bound to
+ * the insert statement and added to a JDBC batch, so that the rows of the file are never all stored in memory.
+ * <p>
+ * The values are read from the file with the type they had when they were written, and are bound using the binder
+ * returned by the {@link BinderConfiguration}, just as the values of an {@link Insert}.
+ * <p>
+ * Note that two BinaryFixture operations are equal if they read the same file with the same batch size, regardless
+ * of the content of the file.
+ * @author JB Nizet
+ */
+@Immutable
+public final class BinaryFixture implements Operation {
+
+    /**
+     * The default number of rows sent to the database in a single JDBC batch
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final Path file;
+    private final int batchSize;
+
+    private BinaryFixture(Path file, int batchSize) {
+        this.file = file;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Creates an operation inserting the rows stored in the given fixture file, using the
+     * {@link #DEFAULT_BATCH_SIZE default batch size}
+     * @param file the binary fixture file
+     * @return the created operation
+     */
+    public static BinaryFixture from(@Nonnull Path file) {
+        return from(file, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates an operation inserting the rows stored in the given fixture file
+     * @param file the binary fixture file
+     * @param batchSize the number of rows sent to the database in a single JDBC batch. If 1, or if the database
+     * doesn't support batch updates, the rows are inserted one by one.
+     * @return the created operation
+     */
+    public static BinaryFixture from(@Nonnull Path file, int batchSize) {
+        Preconditions.checkNotNull(file, "file may not be null");
+        Preconditions.checkArgument(batchSize > 0, "batchSize must be > 0");
+        return new BinaryFixture(file, batchSize);
+    }
+
+    /**
+     * Creates a writer writing a new binary fixture file. The file is created, or replaced if it already exists.
+     * @param file the file to write
+     * @return the created writer, which must be closed once all the rows have been written
+     * @throws IOException if the file can't be created
+     */
+    public static Writer writer(@Nonnull Path file) throws IOException {
+        Preconditions.checkNotNull(file, "file may not be null");
+        return new Writer(new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file))));
+    }
+
+    /**
+     * Reads the fixture file and inserts its rows in their respective table.
+     * @throws SQLException if the file can't be read or is not a valid fixture file, or if inserting the rows fails.
+     */
+    @Override
+    public void execute(Connection connection, BinderConfiguration configuration) throws SQLException {
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+            try {
+                readHeader(in);
+                byte tag = in.readByte();
+                while (tag == FixtureFormat.TABLE) {
+                    insertTable(in, connection, configuration);
+                    tag = in.readByte();
+                }
+                if (tag != FixtureFormat.END_OF_FILE) {
+                    throw new IOException("Unexpected tag " + tag + ", expected the start of a table");
+                }
+            }
+            finally {
+                in.close();
+            }
+        }
+        catch (IOException e) {
+            throw new SQLException("Unable to read the binary fixture file " + file, e);
+        }
+    }
+
+    private void readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != FixtureFormat.MAGIC) {
+            throw new IOException(file + " is not a binary fixture file");
+        }
+        short version = in.readShort();
+        if (version < FixtureFormat.MIN_VERSION || version > FixtureFormat.VERSION) {
+            throw new IOException("Unsupported binary fixture version: " + version);
+        }
+    }
+
+    private void insertTable(DataInputStream in, Connection connection, BinderConfiguration configuration)
+        throws IOException, SQLException {
+        String table = FixtureFormat.readString(in);
+        int columnCount = FixtureFormat.readLength(in, 4);
+        List<String> columnNames = new ArrayList<String>();
+        for (int i = 0; i < columnCount; i++) {
+            columnNames.add(FixtureFormat.readString(in));
+        }
+
+        RowInserter inserter = RowInserter.prepare(connection,
+                                                   table,
+                                                   columnNames,
+                                                   Collections.<String, Binder>emptyMap(),
+                                                   true,
+                                                   configuration,
+                                                   batchSize);
+        try {
+            byte tag = in.readByte();
+            while (tag == FixtureFormat.ROW) {
+                for (int i = 0; i < columnCount; i++) {
+                    inserter.bind(i, FixtureFormat.readValue(in));
+                }
+                inserter.insertRow();
+                tag = in.readByte();
+            }
+            if (tag != FixtureFormat.END_OF_TABLE) {
+                throw new IOException("Unexpected tag " + tag + " in the rows of table " + table);
+            }
+            inserter.finish();
+        }
+        finally {
+            inserter.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "insert from binary fixture file " + file + " [batchSize=" + batchSize + "]";
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + file.hashCode();
+        result = prime * result + batchSize;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        BinaryFixture other = (BinaryFixture) obj;
+        return file.equals(other.file)
+               && batchSize == other.batchSize;
+    }
+
+    /**
+     * Writes a binary fixture file, one table after the other, and one row after the other. Only the row being written
+     * is kept in memory, so that arbitrarily large tables can be written. A writer is not thread-safe.
+     * <p>
+     * The supported value types are strings, booleans, numbers (<code>Byte</code>, <code>Short</code>,
+     * <code>Integer</code>, <code>Long</code>, <code>Float</code>, <code>Double</code>, <code>BigInteger</code>
+     * and <code>BigDecimal</code>), byte arrays, enums, <code>java.sql.Date</code>,
+     * <code>java.sql.Time</code>, <code>java.sql.Timestamp</code>, <code>LocalDate</code>, <code>LocalTime</code>,
+     * <code>LocalDateTime</code>, <code>OffsetDateTime</code> and <code>Instant</code>. Enums are stored with the
+     * name of their class, which must thus be loadable when the file is read.
+     * @see BinaryFixture#writer(Path)
+     * @author JB Nizet
+     */
+    public static final class Writer implements Closeable {
+        private final DataOutputStream out;
+
+        /**
+         * The buffer in which a row is written before being written to the file, so that a row containing a value
+         * which can't be written doesn't corrupt the file
+         */
+        private final ByteArrayOutputStream rowBuffer = new ByteArrayOutputStream();
+        private final DataOutputStream rowOut = new DataOutputStream(rowBuffer);
+        private String table;
+        private List<String> columns;
+        private boolean closed;
+
+        private Writer(DataOutputStream out) throws IOException {
+            this.out = out;
+            out.writeInt(FixtureFormat.MAGIC);
+            out.writeShort(FixtureFormat.VERSION);
+        }
+
+        /**
+         * Starts writing the rows of a new table. The rows of the previous table, if any, are considered complete.
+         * @param table the name of the table
+         * @param columns the names of the columns of the rows which will be written
+         * @throws IOException if writing to the file fails
+         * @throws IllegalStateException if the writer is closed
+         * @throws IllegalArgumentException if there is no column
+         */
+        public void startTable(@Nonnull String table, @Nonnull List<String> columns) throws IOException {
+            Preconditions.checkState(!closed, "The writer is closed");
+            Preconditions.checkNotNull(table, "table may not be null");
+            Preconditions.checkNotNull(columns, "columns may not be null");
+            Preconditions.checkArgument(!columns.isEmpty(), "At least one column must be specified");
+            endTable();
+            out.writeByte(FixtureFormat.TABLE);
+            FixtureFormat.writeString(out, table);
+            out.writeInt(columns.size());
+            for (String column : columns) {
+                Preconditions.checkNotNull(column, "column may not be null");
+                FixtureFormat.writeString(out, column);
+            }
+            this.table = table;
+            this.columns = new ArrayList<String>(columns);
+        }
+
+        /**
+         * Writes a row of the current table.
+         * @param values the values of the row, in the same order as the columns passed to
+         * {@link #startTable(String, List)}
+         * @throws IOException if writing to the file fails
+         * @throws IllegalStateException if the writer is closed or if no table has been started
+         * @throws IllegalArgumentException if the number of values is not the number of columns, or if a value has
+         * an unsupported type. Nothing is written to the file in that case.
+         */
+        public void writeRow(@Nonnull Object... values) throws IOException {
+            Preconditions.checkState(!closed, "The writer is closed");
+            Preconditions.checkState(columns != null, "No table has been started");
+            Preconditions.checkArgument(values.length == columns.size(),
+                                        "The number of values doesn't match the number of columns");
+            rowBuffer.reset();
+            rowOut.writeByte(FixtureFormat.ROW);
+            for (int i = 0; i < values.length; i++) {
+                try {
+                    FixtureFormat.writeValue(rowOut, values[i]);
+                }
+                catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("The value of the column " + columns.get(i) + " of the table "
+                                                       + table + " can't be written: " + e.getMessage(), e);
+                }
+            }
+            rowBuffer.writeTo(out);
+        }
+
+        /**
+         * Terminates the file and closes the writer. Closing an already closed writer has no effect.
+         * @throws IOException if writing to the file fails
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                endTable();
+                out.writeByte(FixtureFormat.END_OF_FILE);
+            }
+            finally {
+                out.close();
+            }
+        }
+
+        private void endTable() throws IOException {
+            if (columns != null) {
+                out.writeByte(FixtureFormat.END_OF_TABLE);
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.ninja_squad.dbsetup.operation;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A DataInput reading from a sequence of ByteBuffers, typically the consecutive segments of a memory-mapped file,
+ * starting at a given position. Since a single ByteBuffer can't contain more than 2 GB, a large file is mapped as
+ * several segments of the same size (except the last one), and the position is thus a long. Values spanning two
+ * segments are read byte by byte. The position and limit of the wrapped buffers are never modified, so that several
+ * instances can read concurrently from the same buffers.
+ * @author JB Nizet
+ */
+final class ByteBufferDataInput implements DataInput {
+    private final ByteBuffer[] segments;
+    private final int segmentSize;
+    private final long length;
+    private long position;
+
+    ByteBufferDataInput(ByteBuffer buffer, long position) {
+        this(new ByteBuffer[] {buffer}, Integer.MAX_VALUE, position);
+    }
+
+    /**
+     * Creates an input reading from the given segments, which all contain segmentSize bytes, except the last one
+     */
+    ByteBufferDataInput(ByteBuffer[] segments, int segmentSize, long position) {
+        this.segments = segments;
+        this.segmentSize = segmentSize;
+        this.length = (long) (segments.length - 1) * segmentSize + segments[segments.length - 1].limit();
+        this.position = position;
+    }
+
+    /**
+     * Creates a new input reading from the same segments as this one, starting at the given position
+     */
+    ByteBufferDataInput at(long newPosition) {
+        return new ByteBufferDataInput(segments, segmentSize, newPosition);
+    }
+
+    /**
+     * Gets the position of the next byte to read
+     */
+    long position() {
+        return position;
+    }
+
+    /**
+     * Gets the number of bytes which remain to be read
+     */
+    long remaining() {
+        return length - position;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        checkRemaining(len);
+        int read = 0;
+        while (read < len) {
+            ByteBuffer segment = segments[(int) (position / segmentSize)].duplicate();
+            segment.position((int) (position % segmentSize));
+            int count = Math.min(len - read, segment.remaining());
+            segment.get(b, off + read, count);
+            read += count;
+            position += count;
+        }
+    }
+
+    @Override
+    public int skipBytes(int n) throws IOException {
+        int skipped = (int) Math.min(Math.max(n, 0), remaining());
+        position += skipped;
+        return skipped;
+    }
+
+    /**
+     * Skips the given number of bytes, which may be larger than 2 GB
+     * @throws EOFException if less bytes remain
+     */
+    void skipFully(long n) throws EOFException {
+        if (n < 0 || remaining() < n) {
+            throw new EOFException();
+        }
+        position += n;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        checkRemaining(1);
+        byte result = segments[(int) (position / segmentSize)].get((int) (position % segmentSize));
+        position++;
+        return result;
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        return (short) readBigEndian(2);
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return (char) readBigEndian(2);
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        return (int) readBigEndian(4);
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return readBigEndian(8);
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return Float.intBitsToFloat(readInt());
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Not supported, since the format never contains lines of text
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public String readLine() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+    /**
+     * Reads the given number of bytes (at most 8) as a big-endian number. The buffer reads the number directly if it's
+     * entirely contained in a segment. Otherwise, it's read byte by byte.
+     */
+    private long readBigEndian(int byteCount) throws IOException {
+        checkRemaining(byteCount);
+        ByteBuffer segment = segments[(int) (position / segmentSize)];
+        int index = (int) (position % segmentSize);
+        if (segment.limit() - index >= byteCount) {
+            position += byteCount;
+            switch (byteCount) {
+                case 2:
+                    return segment.getShort(index);
+                case 4:
+                    return segment.getInt(index);
+                default:
+                    return segment.getLong(index);
+            }
+        }
+        long result = 0L;
+        for (int i = 0; i < byteCount; i++) {
+            result = (result << 8) | readUnsignedByte();
+        }
+        return result;
+    }
+
+    private void checkRemaining(int count) throws EOFException {
+        if (remaining() < count) {
+            throw new EOFException();
+        }
+    }
+}
@@ -30,6 +30,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import com.ninja_squad.dbsetup.bind.BinderConfiguration;
@@ -41,7 +42,7 @@ import com.ninja_squad.dbsetup.bind.BinderConfiguration;
 @Immutable
 public final class CompositeOperation implements Operation {
 
-    private static final Operation NOP = new Operation() {
+    static final Operation NOP = new Operation() {
 
         @Override
         public void execute(Connection connection, BinderConfiguration configuration) {
@@ -93,6 +94,13 @@ public final class CompositeOperation implements Operation {
         }
     }
 
+    /**
+     * Gets the sequence of operations executed by this operation
+     */
+    List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
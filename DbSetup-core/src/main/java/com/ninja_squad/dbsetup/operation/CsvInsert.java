@@ -0,0 +1,402 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import com.ninja_squad.dbsetup.bind.Binder;
+import com.ninja_squad.dbsetup.bind.BinderConfiguration;
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * Operation which inserts all the rows of a CSV file into a table. Example usage:
+ * <pre>
+ *   CsvInsert insert =
+ *       CsvInsert.into("CLIENT", Paths.get("src/test/resources/clients.csv.gz"))
+ *                .withColumnMapping("id", "CLIENT_ID")
+ *                .withColumnMapping("birth", "DATE_OF_BIRTH")
+ *                .withSeparator(';')
+ *                .build();
+ * </pre>
+ *
+ * The first record of the file is a header containing the names of the columns to insert into. A header name can be
+ * mapped to a different column name using {@link Builder#withColumnMapping(String, String)}. The file is read and
+ * parsed while the operation is executed, one record at a time, and every record is directly bound to the insert
+ * statement and added to a JDBC batch, so that the rows of the file are never all stored in memory. The file may be
+ * compressed using gzip, which is detected automatically.
+ * <p>
+ * Fields are separated by a comma (by default), and may be enclosed in double quotes, in which case they may contain
+ * separators, line breaks and double quotes (escaped by doubling them). An empty, unquoted field is inserted as
+ * <code>null</code>, whereas an empty quoted field is inserted as an empty string. Blank lines are ignored.
+ * <p>
+ * Every value read from the file is a String, which is bound to the statement using the binder returned by the
+ * {@link BinderConfiguration}, just as the values of an {@link Insert}. The binders returned by the default
+ * configuration support such strings for the usual column types (dates, timestamps, numbers, etc.).
+ * <p>
+ * Note that two CsvInsert operations are equal if they read the same file with the same options, regardless of
+ * the content of the file.
+ * @author JB Nizet
+ */
+@Immutable
+public final class CsvInsert implements Operation {
+
+    /**
+     * The default number of rows sent to the database in a single JDBC batch
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private final String table;
+    private final Path file;
+    private final Charset charset;
+    private final char separator;
+    private final Map<String, String> columnMapping;
+    private final Map<String, Binder> binders;
+    private final boolean metadataUsed;
+    private final int batchSize;
+
+    private CsvInsert(Builder builder) {
+        this.table = builder.table;
+        this.file = builder.file;
+        this.charset = builder.charset;
+        this.separator = builder.separator;
+        this.columnMapping = builder.columnMapping;
+        this.binders = builder.binders;
+        this.metadataUsed = builder.metadataUsed;
+        this.batchSize = builder.batchSize;
+    }
+
+    /**
+     * Reads the CSV file and inserts its rows in the table. Unless <code>useMetadata</code> has been set to
+     * <code>false</code>, the given configuration is used to get the appropriate binder. Nevertheless, if a binder
+     * has explicitly been associated to a given column, this binder will always be used for this column.
+     * @throws SQLException if the file can't be read or parsed, or if inserting the rows fails.
+     */
+    @Override
+    public void execute(Connection connection, BinderConfiguration configuration) throws SQLException {
+        try {
+            CsvReader reader = new CsvReader(new InputStreamReader(open(file), charset), separator);
+            try {
+                insertRecords(reader, connection, configuration);
+            }
+            finally {
+                reader.close();
+            }
+        }
+        catch (IOException e) {
+            throw new SQLException("Unable to read the CSV file " + file + " to insert into " + table, e);
+        }
+    }
+
+    private void insertRecords(CsvReader reader, Connection connection, BinderConfiguration configuration)
+        throws IOException, SQLException {
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            throw new IOException("The CSV file " + file + " doesn't have any header");
+        }
+        List<String> columnNames = new ArrayList<String>(header.size());
+        for (String headerName : header) {
+            if (headerName == null) {
+                throw new IOException("The header of the CSV file " + file + " contains an empty column name");
+            }
+            String columnName = columnMapping.get(headerName);
+            columnNames.add(columnName == null ? headerName : columnName);
+        }
+
+        RowInserter inserter =
+            RowInserter.prepare(connection, table, columnNames, binders, metadataUsed, configuration, batchSize);
+        try {
+            String[] fields = new String[columnNames.size()];
+            while (reader.readRecord(fields)) {
+                for (int i = 0; i < fields.length; i++) {
+                    inserter.bind(i, fields[i]);
+                }
+                inserter.insertRow();
+            }
+            inserter.finish();
+        }
+        finally {
+            inserter.close();
+        }
+    }
+
+    /**
+     * Opens the given file, and decompresses it if it starts with the gzip magic number
+     */
+    private static InputStream open(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file));
+        try {
+            in.mark(2);
+            int magic = in.read() | (in.read() << 8);
+            in.reset();
+            if (magic == GZIP_MAGIC) {
+                return new GZIPInputStream(in);
+            }
+            return in;
+        }
+        catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "insert into "
+               + table
+               + " from CSV file "
+               + file
+               + " [charset="
+               + charset
+               + ", separator="
+               + separator
+               + ", columnMapping="
+               + columnMapping
+               + ", metadataUsed="
+               + metadataUsed
+               + ", binders="
+               + binders
+               + ", batchSize="
+               + batchSize
+               + "]";
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + table.hashCode();
+        result = prime * result + file.hashCode();
+        result = prime * result + charset.hashCode();
+        result = prime * result + separator;
+        result = prime * result + columnMapping.hashCode();
+        result = prime * result + binders.hashCode();
+        result = prime * result + Boolean.valueOf(metadataUsed).hashCode();
+        result = prime * result + batchSize;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        CsvInsert other = (CsvInsert) obj;
+
+        return table.equals(other.table)
+               && file.equals(other.file)
+               && charset.equals(other.charset)
+               && separator == other.separator
+               && columnMapping.equals(other.columnMapping)
+               && binders.equals(other.binders)
+               && metadataUsed == other.metadataUsed
+               && batchSize == other.batchSize;
+    }
+
+    /**
+     * Creates a new Builder instance, in order to build a CsvInsert operation inserting the rows of the given file
+     * into the given table
+     * @param table the name of the table to insert into
+     * @param file the CSV file containing the rows to insert
+     * @return the created Builder
+     */
+    public static Builder into(@Nonnull String table, @Nonnull Path file) {
+        Preconditions.checkNotNull(table, "table may not be null");
+        Preconditions.checkNotNull(file, "file may not be null");
+        return new Builder(table, file);
+    }
+
+    /**
+     * A builder used to create a CsvInsert operation. Such a builder may only be used once. Once it has built its
+     * CsvInsert operation, all its methods throw an {@link IllegalStateException}.
+     * @see CsvInsert
+     * @see CsvInsert#into(String, Path)
+     * @author JB Nizet
+     */
+    public static final class Builder {
+        private final String table;
+        private final Path file;
+        private Charset charset = StandardCharsets.UTF_8;
+        private char separator = ',';
+        private final Map<String, String> columnMapping = new HashMap<String, String>();
+        private final Map<String, Binder> binders = new HashMap<String, Binder>();
+        private boolean metadataUsed = true;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private boolean built;
+
+        private Builder(String table, Path file) {
+            this.table = table;
+            this.file = file;
+        }
+
+        /**
+         * Specifies the charset of the file. The default is UTF-8.
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the CsvInsert has already been built.
+         */
+        public Builder withCharset(@Nonnull Charset charset) {
+            Preconditions.checkState(!built, "The insert has already been built");
+            Preconditions.checkNotNull(charset, "charset may not be null");
+            this.charset = charset;
+            return this;
+        }
+
+        /**
+         * Specifies the character separating the fields of a record. The default is a comma.
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the CsvInsert has already been built.
+         * @throws IllegalArgumentException if the separator is a double quote or a line break.
+         */
+        public Builder withSeparator(char separator) {
+            Preconditions.checkState(!built, "The insert has already been built");
+            Preconditions.checkArgument(separator != '"' && separator != '\n' && separator != '\r',
+                                        "separator may not be a double quote or a line break");
+            this.separator = separator;
+            return this;
+        }
+
+        /**
+         * Maps a name found in the header of the file to the name of the column to insert into. Header names which
+         * are not mapped are used as column names.
+         * @param headerName the name of the column in the header of the file
+         * @param column the name of the column of the table
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the CsvInsert has already been built.
+         */
+        public Builder withColumnMapping(@Nonnull String headerName, @Nonnull String column) {
+            Preconditions.checkState(!built, "The insert has already been built");
+            Preconditions.checkNotNull(headerName, "headerName may not be null");
+            Preconditions.checkNotNull(column, "column may not be null");
+            columnMapping.put(headerName, column);
+            return this;
+        }
+
+        /**
+         * Associates a Binder to one or several columns. Since the columns are only known once the header of the file
+         * has been read, the column names are not checked. The names are the names of the columns of the table, i.e.
+         * the header names once mapped.
+         * @param binder the binder to use, regardless of the metadata, for the given columns
+         * @param columns the name of the columns to associate with the given Binder
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the CsvInsert has already been built.
+         */
+        public Builder withBinder(@Nonnull Binder binder, @Nonnull String... columns) {
+            Preconditions.checkState(!built, "The insert has already been built");
+            Preconditions.checkNotNull(binder, "binder may not be null");
+            for (String column : columns) {
+                Preconditions.checkNotNull(column, "column may not be null");
+                binders.put(column, binder);
+            }
+            return this;
+        }
+
+        /**
+         * Determines if the metadata must be used to get the appropriate binder for each inserted column (except
+         * the ones which have been associated explicitly with a Binder). The default is <code>true</code>.
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the CsvInsert has already been built.
+         * @see Insert.Builder#useMetadata(boolean)
+         */
+        public Builder useMetadata(boolean useMetadata) {
+            Preconditions.checkState(!built, "The insert has already been built");
+            this.metadataUsed = useMetadata;
+            return this;
+        }
+
+        /**
+         * Specifies the number of rows sent to the database in a single JDBC batch. The default is
+         * {@link CsvInsert#DEFAULT_BATCH_SIZE}. If 1, or if the database doesn't support batch updates, the rows are
+         * inserted one by one.
+         * @param batchSize the batch size. Must be &gt; 0.
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the CsvInsert has already been built.
+         */
+        public Builder withBatchSize(int batchSize) {
+            Preconditions.checkState(!built, "The insert has already been built");
+            Preconditions.checkArgument(batchSize > 0, "batchSize must be > 0");
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Builds the CsvInsert operation.
+         * @return the created CsvInsert operation.
+         * @throws IllegalStateException if the CsvInsert has already been built.
+         */
+        public CsvInsert build() {
+            Preconditions.checkState(!built, "The insert has already been built");
+            built = true;
+            return new CsvInsert(this);
+        }
+
+        @Override
+        public String toString() {
+            return "insert into "
+                + table
+                + " from CSV file "
+                + file
+                + " [charset="
+                + charset
+                + ", separator="
+                + separator
+                + ", columnMapping="
+                + columnMapping
+                + ", metadataUsed="
+                + metadataUsed
+                + ", binders="
+                + binders
+                + ", batchSize="
+                + batchSize
+                + ", built="
+                + built
+                + "]";
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A streaming CSV parser, reading one record at a time from a reader, using its own buffer. Fields are separated by a
+ * configurable separator, and may be enclosed in double quotes, in which case they may contain separators, line breaks
+ * and double quotes (escaped by doubling them). An empty, unquoted field is read as <code>null</code>, whereas an
+ * empty quoted field is read as an empty string. Records are separated by LF or CRLF, and blank lines are ignored.
+ * @author JB Nizet
+ */
+final class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final char QUOTE = '"';
+
+    private final Reader reader;
+    private final char separator;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private final StringBuilder field = new StringBuilder();
+    private int lineNumber = 1;
+
+    CsvReader(Reader reader, char separator) {
+        this.reader = reader;
+        this.separator = separator;
+    }
+
+    /**
+     * Reads the next record, and returns it as a list of fields
+     * @return the fields of the next record, or <code>null</code> if the end of the input has been reached
+     */
+    List<String> readRecord() throws IOException {
+        List<String> result = new ArrayList<String>();
+        return readRecord(result) ? result : null;
+    }
+
+    /**
+     * Reads the next record, and stores its fields into the given array, which must have the exact same length as
+     * the number of fields of the record.
+     * @return <code>false</code> if the end of the input has been reached, <code>true</code> otherwise.
+     * @throws IOException if the number of fields of the record doesn't match the length of the array
+     */
+    boolean readRecord(String[] fields) throws IOException {
+        if (!skipBlankLines()) {
+            return false;
+        }
+        int recordLineNumber = lineNumber;
+        int count = 0;
+        while (true) {
+            String value = readField();
+            if (count < fields.length) {
+                fields[count] = value;
+            }
+            count++;
+            int c = read();
+            if (c != separator) {
+                break;
+            }
+        }
+        if (count != fields.length) {
+            throw new IOException("Record at line " + recordLineNumber + " has " + count + " fields instead of "
+                                  + fields.length);
+        }
+        return true;
+    }
+
+    private boolean readRecord(List<String> fields) throws IOException {
+        if (!skipBlankLines()) {
+            return false;
+        }
+        while (true) {
+            fields.add(readField());
+            int c = read();
+            if (c != separator) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Skips the blank lines preceding the next record
+     * @return <code>false</code> if the end of the input has been reached, <code>true</code> otherwise
+     */
+    private boolean skipBlankLines() throws IOException {
+        int c = peek();
+        while (c == '\n' || c == '\r') {
+            read();
+            c = peek();
+        }
+        return c >= 0;
+    }
+
+    /**
+     * Reads a field, and leaves the separator or line break (or end of input) following it unread.
+     */
+    private String readField() throws IOException {
+        field.setLength(0);
+        int c = peek();
+        if (c == QUOTE) {
+            read();
+            readQuotedField();
+            return field.toString();
+        }
+        while (c >= 0 && c != separator && c != '\n' && c != '\r') {
+            field.append((char) read());
+            c = peek();
+        }
+        return field.length() == 0 ? null : field.toString();
+    }
+
+    private void readQuotedField() throws IOException {
+        int quoteLineNumber = lineNumber;
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                throw new IOException("Unterminated quoted field starting at line " + quoteLineNumber);
+            }
+            if (c == QUOTE) {
+                if (peek() == QUOTE) {
+                    read();
+                    field.append(QUOTE);
+                }
+                else {
+                    int next = peek();
+                    if (next >= 0 && next != separator && next != '\n' && next != '\r') {
+                        throw new IOException("Unexpected character after quoted field at line " + lineNumber);
+                    }
+                    return;
+                }
+            }
+            else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Reads the next character. A CRLF sequence is read as a single LF character.
+     * @return the next character, or -1 if the end of the input has been reached
+     */
+    private int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        char c = buffer[position++];
+        if (c == '\r' && fill() && buffer[position] == '\n') {
+            position++;
+            c = '\n';
+        }
+        if (c == '\n') {
+            lineNumber++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        while (position >= limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit < 0) {
+                limit = 0;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -61,6 +61,13 @@ public final class DeleteAll implements Operation {
         }
     }
 
+    /**
+     * Gets the table which is emptied by this operation
+     */
+    String getTable() {
+        return table;
+    }
+
     /**
      * Returns an operation which deletes all the rows from the given table.
      * @param table the table to delete everything from.
@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The values of a column generated by a {@link com.ninja_squad.dbsetup.generator.DoubleValueGenerator}, stored as an
+ * array of primitive doubles. Such a column is bound using {@link RowInserter#bindDouble(int, double)}, without
+ * boxing its values. Seen as a list, it contains the boxed values, and is thus equal to any list containing the same
+ * <code>Double</code> values.
+ * @author JB Nizet
+ */
+final class DoubleColumn extends AbstractList<Object> implements RandomAccess {
+    private final double[] values;
+
+    DoubleColumn(double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Gets the primitive value at the given index
+     */
+    double getDouble(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Object get(int index) {
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+}
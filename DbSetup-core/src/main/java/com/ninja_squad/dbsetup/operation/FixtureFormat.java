@@ -0,0 +1,362 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * The binary format of the fixture files read by {@link BinaryFixture}, and written by {@link BinaryFixture.Writer}.
+ * <p>
+ * A fixture file starts with the {@link #MAGIC magic number} and the {@link #VERSION version} of the format. It then
+ * contains a sequence of table sections, terminated by {@link #END_OF_FILE}. A table section starts with
+ * {@link #TABLE}, followed by the name of the table, the number of columns and the name of each column. Then every row
+ * of the table consists in {@link #ROW}, followed by the value of each column. The table section is terminated by
+ * {@link #END_OF_TABLE}.
+ * <p>
+ * Every value starts with a one-byte tag indicating its type, followed by its encoded value (nothing for null and
+ * booleans). Strings are encoded as their length in bytes followed by their UTF-8 bytes. Each supported type has its
+ * own tag, so that a value is always read back with the type it had when it was written: a <code>Short</code> is
+ * read as a <code>Short</code>, a <code>java.sql.Date</code> as a <code>java.sql.Date</code>, and an enum as the
+ * same enum constant. The binders thus bind the values read from a file exactly as they bind the original values.
+ * <p>
+ * The version 2 of the format added the tags of the types which were converted by the version 1 (bytes, shorts,
+ * floats, enums and the <code>java.sql</code> date types). Files written with the version 1 can still be read.
+ * @author JB Nizet
+ */
+final class FixtureFormat {
+
+    static final int MAGIC = 0x44425346; // DBSF
+    static final short VERSION = 2;
+
+    /**
+     * The oldest version of the format which can still be read
+     */
+    static final short MIN_VERSION = 1;
+
+    static final byte END_OF_FILE = 0;
+    static final byte TABLE = 1;
+    static final byte ROW = 2;
+    static final byte END_OF_TABLE = 3;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+    private static final byte DECIMAL = 6;
+    private static final byte BIG_INTEGER = 7;
+    private static final byte STRING = 8;
+    private static final byte BYTES = 9;
+    private static final byte DATE = 10;
+    private static final byte TIME = 11;
+    private static final byte TIMESTAMP = 12;
+    private static final byte OFFSET_TIMESTAMP = 13;
+    private static final byte INSTANT = 14;
+    private static final byte BYTE = 15;
+    private static final byte SHORT = 16;
+    private static final byte FLOAT = 17;
+    private static final byte ENUM = 18;
+    private static final byte SQL_DATE = 19;
+    private static final byte SQL_TIME = 20;
+    private static final byte SQL_TIMESTAMP = 21;
+
+    /**
+     * The size of the chunks in which byte arrays are read from a stream, so that a corrupted length doesn't cause
+     * a huge allocation before the end of the stream is reached
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    private FixtureFormat() {
+    }
+
+    static void writeString(DataOutput out, String s) throws IOException {
+        writeBytes(out, s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the given value, preceded by the tag of its type.
+     * @throws IllegalArgumentException if the type of the value is not supported by the format
+     */
+    static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        }
+        else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        }
+        else if (value instanceof Boolean) {
+            out.writeByte(((Boolean) value) ? TRUE : FALSE);
+        }
+        else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer) value);
+        }
+        else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        }
+        else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        }
+        else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        }
+        else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        }
+        else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        }
+        else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            out.writeByte(DECIMAL);
+            out.writeInt(decimal.scale());
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+        }
+        else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        }
+        else if (value instanceof Enum<?>) {
+            Enum<?> constant = (Enum<?>) value;
+            out.writeByte(ENUM);
+            writeString(out, constant.getDeclaringClass().getName());
+            writeString(out, constant.name());
+        }
+        else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[]) value);
+        }
+        else if (value instanceof LocalDate) {
+            out.writeByte(DATE);
+            out.writeLong(((LocalDate) value).toEpochDay());
+        }
+        else if (value instanceof Date) {
+            out.writeByte(SQL_DATE);
+            out.writeLong(((Date) value).toLocalDate().toEpochDay());
+        }
+        else if (value instanceof LocalTime) {
+            out.writeByte(TIME);
+            out.writeLong(((LocalTime) value).toNanoOfDay());
+        }
+        else if (value instanceof Time) {
+            // toLocalTime() ignores the milliseconds, which a Time can nevertheless contain
+            Time time = (Time) value;
+            out.writeByte(SQL_TIME);
+            out.writeLong(time.toLocalTime().toNanoOfDay() + Math.floorMod(time.getTime(), 1000L) * 1_000_000L);
+        }
+        else if (value instanceof LocalDateTime) {
+            out.writeByte(TIMESTAMP);
+            writeDateTime(out, (LocalDateTime) value);
+        }
+        else if (value instanceof Timestamp) {
+            out.writeByte(SQL_TIMESTAMP);
+            writeDateTime(out, ((Timestamp) value).toLocalDateTime());
+        }
+        else if (value instanceof OffsetDateTime) {
+            OffsetDateTime offsetDateTime = (OffsetDateTime) value;
+            out.writeByte(OFFSET_TIMESTAMP);
+            writeDateTime(out, offsetDateTime.toLocalDateTime());
+            out.writeInt(offsetDateTime.getOffset().getTotalSeconds());
+        }
+        else if (value instanceof Instant) {
+            Instant instant = (Instant) value;
+            out.writeByte(INSTANT);
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        }
+        else {
+            throw new IllegalArgumentException("Values of type " + value.getClass().getName()
+                                               + " can't be stored in a binary fixture");
+        }
+    }
+
+    /**
+     * Reads a value written by {@link #writeValue(DataOutput, Object)}, with the type it had when it was written.
+     * Dates, times and timestamps of files written with the version 1 of the format are read as
+     * <code>LocalDate</code>, <code>LocalTime</code> and <code>LocalDateTime</code> instances, and enums as strings.
+     * @throws IOException if the value is corrupted, or if it's an enum constant which doesn't exist anymore
+     */
+    static Object readValue(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case FALSE:
+                return Boolean.FALSE;
+            case TRUE:
+                return Boolean.TRUE;
+            case INT:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case DECIMAL:
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case STRING:
+                return readString(in);
+            case BYTES:
+                return readBytes(in);
+            case DATE:
+                return LocalDate.ofEpochDay(in.readLong());
+            case TIME:
+                return LocalTime.ofNanoOfDay(in.readLong());
+            case TIMESTAMP:
+                return readDateTime(in);
+            case OFFSET_TIMESTAMP:
+                LocalDateTime localDateTime = readDateTime(in);
+                return localDateTime.atOffset(ZoneOffset.ofTotalSeconds(in.readInt()));
+            case INSTANT:
+                long epochSecond = in.readLong();
+                return Instant.ofEpochSecond(epochSecond, in.readInt());
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case FLOAT:
+                return in.readFloat();
+            case ENUM:
+                return readEnum(in);
+            case SQL_DATE:
+                return Date.valueOf(LocalDate.ofEpochDay(in.readLong()));
+            case SQL_TIME:
+                LocalTime localTime = LocalTime.ofNanoOfDay(in.readLong());
+                Time time = Time.valueOf(localTime);
+                time.setTime(time.getTime() + localTime.getNano() / 1_000_000);
+                return time;
+            case SQL_TIMESTAMP:
+                return Timestamp.valueOf(readDateTime(in));
+            default:
+                throw new IOException("Unknown value type tag: " + tag);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readEnum(DataInput in) throws IOException {
+        String className = readString(in);
+        String name = readString(in);
+        try {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                classLoader = FixtureFormat.class.getClassLoader();
+            }
+            Class<?> enumClass = Class.forName(className, false, classLoader);
+            if (!enumClass.isEnum()) {
+                throw new IOException(className + " is not an enum");
+            }
+            return Enum.valueOf((Class<? extends Enum>) enumClass, name);
+        }
+        catch (ClassNotFoundException e) {
+            throw new IOException("The enum class " + className + " can't be found", e);
+        }
+        catch (IllegalArgumentException e) {
+            throw new IOException("The enum " + className + " has no constant " + name, e);
+        }
+    }
+
+    private static void writeDateTime(DataOutput out, LocalDateTime dateTime) throws IOException {
+        out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(dateTime.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInput in) throws IOException {
+        long epochSecond = in.readLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, in.readInt(), ZoneOffset.UTC);
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a length, or a number of elements, and checks that it's valid. If the input is a buffer, the length is
+     * also checked against the number of remaining bytes, knowing that each element uses at least the given number
+     * of bytes. Streams don't know their remaining number of bytes, so the elements read from a stream must be read
+     * progressively, without allocating room for all of them upfront.
+     * @throws IOException if the length is negative, or larger than what the remaining bytes can contain
+     */
+    static int readLength(DataInput in, int minElementSize) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid length: " + length);
+        }
+        if (in instanceof ByteBufferDataInput
+            && (long) length * minElementSize > ((ByteBufferDataInput) in).remaining()) {
+            throw new EOFException("Invalid length: " + length + ", larger than the remaining bytes");
+        }
+        return length;
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        int length = readLength(in, 1);
+        if (length <= CHUNK_SIZE || in instanceof ByteBufferDataInput) {
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return bytes;
+        }
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream(CHUNK_SIZE);
+        byte[] chunk = new byte[CHUNK_SIZE];
+        int remaining = length;
+        while (remaining > 0) {
+            int chunkLength = Math.min(remaining, CHUNK_SIZE);
+            in.readFully(chunk, 0, chunkLength);
+            result.write(chunk, 0, chunkLength);
+            remaining -= chunkLength;
+        }
+        return result.toByteArray();
+    }
+}
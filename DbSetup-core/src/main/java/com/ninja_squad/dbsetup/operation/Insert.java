@@ -26,23 +26,34 @@ package com.ninja_squad.dbsetup.operation;
 
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
+import java.lang.invoke.MethodHandle;
 import java.sql.Connection;
-import java.sql.ParameterMetaData;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
 
 import com.ninja_squad.dbsetup.bind.Binder;
 import com.ninja_squad.dbsetup.bind.BinderConfiguration;
 import com.ninja_squad.dbsetup.bind.Binders;
+import com.ninja_squad.dbsetup.bind.ConvertingBinder;
+import com.ninja_squad.dbsetup.bind.DefaultBinderConfiguration;
+import com.ninja_squad.dbsetup.bind.LobValue;
+import com.ninja_squad.dbsetup.bulk.BulkLoader;
+import com.ninja_squad.dbsetup.generator.DoubleValueGenerator;
+import com.ninja_squad.dbsetup.generator.LongValueGenerator;
 import com.ninja_squad.dbsetup.generator.ValueGenerator;
 import com.ninja_squad.dbsetup.generator.ValueGenerators;
 import com.ninja_squad.dbsetup.util.Preconditions;
@@ -151,6 +162,30 @@ import com.ninja_squad.dbsetup.util.Preconditions;
  *             .build();
  * </pre>
  *
+ * Finally, the rows can be read from domain objects or records, whose properties match with the columns:
+ *
+ * <pre>
+ *   Insert insert =
+ *       Insert.into("CLIENT")
+ *             .columns("CLIENT_ID", "FIRST_NAME", "LAST_NAME", "DATE_OF_BIRTH", "CLIENT_TYPE")
+ *             .valuesFrom(clients)
+ *             .build();
+ * </pre>
+ *
+ * or be computed, lazily, from their index, which makes it easy to generate many rows whose values depend on each
+ * other:
+ *
+ * <pre>
+ *   Insert insert =
+ *       Insert.into("BOOKING")
+ *             .columns("BOOKING_ID", "START_DATE", "END_DATE")
+ *             .indexedValues(100_000, i -&gt; {
+ *                 LocalDate start = LocalDate.of(2020, 1, 1).plusDays(i % 1000);
+ *                 return new Object[] {i + 1, start, start.plusDays(1 + i % 14)};
+ *             })
+ *             .build();
+ * </pre>
+ *
  * @author JB Nizet
  */
 @Immutable
@@ -162,14 +197,49 @@ public final class Insert implements Operation {
     private final boolean metadataUsed;
 
     private final Map<String, Binder> binders;
+    private final BulkLoader bulkLoader;
+    private final boolean valuesPreconverted;
+
+    /**
+     * The rows converted by the converting binders used at the last execution, if values are preconverted
+     */
+    private volatile ConvertedRows convertedRows;
+
+    /**
+     * Tells if a value of the insert is a {@link LobValue}, or null if not known yet
+     */
+    private volatile Boolean lobValueContained;
 
     private Insert(Builder builder) {
         this.table = builder.table;
         this.columnNames = builder.columnNames;
-        this.rows = builder.rows;
+        this.rows = builder.indexedRows != null ? builder.indexedRows : builder.rows;
         this.generatedValues = generateValues(builder.valueGenerators, rows.size());
         this.binders = builder.binders;
         this.metadataUsed = builder.metadataUsed;
+        this.bulkLoader = builder.bulkLoader;
+        this.valuesPreconverted = builder.valuesPreconverted;
+    }
+
+    /**
+     * Constructor used to create an insert whose rows are already complete (i.e. which doesn't have any generated
+     * value), and are typically decoded lazily from a file.
+     */
+    Insert(String table,
+           List<String> columnNames,
+           List<List<?>> rows,
+           Map<String, Binder> binders,
+           boolean metadataUsed,
+           BulkLoader bulkLoader,
+           boolean valuesPreconverted) {
+        this.table = table;
+        this.columnNames = columnNames;
+        this.rows = rows;
+        this.generatedValues = Collections.<String, List<Object>>emptyMap();
+        this.binders = binders;
+        this.metadataUsed = metadataUsed;
+        this.bulkLoader = bulkLoader;
+        this.valuesPreconverted = valuesPreconverted;
     }
 
     private Map<String, List<Object>> generateValues(Map<String, ValueGenerator<?>> valueGenerators,
@@ -182,6 +252,16 @@ public final class Insert implements Operation {
     }
 
     private List<Object> generateValues(ValueGenerator<?> valueGenerator, int count) {
+        if (valueGenerator instanceof LongValueGenerator) {
+            long[] values = new long[count];
+            ((LongValueGenerator) valueGenerator).nextLongs(values, 0, count);
+            return new LongColumn(values);
+        }
+        if (valueGenerator instanceof DoubleValueGenerator) {
+            double[] values = new double[count];
+            ((DoubleValueGenerator) valueGenerator).nextDoubles(values, 0, count);
+            return new DoubleColumn(values);
+        }
         List<Object> result = new ArrayList<Object>(count);
         for (int i = 0; i < count; i++) {
             result.add(valueGenerator.nextValue());
@@ -193,106 +273,196 @@ public final class Insert implements Operation {
      * Inserts the values and generated values in the table. Unless <code>useMetadata</code> has been set to
      * <code>false</code>, the given configuration is used to get the appropriate binder. Nevertheless, if a binder
      * has explicitly been associated to a given column, this binder will always be used for this column.
+     * <p>
+     * If values are {@link Builder#preconvertValues(boolean) preconverted}, the values are converted by the binders
+     * during the first execution, and the converted values are reused by the subsequent executions, as long as the
+     * same {@link ConvertingBinder converting binder} instances are used.
+     * <p>
+     * If a {@link BulkLoader} has been associated to this insert, if it supports the database, if no binder
+     * has explicitly been associated to any column, and if the given configuration is the
+     * {@link DefaultBinderConfiguration#INSTANCE default one}, the rows are loaded by the bulk loader instead. Bulk
+     * loaders don't use binders, so the conversions of explicit binders and of custom configurations would
+     * otherwise be silently ignored. The bulk loader isn't used either if one of the values is a {@link LobValue},
+     * since its content can't be written as text.
      */
-    @edu.umd.cs.findbugs.annotations.SuppressWarnings(
-        value = "SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING",
-        justification = "The point here is precisely to compose a SQL String from column names coming from the user")
     @Override
     public void execute(Connection connection, BinderConfiguration configuration) throws SQLException {
-        List<String> allColumnNames = new ArrayList<String>(columnNames);
-        allColumnNames.addAll(generatedValues.keySet());
+        List<String> allColumnNames = getAllColumnNames();
 
-        String query = generateSqlQuery(allColumnNames);
+        if (bulkLoader != null
+            && binders.isEmpty()
+            && configuration == DefaultBinderConfiguration.INSTANCE
+            && !containsLobValue()
+            && bulkLoader.supports(connection)) {
+            bulkLoader.load(connection, table, allColumnNames, new RowIterator());
+            return;
+        }
 
-        PreparedStatement stmt = connection.prepareStatement(query);
+        RowInserter inserter =
+            RowInserter.prepare(connection, table, allColumnNames, binders, metadataUsed, configuration, 1);
 
         try {
-            Map<String, Binder> usedBinders = initializeBinders(stmt, allColumnNames, configuration);
+            if (valuesPreconverted) {
+                insertConvertedRows(inserter);
+                return;
+            }
 
             int rowIndex = 0;
             for (List<?> row : rows) {
                 int i = 0;
                 for (Object value : row) {
-                    String columnName = columnNames.get(i);
-                    Binder binder = usedBinders.get(columnName);
-                    binder.bind(stmt, i + 1, value);
+                    inserter.bind(i, value);
                     i++;
                 }
-                for (Map.Entry<String, List<Object>> entry : generatedValues.entrySet()) {
-                    String columnName = entry.getKey();
-                    List<Object> rowValues = entry.getValue();
-                    Binder binder = usedBinders.get(columnName);
-                    binder.bind(stmt, i + 1, rowValues.get(rowIndex));
+                for (List<Object> rowValues : generatedValues.values()) {
+                    if (rowValues instanceof LongColumn) {
+                        inserter.bindLong(i, ((LongColumn) rowValues).getLong(rowIndex));
+                    }
+                    else if (rowValues instanceof DoubleColumn) {
+                        inserter.bindDouble(i, ((DoubleColumn) rowValues).getDouble(rowIndex));
+                    }
+                    else {
+                        inserter.bind(i, rowValues.get(rowIndex));
+                    }
                     i++;
                 }
 
-                stmt.executeUpdate();
+                inserter.insertRow();
                 rowIndex++;
             }
+            inserter.finish();
         }
         finally {
-            stmt.close();
+            inserter.close();
         }
     }
 
     /**
-     * Gets the number of rows that are inserted in the database table when this insert operation is executed.
+     * Tells if one of the values of the insert is a LobValue. The rows are only scanned once, since they never
+     * change.
      */
-    public int getRowCount() {
-        return rows.size();
+    private boolean containsLobValue() {
+        Boolean result = lobValueContained;
+        if (result == null) {
+            result = Boolean.valueOf(scanForLobValue());
+            lobValueContained = result;
+        }
+        return result.booleanValue();
     }
 
-    private String generateSqlQuery(List<String> allColumnNames) {
-        StringBuilder sql = new StringBuilder("insert into ").append(table).append(" (");
-        for (Iterator<String> it = allColumnNames.iterator(); it.hasNext(); ) {
-            String columnName = it.next();
-            sql.append(columnName);
-            if (it.hasNext()) {
-                sql.append(", ");
+    private boolean scanForLobValue() {
+        for (List<?> row : rows) {
+            for (Object value : row) {
+                if (value instanceof LobValue) {
+                    return true;
+                }
             }
         }
-        sql.append(") values (");
-        for (Iterator<String> it = allColumnNames.iterator(); it.hasNext(); ) {
-            it.next();
-            sql.append('?');
-            if (it.hasNext()) {
-                sql.append(", ");
+        for (List<Object> columnValues : generatedValues.values()) {
+            if (columnValues instanceof LongColumn || columnValues instanceof DoubleColumn) {
+                continue;
+            }
+            for (Object value : columnValues) {
+                if (value instanceof LobValue) {
+                    return true;
+                }
             }
         }
-        sql.append(')');
-
-        return sql.toString();
+        return false;
     }
 
-    private Map<String, Binder> initializeBinders(PreparedStatement stmt,
-                                                  List<String> allColumnNames,
-                                                  BinderConfiguration configuration) throws SQLException {
-        Map<String, Binder> result = new HashMap<String, Binder>();
-        ParameterMetaData metadata = null;
-        if (metadataUsed) {
-            try {
-                metadata = stmt.getParameterMetaData();
-            }
-            catch (SQLException e) {
-                metadata = null;
-                // the parameter metadata are probably not supported by the database. Pass null to the configuration.
-                // The default configuration will return the default binder, just as if useMetadata(false) had been used
-            }
-        }
-        int i = 1;
-        for (String columnName : allColumnNames) {
-            Binder binder = this.binders.get(columnName);
-            if (binder == null) {
-                binder = configuration.getBinder(metadata, i);
-                if (binder == null) {
-                    throw new IllegalStateException("null binder returned from configuration "
-                                                    + configuration.getClass());
-                }
+    private void insertConvertedRows(RowInserter inserter) throws SQLException {
+        Binder[] rowBinders = inserter.getBinders();
+        ConvertedRows currentRows = convertedRows;
+        if (currentRows == null || !currentRows.isConvertedBy(rowBinders)) {
+            currentRows = new ConvertedRows(rowBinders, completeRows());
+            convertedRows = currentRows;
+        }
+
+        for (Object[] row : currentRows.rows) {
+            for (int i = 0; i < row.length; i++) {
+                inserter.bind(i, row[i]);
             }
-            result.put(columnName, binder);
-            i++;
+            inserter.insertRow();
         }
-        return result;
+        inserter.finish();
+    }
+
+    /**
+     * Gets the number of rows that are inserted in the database table when this insert operation is executed.
+     */
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Gets the values inserted in the given column, in the order of the rows, whether they have been specified or
+     * generated. This allows generating, without any query to the database, the values of a foreign key column of
+     * another table referencing the rows inserted by this insert, typically using one of the reference generators
+     * of {@link ValueGenerators}:
+     * <pre>
+     *   Insert clients = Insert.into("CLIENT")
+     *                          .withGeneratedValue("ID", ValueGenerators.sequence())
+     *                          .columns("NAME")
+     *                          .repeatingValues("John").times(1000)
+     *                          .build();
+     *   List&lt;?&gt; clientIds = clients.getColumnValues("ID");
+     *   Insert orders = Insert.into("ORDERS")
+     *                         .withGeneratedValue("ID", ValueGenerators.sequence())
+     *                         .withGeneratedValue("CLIENT_ID", ValueGenerators.fanOut(clientIds, 5))
+     *                         .repeatingValues().times(5000)
+     *                         .build();
+     * </pre>
+     * @param column the name of the column, as specified when building the insert
+     * @return an unmodifiable list containing the values of the column, whose size is the number of rows
+     * @throws IllegalArgumentException if the column is not one of the columns of this insert
+     */
+    public List<?> getColumnValues(@Nonnull String column) {
+        Preconditions.checkNotNull(column, "column may not be null");
+        List<Object> generated = generatedValues.get(column);
+        if (generated != null) {
+            return Collections.unmodifiableList(generated);
+        }
+        final int index = columnNames.indexOf(column);
+        Preconditions.checkArgument(index >= 0, "The column " + column + " is not a column of this insert");
+        return new ColumnValueList(index);
+    }
+
+    String getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the names of all the inserted columns, including the columns having generated values
+     */
+    List<String> getAllColumnNames() {
+        List<String> allColumnNames = new ArrayList<String>(columnNames);
+        allColumnNames.addAll(generatedValues.keySet());
+        return allColumnNames;
+    }
+
+    /**
+     * Returns an iterator over the complete rows, containing the values followed by the generated values, in the
+     * order of {@link #getAllColumnNames()}
+     */
+    Iterator<List<?>> completeRows() {
+        return new RowIterator();
+    }
+
+    Map<String, Binder> getBinders() {
+        return binders;
+    }
+
+    boolean isMetadataUsed() {
+        return metadataUsed;
+    }
+
+    BulkLoader getBulkLoader() {
+        return bulkLoader;
+    }
+
+    boolean isValuesPreconverted() {
+        return valuesPreconverted;
     }
 
     @Override
@@ -309,6 +479,10 @@ public final class Insert implements Operation {
                + metadataUsed
                + ", binders="
                + binders
+               + ", bulkLoader="
+               + bulkLoader
+               + ", valuesPreconverted="
+               + valuesPreconverted
                + "]";
 
     }
@@ -318,11 +492,13 @@ public final class Insert implements Operation {
         final int prime = 31;
         int result = 1;
         result = prime * result + binders.hashCode();
+        result = prime * result + ((bulkLoader == null) ? 0 : bulkLoader.hashCode());
         result = prime * result + columnNames.hashCode();
         result = prime * result + generatedValues.hashCode();
         result = prime * result + Boolean.valueOf(metadataUsed).hashCode();
         result = prime * result + rows.hashCode();
         result = prime * result + table.hashCode();
+        result = prime * result + Boolean.valueOf(valuesPreconverted).hashCode();
         return result;
     }
 
@@ -340,11 +516,14 @@ public final class Insert implements Operation {
         Insert other = (Insert) obj;
 
         return binders.equals(other.binders)
+               && (bulkLoader == null ? other.bulkLoader == null : bulkLoader.equals(other.bulkLoader))
                && columnNames.equals(other.columnNames)
                && generatedValues.equals(other.generatedValues)
                && metadataUsed == other.metadataUsed
+               && (rows instanceof IndexedRowList) == (other.rows instanceof IndexedRowList)
                && rows.equals(other.rows)
-               && table.equals(other.table);
+               && table.equals(other.table)
+               && valuesPreconverted == other.valuesPreconverted;
     }
 
     /**
@@ -357,6 +536,200 @@ public final class Insert implements Operation {
         return new Builder(table);
     }
 
+    /**
+     * Iterator over the complete rows of this insert, containing the values followed by the generated values. The
+     * complete rows are created on the fly, while iterating.
+     */
+    private final class RowIterator implements Iterator<List<?>> {
+        private int rowIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return rowIndex < rows.size();
+        }
+
+        @Override
+        public List<?> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<Object> row = new ArrayList<Object>(columnNames.size() + generatedValues.size());
+            row.addAll(rows.get(rowIndex));
+            for (List<Object> rowValues : generatedValues.values()) {
+                row.add(rowValues.get(rowIndex));
+            }
+            rowIndex++;
+            return row;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * The values of a column, read from the rows
+     */
+    private final class ColumnValueList extends AbstractList<Object> implements RandomAccess {
+        private final int index;
+
+        private ColumnValueList(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public Object get(int rowIndex) {
+            return rows.get(rowIndex).get(index);
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+    }
+
+    /**
+     * The rows of an insert computed from their index by a function, every time they're accessed, and thus never
+     * stored in memory. To avoid computing all the rows, two such lists are only equal if they have the same number
+     * of rows and columns, the same converters, and the same function instance.
+     */
+    private static final class IndexedRowList extends AbstractList<List<?>> implements RandomAccess {
+        private final int rowCount;
+        private final int columnCount;
+        private final IntFunction<Object[]> rowFunction;
+
+        /**
+         * The converters of the typed columns, used to convert the values computed by the function, or null
+         */
+        private final ConvertingBinder[] converters;
+
+        private IndexedRowList(int rowCount,
+                               int columnCount,
+                               IntFunction<Object[]> rowFunction,
+                               ConvertingBinder[] converters) {
+            this.rowCount = rowCount;
+            this.columnCount = columnCount;
+            this.rowFunction = rowFunction;
+            this.converters = converters;
+        }
+
+        @Override
+        public List<?> get(int index) {
+            if (index < 0 || index >= rowCount) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + rowCount);
+            }
+            Object[] values = rowFunction.apply(index);
+            if (values == null || values.length != columnCount) {
+                throw new IllegalArgumentException(
+                    "The number of values of the row " + index + " doesn't match the number of columns");
+            }
+            if (converters != null) {
+                values = values.clone();
+                for (int i = 0; i < columnCount; i++) {
+                    if (converters[i] != null) {
+                        values[i] = converters[i].convert(values[i]);
+                    }
+                }
+            }
+            return Arrays.asList(values);
+        }
+
+        @Override
+        public int size() {
+            return rowCount;
+        }
+
+        private IndexedRowList withConverters(ConvertingBinder[] converters) {
+            return new IndexedRowList(rowCount, columnCount, rowFunction, converters);
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + rowCount;
+            result = prime * result + columnCount;
+            result = prime * result + System.identityHashCode(rowFunction);
+            result = prime * result + Arrays.hashCode(converters);
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null) {
+                return false;
+            }
+            if (getClass() != obj.getClass()) {
+                return false;
+            }
+            IndexedRowList other = (IndexedRowList) obj;
+            return rowCount == other.rowCount
+                   && columnCount == other.columnCount
+                   && rowFunction == other.rowFunction
+                   && Arrays.equals(converters, other.converters);
+        }
+
+        @Override
+        public String toString() {
+            return "[" + rowCount + " rows computed by " + rowFunction + "]";
+        }
+    }
+
+    /**
+     * The complete rows of an insert, whose values have been converted by the {@link ConvertingBinder converting
+     * binders} of their column. Since the other binders don't take part in the conversion, the rows can be reused
+     * with any binders, as long as the converting binders are the same instances.
+     */
+    private static final class ConvertedRows {
+        private final ConvertingBinder[] converters;
+        private final List<Object[]> rows;
+
+        private ConvertedRows(Binder[] binders, Iterator<List<?>> completeRows) {
+            this.converters = converters(binders);
+            this.rows = new ArrayList<Object[]>();
+            while (completeRows.hasNext()) {
+                Object[] row = completeRows.next().toArray();
+                for (int i = 0; i < row.length; i++) {
+                    if (converters[i] != null) {
+                        row[i] = converters[i].convert(row[i]);
+                    }
+                }
+                this.rows.add(row);
+            }
+        }
+
+        /**
+         * Tells if the values of these rows are the ones that the given binders would produce
+         */
+        private boolean isConvertedBy(Binder[] binders) {
+            if (binders.length != converters.length) {
+                return false;
+            }
+            for (int i = 0; i < binders.length; i++) {
+                if (converter(binders[i]) != converters[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static ConvertingBinder[] converters(Binder[] binders) {
+            ConvertingBinder[] result = new ConvertingBinder[binders.length];
+            for (int i = 0; i < binders.length; i++) {
+                result[i] = converter(binders[i]);
+            }
+            return result;
+        }
+
+        private static ConvertingBinder converter(Binder binder) {
+            return binder instanceof ConvertingBinder ? (ConvertingBinder) binder : null;
+        }
+    }
+
     /**
      * A builder used to create an Insert operation. Such a builder may only be used once. Once it has built its Insert
      * operation, all its methods throw an {@link IllegalStateException}.
@@ -370,8 +743,16 @@ public final class Insert implements Operation {
         private final Map<String, ValueGenerator<?>> valueGenerators = new LinkedHashMap<String, ValueGenerator<?>>();
         private final List<List<?>> rows = new ArrayList<List<?>>();
 
+        /**
+         * The rows computed from their index, if {@link #indexedValues(int, IntFunction)} has been called
+         */
+        private IndexedRowList indexedRows;
+
         private boolean metadataUsed = true;
         private final Map<String, Binder> binders = new HashMap<String, Binder>();
+        private final Map<String, ConvertingBinder> typedColumnBinders = new HashMap<String, ConvertingBinder>();
+        private BulkLoader bulkLoader;
+        private boolean valuesPreconverted;
 
         private boolean built;
 
@@ -403,6 +784,38 @@ public final class Insert implements Operation {
             return this;
         }
 
+        /**
+         * Specifies the list of columns into which values will be inserted, along with their SQL type. The
+         * {@link Binders#typedBinder(java.sql.JDBCType) typed binder} of each column is associated to the column,
+         * just as if {@link #withBinder(Binder, String...)} had been called, so that the parameter metadata are never
+         * requested for these columns. The values of these columns are converted to the Java type matching their
+         * SQL type when the insert is built, and the build fails if a value can't be converted. The values computed
+         * by the function passed to {@link #indexedValues(int, IntFunction)} are never stored, and are thus only
+         * converted, and checked, when the insert is executed.
+         * @param columns the typed columns to insert into
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the Insert has already been built, or if this method has already been
+         * called, or if one of the given columns is also specified as one of the generated value columns.
+         * @see TypedColumn#col(String, java.sql.JDBCType)
+         */
+        public Builder columns(@Nonnull TypedColumn... columns) {
+            Preconditions.checkNotNull(columns, "columns may not be null");
+            String[] names = new String[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                Preconditions.checkNotNull(columns[i], "column may not be null");
+                names[i] = columns[i].getName();
+            }
+            columns(names);
+            for (TypedColumn column : columns) {
+                Binder binder = Binders.typedBinder(column.getType());
+                binders.put(column.getName(), binder);
+                if (binder instanceof ConvertingBinder) {
+                    typedColumnBinders.put(column.getName(), (ConvertingBinder) binder);
+                }
+            }
+            return this;
+        }
+
         /**
          * Adds a row of values to insert.
          * @param values the values to insert.
@@ -459,6 +872,77 @@ public final class Insert implements Operation {
             return addRepeatingValues(row, 1);
         }
 
+        /**
+         * Adds one row per object of the given iterable. The value of each column is read from the property of the
+         * object matching with the column: a column matches with a property if their names are equal, ignoring case
+         * and underscores (so the column <code>FIRST_NAME</code> matches with the property <code>firstName</code>).
+         * A property is read using its getter (<code>getFirstName()</code>, or <code>isActive()</code> for a boolean
+         * property), or using an accessor having the name of the property, like the accessors of records
+         * (<code>firstName()</code>), or directly if it's a public field.
+         * <p>
+         * The accessors are looked up only once per class, and are invoked through method handles, without creating
+         * any intermediate map per object, which makes this method well suited to insert many objects.
+         * @param objects the objects to insert. They may be of different classes.
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the Insert has already been built, or if the columns haven't been specified
+         * yet by calling <code>columns()</code>.
+         * @throws IllegalArgumentException if one of the objects is null, or if one of the columns doesn't match with
+         * any readable property of an object.
+         */
+        public Builder valuesFrom(@Nonnull Iterable<?> objects) {
+            Preconditions.checkNotNull(objects, "objects may not be null");
+            return addObjectRows(objects.iterator());
+        }
+
+        /**
+         * Adds one row per object of the given stream, in the encounter order of the stream.
+         * @param objects the objects to insert. They may be of different classes.
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the Insert has already been built, or if the columns haven't been specified
+         * yet by calling <code>columns()</code>.
+         * @throws IllegalArgumentException if one of the objects is null, or if one of the columns doesn't match with
+         * any readable property of an object.
+         * @see #valuesFrom(Iterable)
+         */
+        public Builder valuesFrom(@Nonnull Stream<?> objects) {
+            Preconditions.checkNotNull(objects, "objects may not be null");
+            return addObjectRows(objects.iterator());
+        }
+
+        /**
+         * Adds the given number of rows, whose values are computed from the index of the row (starting at 0) by the
+         * given function, which returns the values of the row, in the order of the columns. This allows generating
+         * rows whose values are correlated, like an end date which must come after a start date, or a total computed
+         * from other columns, in a single pass.
+         * <p>
+         * The rows are never stored: the function is called lazily, every time a row is needed, i.e. when the Insert
+         * is executed, or when the values of a column are read using {@link Insert#getColumnValues(String)}. The
+         * function can thus be called several times for the same index, in any order, and from several threads. It
+         * must always return the same values for the same index, and it must not depend on any mutable state.
+         * Generated value columns can be combined with the computed rows, but the rows of the insert can't be both
+         * computed by a function and added by the other methods of this builder.
+         * <p>
+         * Since comparing the rows would require computing all of them, an Insert built using this method is only
+         * equal to another Insert built using this method, with the same number of rows and the same function
+         * instance. Reuse the same function instance to let a {@link com.ninja_squad.dbsetup.DbSetupTracker} skip
+         * the launch of an equal operation.
+         * @param count the number of rows to add. Must be &gt;= 0.
+         * @param rowFunction the function computing the values of the row at the given index
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the Insert has already been built, if the columns haven't been specified
+         * yet by calling <code>columns()</code>, or if rows have already been added.
+         */
+        public Builder indexedValues(int count, @Nonnull IntFunction<Object[]> rowFunction) {
+            Preconditions.checkState(!built, "The insert has already been built");
+            Preconditions.checkNotNull(rowFunction, "rowFunction may not be null");
+            Preconditions.checkArgument(count >= 0, "count must be >= 0");
+            Preconditions.checkState(!columnNames.isEmpty(),
+                                     "The columns must be specified before adding indexed values");
+            Preconditions.checkState(rows.isEmpty() && indexedRows == null, "rows have already been added");
+            indexedRows = new IndexedRowList(count, columnNames.size(), rowFunction, null);
+            return this;
+        }
+
         /**
          * Allows adding many rows with the same non-generated values to insert.
          * @return A RowRepeater, allowing to choose how many similar rows to add.
@@ -549,16 +1033,57 @@ public final class Insert implements Operation {
             return this;
         }
 
+        /**
+         * Associates a {@link BulkLoader} to the Insert, in order to load its rows using a native bulk-ingest
+         * mechanism of the database rather than by executing a parameterized insert statement for every row.
+         * If the bulk loader doesn't support the database, if a binder has explicitly been associated to one
+         * of the columns, or if the Insert is executed with another binder configuration than the
+         * {@link DefaultBinderConfiguration#INSTANCE default one}, the rows are inserted as usual, since the bulk
+         * loader wouldn't apply the conversions of the binders. So are they if one of the values is a
+         * {@link LobValue}, whose content can't be written as text.
+         * @param bulkLoader the bulk loader to use, or <code>null</code> to always use the standard JDBC path.
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the Insert has already been built.
+         * @see com.ninja_squad.dbsetup.bulk.BulkLoaders
+         */
+        public Builder withBulkLoader(BulkLoader bulkLoader) {
+            Preconditions.checkState(!built, "The insert has already been built");
+            this.bulkLoader = bulkLoader;
+            return this;
+        }
+
+        /**
+         * Determines if the values must be converted only once by the binders used to insert them, rather than
+         * every time the Insert is executed. The default is <code>false</code>. If set to <code>true</code>, the
+         * values bound by a {@link ConvertingBinder} (like the {@link Binders#dateBinder() date},
+         * {@link Binders#timeBinder() time} and {@link Binders#timestampBinder() timestamp} binders, which parse
+         * String literals) are converted during the first execution, whether the binder has been associated
+         * explicitly to the column or has been found from the metadata, and the converted values are kept and
+         * reused by the subsequent executions. This makes repeated executions of the same Insert faster, at the
+         * cost of keeping a converted copy of the rows in memory.
+         * @return this Builder instance, for chaining.
+         * @throws IllegalStateException if the Insert has already been built.
+         */
+        public Builder preconvertValues(boolean preconvert) {
+            Preconditions.checkState(!built, "The insert has already been built");
+            this.valuesPreconverted = preconvert;
+            return this;
+        }
+
         /**
          * Builds the Insert operation.
          * @return the created Insert operation.
          * @throws IllegalStateException if the Insert has already been built, or if no column and no generated value
          * column has been specified.
+         * @throws IllegalArgumentException if a value of a {@link #columns(TypedColumn...) typed column} can't be
+         * converted to the type of the column. The values of {@link #indexedValues(int, IntFunction) indexed rows}
+         * are only converted when the insert is executed.
          */
         public Insert build() {
             Preconditions.checkState(!built, "The insert has already been built");
             Preconditions.checkState(!this.columnNames.isEmpty() || !this.valueGenerators.isEmpty(),
                                      "no column and no generated value column has been specified");
+            convertTypedValues();
             built = true;
             return new Insert(this);
         }
@@ -570,20 +1095,61 @@ public final class Insert implements Operation {
                 + " [columns="
                 + columnNames
                 + ", rows="
-                + rows
+                + (indexedRows != null ? indexedRows : rows)
                 + ", valueGenerators="
                 + valueGenerators
                 + ", metadataUsed="
                 + metadataUsed
                 + ", binders="
                 + binders
+                + ", bulkLoader="
+                + bulkLoader
+                + ", valuesPreconverted="
+                + valuesPreconverted
                 + ", built="
                 + built
                 + "]";
         }
 
+        /**
+         * Converts the values of the typed columns, using the typed binder of each column, unless another binder has
+         * been associated to the column after its type had been declared
+         * @throws IllegalArgumentException if a value can't be converted
+         */
+        private void convertTypedValues() {
+            ConvertingBinder[] converters = new ConvertingBinder[columnNames.size()];
+            boolean conversionNeeded = false;
+            for (int i = 0; i < converters.length; i++) {
+                String columnName = columnNames.get(i);
+                ConvertingBinder converter = typedColumnBinders.get(columnName);
+                if (converter != null && converter == binders.get(columnName)) {
+                    converters[i] = converter;
+                    conversionNeeded = true;
+                }
+            }
+            if (!conversionNeeded) {
+                return;
+            }
+
+            if (indexedRows != null) {
+                indexedRows = indexedRows.withConverters(converters);
+                return;
+            }
+
+            for (int i = 0; i < rows.size(); i++) {
+                List<Object> row = new ArrayList<Object>(rows.get(i));
+                for (int j = 0; j < converters.length; j++) {
+                    if (converters[j] != null) {
+                        row.set(j, converters[j].convert(row.get(j)));
+                    }
+                }
+                rows.set(i, row);
+            }
+        }
+
         private Builder addRepeatingValues(List<?> values, int times) {
             Preconditions.checkState(!built, "The insert has already been built");
+            checkNoIndexedRows();
             Preconditions.checkArgument(values.size() == columnNames.size(),
                                         "The number of values doesn't match the number of columns");
 
@@ -597,6 +1163,7 @@ public final class Insert implements Operation {
         private Builder addRepeatingValues(@Nonnull Map<String, ?> row, int times) {
             Preconditions.checkState(!built, "The insert has already been built");
             Preconditions.checkNotNull(row, "The row may not be null");
+            checkNoIndexedRows();
 
             List<Object> values = mapToRow(row);
             for (int i = 0; i < times; i++) {
@@ -605,6 +1172,31 @@ public final class Insert implements Operation {
             return this;
         }
 
+        private Builder addObjectRows(Iterator<?> objects) {
+            Preconditions.checkState(!built, "The insert has already been built");
+            Preconditions.checkState(!columnNames.isEmpty(),
+                                     "The columns must be specified before adding values from objects");
+            checkNoIndexedRows();
+
+            Class<?> currentClass = null;
+            MethodHandle[] plan = null;
+            while (objects.hasNext()) {
+                Object object = objects.next();
+                Preconditions.checkArgument(object != null, "objects may not contain null");
+                if (object.getClass() != currentClass) {
+                    currentClass = object.getClass();
+                    plan = PropertyAccessors.forClass(currentClass).plan(columnNames);
+                }
+                rows.add(Arrays.asList(PropertyAccessors.read(plan, object)));
+            }
+            return this;
+        }
+
+        private void checkNoIndexedRows() {
+            Preconditions.checkState(indexedRows == null,
+                                     "The rows are computed by a function, and no other row may be added");
+        }
+
         private List<Object> mapToRow(@Nonnull Map<String, ?> row) {
             boolean setColumns = rows.isEmpty() && columnNames.isEmpty();
             if (setColumns) {
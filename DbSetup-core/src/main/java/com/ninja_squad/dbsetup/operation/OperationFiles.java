@@ -0,0 +1,468 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.JDBCType;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import com.ninja_squad.dbsetup.bind.Binder;
+import com.ninja_squad.dbsetup.bind.Binders;
+import com.ninja_squad.dbsetup.bulk.BulkLoader;
+import com.ninja_squad.dbsetup.bulk.BulkLoaders;
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * Utility class allowing to save a prebuilt operation to a binary file, and to load it back using memory-mapped I/O.
+ * This allows building large fixtures once, and reusing them across test runs and JVMs without paying the cost of
+ * building their Insert operations every time. Example usage:
+ * <pre>
+ *   // once, typically in a build step generating the fixture:
+ *   OperationFiles.write(sequenceOf(deleteAllFrom("PRODUCT", "VENDOR"), buildVendors(), buildProducts()),
+ *                        Paths.get("target/fixture.dbsetup"));
+ *
+ *   // in the tests:
+ *   Operation fixture = OperationFiles.load(Paths.get("target/fixture.dbsetup"));
+ * </pre>
+ *
+ * The supported operations are the ones created by {@link CompositeOperation}, {@link SqlOperation},
+ * {@link DeleteAll}, {@link Truncate} and {@link Insert}. The binders explicitly associated to the columns of an
+ * insert must be ones returned by {@link Binders}, and its bulk loader, if any, must be one returned by
+ * {@link BulkLoaders}. The values of the rows must have a type supported by {@link BinaryFixture.Writer}, and are
+ * read back with their original type, as in a {@link BinaryFixture}, so that the binders of the loaded insert bind
+ * exactly the same values as the ones of the original insert. The values generated by the value generators of an
+ * insert are stored like the other values, so that the loaded insert inserts exactly the same rows, but contains them
+ * as regular columns. Whether the values of an insert are {@link Insert.Builder#preconvertValues(boolean) preconverted}
+ * is also stored. The converted rows of such an insert are kept on the heap once it has been executed, like for the
+ * original insert.
+ * <p>
+ * Writing a file streams the rows of the inserts to the file, one at a time, so that the rows are never all encoded
+ * in memory. Loading a file maps it in memory (as several segments if it's larger than 1 GB), and only decodes the
+ * structure of the operations. The rows of the inserts are decoded lazily, one at a time, while the inserts are
+ * executed, and are never stored on the heap.
+ * @author JB Nizet
+ */
+public final class OperationFiles {
+
+    private static final int MAGIC = 0x4442534f; // DBSO
+    private static final short VERSION = 3;
+
+    /**
+     * The previous version of the format, which doesn't store whether the values of an insert are preconverted
+     */
+    private static final short VERSION_2 = 2;
+
+    /**
+     * The size of the segments in which a file is mapped
+     */
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    private static final byte COMPOSITE = 1;
+    private static final byte SQL = 2;
+    private static final byte DELETE_ALL = 3;
+    private static final byte TRUNCATE = 4;
+    private static final byte INSERT = 5;
+
+    private static final Map<String, Binder> BINDERS = indexByName(knownBinders());
+
+    private static final Map<String, BulkLoader> BULK_LOADERS =
+        indexByName(Arrays.asList(BulkLoaders.h2CsvRead(), BulkLoaders.hsqldbTextTable()));
+
+    private OperationFiles() {
+    }
+
+    /**
+     * Writes the given operation to the given file, which is created or replaced.
+     * @param operation the operation to write
+     * @param file the file to write
+     * @throws IOException if writing to the file fails
+     * @throws IllegalArgumentException if the operation, or one of its binders, bulk loaders or values, is not
+     * supported
+     */
+    public static void write(@Nonnull Operation operation, @Nonnull Path file) throws IOException {
+        Preconditions.checkNotNull(operation, "operation may not be null");
+        Preconditions.checkNotNull(file, "file may not be null");
+        FileChannel channel = FileChannel.open(file,
+                                               StandardOpenOption.CREATE,
+                                               StandardOpenOption.TRUNCATE_EXISTING,
+                                               StandardOpenOption.WRITE);
+        try {
+            CountingOutputStream counter =
+                new CountingOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            FileOutput out = new FileOutput(channel, counter);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            writeOperation(out, operation);
+            out.flush();
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Loads the operation stored in the given file, written by {@link #write(Operation, Path)}. The file is mapped
+     * in memory, and must not be modified as long as the returned operation is used.
+     * @param file the file to load
+     * @return the loaded operation
+     * @throws IOException if the file can't be read or is not a valid operation file
+     */
+    public static Operation load(@Nonnull Path file) throws IOException {
+        Preconditions.checkNotNull(file, "file may not be null");
+        return load(file, SEGMENT_SIZE);
+    }
+
+    /**
+     * Loads the operation stored in the given file, by mapping it as segments of the given size
+     */
+    static Operation load(Path file, int segmentSize) throws IOException {
+        ByteBuffer[] segments;
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            segments = new ByteBuffer[(int) Math.max(1L, (size + segmentSize - 1) / segmentSize)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i * segmentSize;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                                          position,
+                                          Math.min(segmentSize, size - position));
+            }
+        }
+        finally {
+            channel.close();
+        }
+
+        ByteBufferDataInput in = new ByteBufferDataInput(segments, segmentSize, 0L);
+        if (in.readInt() != MAGIC) {
+            throw new IOException(file + " is not an operation file");
+        }
+        short version = in.readShort();
+        if (version != VERSION && version != VERSION_2) {
+            throw new IOException("Unsupported operation file version: " + version);
+        }
+        return readOperation(in, version);
+    }
+
+    private static void writeOperation(FileOutput out, Operation operation) throws IOException {
+        if (operation == CompositeOperation.NOP) {
+            out.writeByte(COMPOSITE);
+            out.writeInt(0);
+        }
+        else if (operation instanceof CompositeOperation) {
+            List<Operation> operations = ((CompositeOperation) operation).getOperations();
+            out.writeByte(COMPOSITE);
+            out.writeInt(operations.size());
+            for (Operation child : operations) {
+                writeOperation(out, child);
+            }
+        }
+        else if (operation instanceof SqlOperation) {
+            out.writeByte(SQL);
+            FixtureFormat.writeString(out, ((SqlOperation) operation).getSql());
+        }
+        else if (operation instanceof DeleteAll) {
+            out.writeByte(DELETE_ALL);
+            FixtureFormat.writeString(out, ((DeleteAll) operation).getTable());
+        }
+        else if (operation instanceof Truncate) {
+            out.writeByte(TRUNCATE);
+            FixtureFormat.writeString(out, ((Truncate) operation).getTable());
+        }
+        else if (operation instanceof Insert) {
+            out.writeByte(INSERT);
+            writeInsert(out, (Insert) operation);
+        }
+        else {
+            throw new IllegalArgumentException("The operation " + operation + " can't be written to a file");
+        }
+    }
+
+    /**
+     * Writes an insert. The rows are streamed to the file, preceded by the length of their data, which is written
+     * once all the rows have been written, and followed by the offset of each row in the data, so that each row can
+     * be decoded independently of the others when the file is loaded.
+     */
+    private static void writeInsert(FileOutput out, Insert insert) throws IOException {
+        List<String> columnNames = insert.getAllColumnNames();
+        FixtureFormat.writeString(out, insert.getTable());
+        out.writeInt(columnNames.size());
+        for (String columnName : columnNames) {
+            FixtureFormat.writeString(out, columnName);
+        }
+        out.writeBoolean(insert.isMetadataUsed());
+        out.writeBoolean(insert.isValuesPreconverted());
+
+        Map<String, Binder> binders = insert.getBinders();
+        out.writeInt(binders.size());
+        for (Map.Entry<String, Binder> entry : binders.entrySet()) {
+            FixtureFormat.writeString(out, entry.getKey());
+            FixtureFormat.writeString(out, nameOf(entry.getValue(), BINDERS));
+        }
+
+        BulkLoader bulkLoader = insert.getBulkLoader();
+        out.writeBoolean(bulkLoader != null);
+        if (bulkLoader != null) {
+            FixtureFormat.writeString(out, nameOf(bulkLoader, BULK_LOADERS));
+        }
+
+        long[] offsets = new long[insert.getRowCount()];
+        out.writeInt(offsets.length);
+        long dataLengthPosition = out.position();
+        out.writeLong(0L);
+        long dataPosition = out.position();
+        int rowIndex = 0;
+        for (Iterator<List<?>> it = insert.completeRows(); it.hasNext(); ) {
+            offsets[rowIndex] = out.position() - dataPosition;
+            for (Object value : it.next()) {
+                FixtureFormat.writeValue(out, value);
+            }
+            rowIndex++;
+        }
+        out.patchLong(dataLengthPosition, out.position() - dataPosition);
+
+        for (long offset : offsets) {
+            out.writeLong(offset);
+        }
+    }
+
+    private static Operation readOperation(ByteBufferDataInput in, short version) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case COMPOSITE:
+                int count = FixtureFormat.readLength(in, 1);
+                List<Operation> operations = new ArrayList<Operation>(count);
+                for (int i = 0; i < count; i++) {
+                    operations.add(readOperation(in, version));
+                }
+                return CompositeOperation.sequenceOf(operations);
+            case SQL:
+                return SqlOperation.of(FixtureFormat.readString(in));
+            case DELETE_ALL:
+                return DeleteAll.from(FixtureFormat.readString(in));
+            case TRUNCATE:
+                return Truncate.table(FixtureFormat.readString(in));
+            case INSERT:
+                return readInsert(in, version);
+            default:
+                throw new IOException("Unknown operation type tag: " + tag);
+        }
+    }
+
+    private static Insert readInsert(ByteBufferDataInput in, short version) throws IOException {
+        String table = FixtureFormat.readString(in);
+        int columnCount = FixtureFormat.readLength(in, 4);
+        List<String> columnNames = new ArrayList<String>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columnNames.add(FixtureFormat.readString(in));
+        }
+        boolean metadataUsed = in.readBoolean();
+        boolean valuesPreconverted = version != VERSION_2 && in.readBoolean();
+
+        int binderCount = FixtureFormat.readLength(in, 8);
+        Map<String, Binder> binders = new HashMap<String, Binder>();
+        for (int i = 0; i < binderCount; i++) {
+            String column = FixtureFormat.readString(in);
+            binders.put(column, byName(FixtureFormat.readString(in), BINDERS));
+        }
+
+        BulkLoader bulkLoader = null;
+        if (in.readBoolean()) {
+            bulkLoader = byName(FixtureFormat.readString(in), BULK_LOADERS);
+        }
+
+        int rowCount = FixtureFormat.readLength(in, 8);
+        long dataLength = in.readLong();
+        if (dataLength < 0 || dataLength > in.remaining() - rowCount * 8L) {
+            throw new IOException("Invalid length of the rows of table " + table + ": " + dataLength);
+        }
+        long dataPosition = in.position();
+        in.skipFully(dataLength);
+        long offsetsPosition = in.position();
+        in.skipFully(rowCount * 8L);
+
+        List<List<?>> rows = new MappedRowList(in, offsetsPosition, dataPosition, rowCount, columnCount);
+        return new Insert(table, columnNames, rows, binders, metadataUsed, bulkLoader, valuesPreconverted);
+    }
+
+    private static <T> String nameOf(T object, Map<String, T> objectsByName) {
+        String name = object.toString();
+        if (objectsByName.get(name) != object) {
+            throw new IllegalArgumentException(object + " can't be written to a file");
+        }
+        return name;
+    }
+
+    private static <T> T byName(String name, Map<String, T> objectsByName) throws IOException {
+        T result = objectsByName.get(name);
+        if (result == null) {
+            throw new IOException("Unknown binder or bulk loader: " + name);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the binders which can be written to a file: the binders returned by {@link Binders}
+     */
+    private static List<Binder> knownBinders() {
+        List<Binder> result = new ArrayList<Binder>();
+        result.addAll(Arrays.asList(Binders.defaultBinder(),
+                                    Binders.stringBinder(),
+                                    Binders.dateBinder(),
+                                    Binders.timestampBinder(),
+                                    Binders.timeBinder(),
+                                    Binders.decimalBinder(),
+                                    Binders.integerBinder()));
+        for (JDBCType type : JDBCType.values()) {
+            result.add(Binders.typedBinder(type));
+        }
+        return result;
+    }
+
+    private static <T> Map<String, T> indexByName(List<T> objects) {
+        Map<String, T> result = new LinkedHashMap<String, T>();
+        for (T object : objects) {
+            result.put(object.toString(), object);
+        }
+        return result;
+    }
+
+    /**
+     * The immutable list of rows of a loaded insert, which decodes each row from the mapped file when it's accessed.
+     */
+    private static final class MappedRowList extends AbstractList<List<?>> {
+        private final ByteBufferDataInput file;
+        private final long offsetsPosition;
+        private final long dataPosition;
+        private final int rowCount;
+        private final int columnCount;
+
+        MappedRowList(ByteBufferDataInput file,
+                      long offsetsPosition,
+                      long dataPosition,
+                      int rowCount,
+                      int columnCount) {
+            this.file = file;
+            this.offsetsPosition = offsetsPosition;
+            this.dataPosition = dataPosition;
+            this.rowCount = rowCount;
+            this.columnCount = columnCount;
+        }
+
+        @Override
+        public List<?> get(int index) {
+            if (index < 0 || index >= rowCount) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + rowCount);
+            }
+            Object[] row = new Object[columnCount];
+            try {
+                ByteBufferDataInput in = file.at(dataPosition + file.at(offsetsPosition + index * 8L).readLong());
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = FixtureFormat.readValue(in);
+                }
+            }
+            catch (IOException e) {
+                throw new IllegalStateException("The row " + index + " of the operation file is corrupted", e);
+            }
+            return Arrays.asList(row);
+        }
+
+        @Override
+        public int size() {
+            return rowCount;
+        }
+    }
+
+    /**
+     * An output stream counting the bytes written to it, whatever their number
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * The output used to write an operation file, which knows its position in the file, and allows patching the file
+     * at a position which has already been written
+     */
+    private static final class FileOutput extends DataOutputStream {
+        private final FileChannel channel;
+        private final CountingOutputStream counter;
+
+        FileOutput(FileChannel channel, CountingOutputStream counter) {
+            super(counter);
+            this.channel = channel;
+            this.counter = counter;
+        }
+
+        long position() {
+            return counter.count;
+        }
+
+        /**
+         * Flushes the bytes written so far, and replaces the long written at the given position by the given value
+         */
+        void patchLong(long position, long value) throws IOException {
+            flush();
+            ByteBuffer buffer = ByteBuffer.allocate(8);
+            buffer.putLong(0, value);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The accessors of the properties of a class, used to read the values of the columns of an insert from objects,
+ * without going through a map and without any reflective call per object. The accessors of a class are looked up
+ * once, and the method handles reading the values of a given list of columns (the plan) are computed once per
+ * list of columns.
+ * <p>
+ * A column matches with a property if their names are equal, ignoring case and underscores. A property can be
+ * read using a getter (<code>getFirstName()</code> or <code>isActive()</code>), an accessor named after the property,
+ * as in records (<code>firstName()</code>), or a public field. Getters have the highest priority, and public fields
+ * the lowest one.
+ * @author JB Nizet
+ */
+final class PropertyAccessors {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<PropertyAccessors> ACCESSORS = new ClassValue<PropertyAccessors>() {
+        @Override
+        protected PropertyAccessors computeValue(Class<?> type) {
+            return new PropertyAccessors(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    /**
+     * The members giving access to the properties, indexed by normalized property name
+     */
+    private final Map<String, AccessibleObject> members = new HashMap<String, AccessibleObject>();
+
+    /**
+     * The plans already computed, indexed by list of column names
+     */
+    private final ConcurrentMap<List<String>, MethodHandle[]> plans =
+        new ConcurrentHashMap<List<String>, MethodHandle[]>();
+
+    private PropertyAccessors(Class<?> type) {
+        this.type = type;
+        for (Field field : type.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                members.put(normalize(field.getName()), field);
+            }
+        }
+        Map<String, Method> getters = new HashMap<String, Method>();
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers())
+                || method.getParameterTypes().length > 0
+                || method.getReturnType() == void.class
+                || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            String name = method.getName();
+            if (name.startsWith("get") && name.length() > 3) {
+                getters.put(normalize(name.substring(3)), method);
+            }
+            else if (name.startsWith("is")
+                     && name.length() > 2
+                     && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+                getters.put(normalize(name.substring(2)), method);
+            }
+            members.put(normalize(name), method);
+        }
+        members.putAll(getters);
+    }
+
+    /**
+     * Returns the accessors of the given class
+     */
+    static PropertyAccessors forClass(Class<?> type) {
+        return ACCESSORS.get(type);
+    }
+
+    /**
+     * Returns the handles, of type (Object)Object, reading the values of the given columns from an instance of
+     * the class
+     * @throws IllegalArgumentException if a column doesn't match with any readable property of the class
+     */
+    MethodHandle[] plan(List<String> columnNames) {
+        MethodHandle[] plan = plans.get(columnNames);
+        if (plan == null) {
+            plan = new MethodHandle[columnNames.size()];
+            for (int i = 0; i < plan.length; i++) {
+                plan[i] = accessor(columnNames.get(i));
+            }
+            MethodHandle[] existing = plans.putIfAbsent(Arrays.asList(columnNames.toArray(new String[0])), plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Reads the values of a row from the given object, using the given plan
+     */
+    static Object[] read(MethodHandle[] plan, Object object) {
+        Object[] row = new Object[plan.length];
+        try {
+            for (int i = 0; i < plan.length; i++) {
+                row[i] = plan[i].invokeExact(object);
+            }
+        }
+        catch (RuntimeException e) {
+            throw e;
+        }
+        catch (Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
+            throw new IllegalStateException("The properties of " + object + " can't be read", e);
+        }
+        return row;
+    }
+
+    private MethodHandle accessor(String columnName) {
+        AccessibleObject member = members.get(normalize(columnName));
+        if (member == null) {
+            throw new IllegalArgumentException("The column " + columnName
+                                               + " doesn't match with any readable property of " + type.getName());
+        }
+        try {
+            return unreflect(member).asType(ACCESSOR_TYPE);
+        }
+        catch (IllegalAccessException e) {
+            // the class is probably not public: try again after suppressing the access checks
+            return forcedAccessor(member, columnName);
+        }
+    }
+
+    private MethodHandle forcedAccessor(AccessibleObject member, String columnName) {
+        try {
+            member.setAccessible(true);
+            return unreflect(member).asType(ACCESSOR_TYPE);
+        }
+        catch (IllegalAccessException e) {
+            throw inaccessible(columnName, e);
+        }
+        catch (RuntimeException e) {
+            throw inaccessible(columnName, e);
+        }
+    }
+
+    private IllegalArgumentException inaccessible(String columnName, Exception cause) {
+        return new IllegalArgumentException("The property matching with the column " + columnName + " of "
+                                            + type.getName() + " can't be accessed", cause);
+    }
+
+    private static MethodHandle unreflect(AccessibleObject member) throws IllegalAccessException {
+        if (member instanceof Method) {
+            return MethodHandles.lookup().unreflect((Method) member);
+        }
+        return MethodHandles.lookup().unreflectGetter((Field) member);
+    }
+
+    private static String normalize(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.ninja_squad.dbsetup.bind.Binder;
+import com.ninja_squad.dbsetup.bind.BinderConfiguration;
+import com.ninja_squad.dbsetup.bind.ColumnBinderConfiguration;
+import com.ninja_squad.dbsetup.bind.DoubleBinder;
+import com.ninja_squad.dbsetup.bind.LobValue;
+import com.ninja_squad.dbsetup.bind.LongBinder;
+
+/**
+ * Inserts rows into a table using a single prepared statement, optionally using JDBC batches. This class contains
+ * the logic shared by the operations which insert rows: the generation of the SQL query, the initialization of the
+ * binders, and the binding and execution of every row.
+ * <p>
+ * The streams and readers opened to bind {@link LobValue}s are closed once the rows using them have been inserted,
+ * and when the inserter is closed, since drivers don't close them, and don't read them entirely when they're given
+ * their length.
+ * @author JB Nizet
+ */
+final class RowInserter {
+    private final PreparedStatement statement;
+    private final Binder[] binders;
+    private final int batchSize;
+    private int batchedRowCount;
+
+    /**
+     * The streams and readers opened to bind the LOB values of the current row, or of the current batch
+     */
+    private final List<Closeable> openedStreams = new ArrayList<Closeable>();
+
+    private RowInserter(PreparedStatement statement, Binder[] binders, int batchSize) {
+        this.statement = statement;
+        this.binders = binders;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Prepares the insert statement and initializes the binders. Unless <code>metadataUsed</code> is
+     * <code>false</code>, the given configuration is used to get the appropriate binder. Nevertheless, if a binder
+     * has explicitly been associated to a given column, this binder will always be used for this column. If the
+     * configuration is a {@link ColumnBinderConfiguration}, it's first asked for the binder of each column, and the
+     * parameter metadata are only requested if it can't return the binder of some column.
+     * @param batchSize the number of rows to send in a single JDBC batch. If 1, or if the database doesn't support
+     * batch updates, every row is inserted using <code>executeUpdate()</code>.
+     */
+    @edu.umd.cs.findbugs.annotations.SuppressWarnings(
+        value = "SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING",
+        justification = "The point here is precisely to compose a SQL String from column names coming from the user")
+    static RowInserter prepare(Connection connection,
+                               String table,
+                               List<String> columnNames,
+                               Map<String, Binder> explicitBinders,
+                               boolean metadataUsed,
+                               BinderConfiguration configuration,
+                               int batchSize) throws SQLException {
+        int actualBatchSize = batchSize;
+        if (batchSize > 1 && !connection.getMetaData().supportsBatchUpdates()) {
+            actualBatchSize = 1;
+        }
+
+        PreparedStatement stmt = connection.prepareStatement(generateSqlQuery(table, columnNames));
+        try {
+            Binder[] binders =
+                initializeBinders(connection, stmt, table, columnNames, explicitBinders, metadataUsed, configuration);
+            return new RowInserter(stmt, binders, actualBatchSize);
+        }
+        catch (SQLException e) {
+            stmt.close();
+            throw e;
+        }
+        catch (RuntimeException e) {
+            stmt.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Binds the given value to the column at the given index (0-based) of the current row
+     */
+    void bind(int columnIndex, Object value) throws SQLException {
+        Object boundValue = value;
+        if (value instanceof LobValue) {
+            boundValue = ((LobValue) value).closedBy(openedStreams);
+        }
+        binders[columnIndex].bind(statement, columnIndex + 1, boundValue);
+    }
+
+    /**
+     * Binds the given primitive value to the column at the given index (0-based) of the current row, without boxing
+     * it if the binder of the column is a {@link LongBinder}
+     */
+    void bindLong(int columnIndex, long value) throws SQLException {
+        Binder binder = binders[columnIndex];
+        if (binder instanceof LongBinder) {
+            ((LongBinder) binder).bindLong(statement, columnIndex + 1, value);
+        }
+        else {
+            binder.bind(statement, columnIndex + 1, value);
+        }
+    }
+
+    /**
+     * Binds the given primitive value to the column at the given index (0-based) of the current row, without boxing
+     * it if the binder of the column is a {@link DoubleBinder}
+     */
+    void bindDouble(int columnIndex, double value) throws SQLException {
+        Binder binder = binders[columnIndex];
+        if (binder instanceof DoubleBinder) {
+            ((DoubleBinder) binder).bindDouble(statement, columnIndex + 1, value);
+        }
+        else {
+            binder.bind(statement, columnIndex + 1, value);
+        }
+    }
+
+    /**
+     * Gets the binders used for each column, in the order of the columns
+     */
+    Binder[] getBinders() {
+        return binders.clone();
+    }
+
+    /**
+     * Inserts the current row, once all its values have been bound, or adds it to the current batch
+     */
+    void insertRow() throws SQLException {
+        if (batchSize <= 1) {
+            try {
+                statement.executeUpdate();
+            }
+            finally {
+                closeOpenedStreams();
+            }
+        }
+        else {
+            statement.addBatch();
+            batchedRowCount++;
+            if (batchedRowCount == batchSize) {
+                executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Inserts the rows of the current batch, if any. Must be called once all the rows have been inserted.
+     */
+    void finish() throws SQLException {
+        if (batchedRowCount > 0) {
+            executeBatch();
+        }
+    }
+
+    /**
+     * Closes the prepared statement, and the streams opened for the rows which haven't been inserted
+     */
+    void close() throws SQLException {
+        try {
+            statement.close();
+        }
+        finally {
+            closeOpenedStreams();
+        }
+    }
+
+    private void executeBatch() throws SQLException {
+        try {
+            statement.executeBatch();
+            batchedRowCount = 0;
+        }
+        finally {
+            closeOpenedStreams();
+        }
+    }
+
+    private void closeOpenedStreams() {
+        for (Closeable stream : openedStreams) {
+            try {
+                stream.close();
+            }
+            catch (IOException e) {
+                // nothing to do: the content has already been sent to the database, or the insertion has failed
+            }
+        }
+        openedStreams.clear();
+    }
+
+    static String generateSqlQuery(String table, List<String> columnNames) {
+        StringBuilder sql = new StringBuilder("insert into ").append(table).append(" (");
+        for (Iterator<String> it = columnNames.iterator(); it.hasNext(); ) {
+            String columnName = it.next();
+            sql.append(columnName);
+            if (it.hasNext()) {
+                sql.append(", ");
+            }
+        }
+        sql.append(") values (");
+        for (Iterator<String> it = columnNames.iterator(); it.hasNext(); ) {
+            it.next();
+            sql.append('?');
+            if (it.hasNext()) {
+                sql.append(", ");
+            }
+        }
+        sql.append(')');
+
+        return sql.toString();
+    }
+
+    private static Binder[] initializeBinders(Connection connection,
+                                              PreparedStatement stmt,
+                                              String table,
+                                              List<String> columnNames,
+                                              Map<String, Binder> explicitBinders,
+                                              boolean metadataUsed,
+                                              BinderConfiguration configuration) throws SQLException {
+        Binder[] result = new Binder[columnNames.size()];
+        ColumnBinderConfiguration columnConfiguration = null;
+        if (metadataUsed && configuration instanceof ColumnBinderConfiguration) {
+            columnConfiguration = (ColumnBinderConfiguration) configuration;
+        }
+        ParameterMetaData metadata = null;
+        boolean metadataRequested = false;
+        int i = 0;
+        for (String columnName : columnNames) {
+            Binder binder = explicitBinders.get(columnName);
+            if (binder == null && columnConfiguration != null) {
+                binder = columnConfiguration.getBinder(connection, table, columnName);
+            }
+            if (binder == null) {
+                if (metadataUsed && !metadataRequested) {
+                    metadata = getParameterMetaData(stmt);
+                    metadataRequested = true;
+                }
+                binder = configuration.getBinder(metadata, i + 1);
+                if (binder == null) {
+                    throw new IllegalStateException("null binder returned from configuration "
+                                                    + configuration.getClass());
+                }
+            }
+            result[i] = binder;
+            i++;
+        }
+        return result;
+    }
+
+    private static ParameterMetaData getParameterMetaData(PreparedStatement stmt) {
+        try {
+            return stmt.getParameterMetaData();
+        }
+        catch (SQLException e) {
+            // the parameter metadata are probably not supported by the database. Pass null to the configuration.
+            // The default configuration will return the default binder, just as if useMetadata(false) had been used
+            return null;
+        }
+    }
+}
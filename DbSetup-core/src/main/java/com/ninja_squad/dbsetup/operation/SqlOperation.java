@@ -68,6 +68,13 @@ public final class SqlOperation implements Operation {
         }
     }
 
+    /**
+     * Gets the SQL statement executed by this operation
+     */
+    String getSql() {
+        return sql;
+    }
+
     /**
      * Creates a SqlOperation for the given SQL statement
      * @param sqlStatement the SQL statement to execute
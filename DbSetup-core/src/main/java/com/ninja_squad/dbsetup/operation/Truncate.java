@@ -61,6 +61,13 @@ public final class Truncate implements Operation {
         }
     }
 
+    /**
+     * Gets the table which is truncated by this operation
+     */
+    String getTable() {
+        return tableToTruncate;
+    }
+
     /**
      * Returns an operation which truncates the given table.
      * @param table the table to delete everything from.
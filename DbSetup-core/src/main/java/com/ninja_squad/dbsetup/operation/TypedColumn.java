@@ -0,0 +1,104 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import java.sql.JDBCType;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * The declaration of a column of an {@link Insert}, with its SQL type. Declaring the type of the columns makes the
+ * insert use the {@link com.ninja_squad.dbsetup.bind.Binders#typedBinder(JDBCType) typed binder} of each column,
+ * without ever requesting the parameter metadata, and converts the values when the insert is built. Example usage:
+ * <pre>
+ *   import static com.ninja_squad.dbsetup.operation.TypedColumn.col;
+ *   import static java.sql.JDBCType.*;
+ *   ...
+ *   Insert insert =
+ *       Insert.into("CLIENT")
+ *             .columns(col("CLIENT_ID", BIGINT), col("NAME", VARCHAR), col("BIRTH_DATE", DATE))
+ *             .values(1L, "John", "1975-07-19")
+ *             .build();
+ * </pre>
+ * @see Insert.Builder#columns(TypedColumn...)
+ * @author JB Nizet
+ */
+@Immutable
+public final class TypedColumn {
+    private final String name;
+    private final JDBCType type;
+
+    private TypedColumn(String name, JDBCType type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    /**
+     * Creates a typed column declaration
+     * @param name the name of the column
+     * @param type the SQL type of the column
+     */
+    public static TypedColumn col(@Nonnull String name, @Nonnull JDBCType type) {
+        Preconditions.checkNotNull(name, "name may not be null");
+        Preconditions.checkNotNull(type, "type may not be null");
+        return new TypedColumn(name, type);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public JDBCType getType() {
+        return type;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * name.hashCode() + type.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        TypedColumn other = (TypedColumn) obj;
+        return name.equals(other.name) && type == other.type;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + type;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.plan;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+import com.ninja_squad.dbsetup.DbSetupRuntimeException;
+import com.ninja_squad.dbsetup.bind.BinderConfiguration;
+import com.ninja_squad.dbsetup.operation.Operation;
+import com.ninja_squad.dbsetup.util.Preconditions;
+
+/**
+ * The planned cost of launching an operation, computed without any database by executing the operation against a
+ * fake connection which records the statements, rows and bound values. Example usage:
+ * <pre>
+ *   LaunchPlan plan = new DbSetup(destination, operation).plan();
+ *   Files.write(Paths.get("target/fixture-plan.json"), plan.toJson().getBytes(StandardCharsets.UTF_8));
+ * </pre>
+ *
+ * The plan contains the cost of every statement that would be prepared or executed, and the cost aggregated by
+ * table. Since the fake connection pretends to support batch updates, the number of round trips takes the batch
+ * sizes configured in the operations into account. The fake connection doesn't provide any parameter metadata, so
+ * the binders used are the ones returned by the binder configuration for a <code>null</code> metadata, and the
+ * estimated payload can thus slightly differ from the one of a real launch.
+ * <p>
+ * The plan can be exported as JSON, so that it can be compared with a reference plan by a CI build, in order to flag
+ * fixtures which become more expensive.
+ * @see com.ninja_squad.dbsetup.DbSetup#plan()
+ * @author JB Nizet
+ */
+@Immutable
+public final class LaunchPlan {
+    private final List<StatementPlan> statements;
+    private final List<TablePlan> tables;
+    private final int rowCount;
+    private final int bindCount;
+    private final int roundTripCount;
+    private final long payloadBytes;
+
+    private LaunchPlan(List<StatementPlan> statements) {
+        this.statements = Collections.unmodifiableList(statements);
+        this.tables = Collections.unmodifiableList(aggregateByTable(statements));
+        int rows = 0;
+        int binds = 0;
+        int roundTrips = 0;
+        long bytes = 0;
+        for (StatementPlan statement : statements) {
+            rows += statement.getRowCount();
+            binds += statement.getBindCount();
+            roundTrips += statement.getRoundTripCount();
+            bytes += statement.getPayloadBytes();
+        }
+        this.rowCount = rows;
+        this.bindCount = binds;
+        this.roundTripCount = roundTrips;
+        this.payloadBytes = bytes;
+    }
+
+    /**
+     * Plans the given operation, by executing it against a fake connection.
+     * @param operation the operation to plan
+     * @param binderConfiguration the binder configuration used to get the binders
+     * @return the plan of the operation
+     * @throws DbSetupRuntimeException if the operation fails, for example because a file it reads doesn't exist.
+     */
+    public static LaunchPlan of(@Nonnull Operation operation, @Nonnull BinderConfiguration binderConfiguration) {
+        Preconditions.checkNotNull(operation, "operation may not be null");
+        Preconditions.checkNotNull(binderConfiguration, "binderConfiguration may not be null");
+        PlanRecorder recorder = new PlanRecorder();
+        try {
+            operation.execute(recorder.getConnection(), binderConfiguration);
+        }
+        catch (SQLException e) {
+            throw new DbSetupRuntimeException(e);
+        }
+        return new LaunchPlan(recorder.getStatementPlans());
+    }
+
+    private static List<TablePlan> aggregateByTable(List<StatementPlan> statements) {
+        Map<String, List<StatementPlan>> statementsByTable = new LinkedHashMap<String, List<StatementPlan>>();
+        for (StatementPlan statement : statements) {
+            if (statement.getTable() != null) {
+                List<StatementPlan> tableStatements = statementsByTable.get(statement.getTable());
+                if (tableStatements == null) {
+                    tableStatements = new ArrayList<StatementPlan>();
+                    statementsByTable.put(statement.getTable(), tableStatements);
+                }
+                tableStatements.add(statement);
+            }
+        }
+
+        List<TablePlan> result = new ArrayList<TablePlan>(statementsByTable.size());
+        for (Map.Entry<String, List<StatementPlan>> entry : statementsByTable.entrySet()) {
+            int rows = 0;
+            int binds = 0;
+            int roundTrips = 0;
+            long bytes = 0;
+            for (StatementPlan statement : entry.getValue()) {
+                rows += statement.getRowCount();
+                binds += statement.getBindCount();
+                roundTrips += statement.getRoundTripCount();
+                bytes += statement.getPayloadBytes();
+            }
+            result.add(new TablePlan(entry.getKey(), entry.getValue().size(), rows, binds, roundTrips, bytes));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the plans of all the statements, in the order they would be prepared or executed
+     */
+    public List<StatementPlan> getStatements() {
+        return statements;
+    }
+
+    /**
+     * Gets the plans aggregated by table, in the order the tables are first affected. Statements whose table can't
+     * be deduced from their SQL (see {@link StatementPlan#getTable()}) are not part of any table plan.
+     */
+    public List<TablePlan> getTables() {
+        return tables;
+    }
+
+    /**
+     * Gets the total number of rows sent to the database
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the total number of bind calls
+     */
+    public int getBindCount() {
+        return bindCount;
+    }
+
+    /**
+     * Gets the total number of round trips to the database
+     */
+    public int getRoundTripCount() {
+        return roundTripCount;
+    }
+
+    /**
+     * Gets the total estimated number of bytes sent to the database
+     */
+    public long getPayloadBytes() {
+        return payloadBytes;
+    }
+
+    /**
+     * Returns a JSON representation of this plan, of the following form (on a single line):
+     * <pre>
+     * {"statementCount":2,"rowCount":3,"bindCount":4,"roundTripCount":3,"payloadBytes":87,
+     *  "tables":[{"table":"A","statementCount":2,"rowCount":3,"bindCount":4,"roundTripCount":3,"payloadBytes":87}],
+     *  "statements":[{"sql":"delete from A","table":"A","prepared":false,"rowCount":1,"bindCount":0,
+     *                 "roundTripCount":1,"payloadBytes":13},
+     *                {"sql":"insert into A (x, y) values (?, ?)","table":"A","prepared":true,"rowCount":2,
+     *                 "bindCount":4,"roundTripCount":2,"payloadBytes":74}]}
+     * </pre>
+     * The table of a statement is <code>null</code> if it can't be deduced from its SQL.
+     */
+    public String toJson() {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        appendCounters(builder, statements.size(), rowCount, bindCount, roundTripCount, payloadBytes);
+        builder.append(",\"tables\":[");
+        for (int i = 0; i < tables.size(); i++) {
+            TablePlan table = tables.get(i);
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"table\":");
+            appendString(builder, table.getTable());
+            builder.append(',');
+            appendCounters(builder,
+                           table.getStatementCount(),
+                           table.getRowCount(),
+                           table.getBindCount(),
+                           table.getRoundTripCount(),
+                           table.getPayloadBytes());
+            builder.append('}');
+        }
+        builder.append("],\"statements\":[");
+        for (int i = 0; i < statements.size(); i++) {
+            StatementPlan statement = statements.get(i);
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"sql\":");
+            appendString(builder, statement.getSql());
+            builder.append(",\"table\":");
+            appendString(builder, statement.getTable());
+            builder.append(",\"prepared\":").append(statement.isPrepared());
+            builder.append(",\"rowCount\":").append(statement.getRowCount());
+            builder.append(",\"bindCount\":").append(statement.getBindCount());
+            builder.append(",\"roundTripCount\":").append(statement.getRoundTripCount());
+            builder.append(",\"payloadBytes\":").append(statement.getPayloadBytes());
+            builder.append('}');
+        }
+        builder.append("]}");
+        return builder.toString();
+    }
+
+    private static void appendCounters(StringBuilder builder,
+                                       int statementCount,
+                                       int rowCount,
+                                       int bindCount,
+                                       int roundTripCount,
+                                       long payloadBytes) {
+        builder.append("\"statementCount\":").append(statementCount);
+        builder.append(",\"rowCount\":").append(rowCount);
+        builder.append(",\"bindCount\":").append(bindCount);
+        builder.append(",\"roundTripCount\":").append(roundTripCount);
+        builder.append(",\"payloadBytes\":").append(payloadBytes);
+    }
+
+    private static void appendString(StringBuilder builder, String s) {
+        if (s == null) {
+            builder.append("null");
+            return;
+        }
+        builder.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    }
+                    else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+
+    @Override
+    public String toString() {
+        return "LaunchPlan [statementCount="
+               + statements.size()
+               + ", rowCount="
+               + rowCount
+               + ", bindCount="
+               + bindCount
+               + ", roundTripCount="
+               + roundTripCount
+               + ", payloadBytes="
+               + payloadBytes
+               + "]";
+    }
+}
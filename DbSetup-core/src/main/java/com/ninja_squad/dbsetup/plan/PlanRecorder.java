@@ -0,0 +1,392 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.plan;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Records the statements executed by operations, using a fake connection which doesn't talk to any database. The
+ * fake connection pretends to support batch updates, so that the operations use their configured batch size, and
+ * doesn't support parameter metadata, so that the binder configuration is asked for binders without metadata.
+ * @author JB Nizet
+ */
+final class PlanRecorder {
+
+    static final String DATABASE_PRODUCT_NAME = "DbSetup plan";
+
+    private static final Pattern TABLE_PATTERN =
+        Pattern.compile("^\\s*(?:insert\\s+into|delete\\s+from|truncate\\s+table|update)\\s+([^\\s(]+)",
+                        Pattern.CASE_INSENSITIVE);
+
+    private final List<StatementRecord> records = new ArrayList<StatementRecord>();
+    private final Connection connection;
+
+    PlanRecorder() {
+        this.connection = proxy(Connection.class, new ConnectionHandler());
+    }
+
+    /**
+     * Gets the fake connection which records the executed statements
+     */
+    Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Gets the plans of all the statements recorded so far, in the order they've been created
+     */
+    List<StatementPlan> getStatementPlans() {
+        List<StatementPlan> result = new ArrayList<StatementPlan>(records.size());
+        for (StatementRecord record : records) {
+            result.add(new StatementPlan(record.sql,
+                                         tableOf(record.sql),
+                                         record.prepared,
+                                         record.rowCount,
+                                         record.bindCount,
+                                         record.roundTripCount,
+                                         record.payloadBytes));
+        }
+        return result;
+    }
+
+    /**
+     * Deduces the table affected by the given SQL query, or returns <code>null</code> if it can't be deduced
+     */
+    static String tableOf(String sql) {
+        Matcher matcher = TABLE_PATTERN.matcher(sql);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * Estimates the number of bytes needed to send the given value to the database
+     */
+    static long estimateBytes(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Boolean || value instanceof Byte) {
+            return 1;
+        }
+        if (value instanceof Short) {
+            return 2;
+        }
+        if (value instanceof Integer || value instanceof Float || value instanceof java.sql.Date) {
+            return 4;
+        }
+        if (value instanceof Long || value instanceof Double || value instanceof Time) {
+            return 8;
+        }
+        if (value instanceof Timestamp) {
+            return 12;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).unscaledValue().bitLength() / 8 + 1 + 4;
+        }
+        if (value instanceof BigInteger) {
+            return ((BigInteger) value).bitLength() / 8 + 1;
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        return utf8Length(value.toString());
+    }
+
+    static long utf8Length(CharSequence s) {
+        long result = 0;
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                result++;
+            }
+            else if (c < 0x800) {
+                result += 2;
+            }
+            else if (Character.isHighSurrogate(c)) {
+                result += 4;
+                i++;
+            }
+            else {
+                result += 3;
+            }
+        }
+        return result;
+    }
+
+    private StatementRecord newRecord(String sql, boolean prepared) {
+        StatementRecord record = new StatementRecord(sql, prepared);
+        records.add(record);
+        return record;
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(PlanRecorder.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    /**
+     * Returns the default value of the given type: <code>null</code>, <code>false</code> or zero.
+     */
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        return null;
+    }
+
+    /**
+     * The mutable counters of a statement
+     */
+    private static final class StatementRecord {
+        private final String sql;
+        private final boolean prepared;
+        private int rowCount;
+        private int bindCount;
+        private int roundTripCount;
+        private long payloadBytes;
+        private int batchedRowCount;
+
+        private StatementRecord(String sql, boolean prepared) {
+            this.sql = sql;
+            this.prepared = prepared;
+        }
+    }
+
+    /**
+     * Base class of the invocation handlers, handling the methods of Object, and returning default values for the
+     * methods which are not handled by subclasses.
+     */
+    private abstract static class RecordingHandler implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                if (name.equals("equals")) {
+                    return proxy == args[0];
+                }
+                if (name.equals("hashCode")) {
+                    return System.identityHashCode(proxy);
+                }
+                return toString();
+            }
+            return handle(proxy, name, args == null ? new Object[0] : args, method);
+        }
+
+        protected abstract Object handle(Object proxy, String name, Object[] args, Method method) throws Throwable;
+    }
+
+    private final class ConnectionHandler extends RecordingHandler {
+        @Override
+        protected Object handle(Object proxy, String name, Object[] args, Method method) {
+            if (name.equals("prepareStatement")) {
+                StatementRecord record = newRecord((String) args[0], true);
+                record.payloadBytes += utf8Length(record.sql);
+                return proxy(PreparedStatement.class, new PreparedStatementHandler(record));
+            }
+            if (name.equals("createStatement")) {
+                return proxy(Statement.class, new StatementHandler());
+            }
+            if (name.equals("getMetaData")) {
+                return proxy(DatabaseMetaData.class, new MetaDataHandler());
+            }
+            return defaultValue(method.getReturnType());
+        }
+
+        @Override
+        public String toString() {
+            return "PlanRecorder connection";
+        }
+    }
+
+    private final class StatementHandler extends RecordingHandler {
+        @Override
+        protected Object handle(Object proxy, String name, Object[] args, Method method) {
+            if (name.startsWith("execute") && args.length > 0 && args[0] instanceof String) {
+                StatementRecord record = newRecord((String) args[0], false);
+                record.rowCount++;
+                record.roundTripCount++;
+                record.payloadBytes += utf8Length(record.sql);
+            }
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            return defaultValue(method.getReturnType());
+        }
+
+        @Override
+        public String toString() {
+            return "PlanRecorder statement";
+        }
+    }
+
+    private final class PreparedStatementHandler extends RecordingHandler {
+        private final StatementRecord record;
+
+        private PreparedStatementHandler(StatementRecord record) {
+            this.record = record;
+        }
+
+        @Override
+        protected Object handle(Object proxy, String name, Object[] args, Method method)
+            throws SQLFeatureNotSupportedException {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            if (name.startsWith("set") && parameterTypes.length >= 2 && parameterTypes[0] == int.class) {
+                record.bindCount++;
+                record.payloadBytes += estimateBoundBytes(name, args);
+                return null;
+            }
+            if (name.equals("addBatch") && args.length == 0) {
+                record.rowCount++;
+                record.batchedRowCount++;
+                return null;
+            }
+            if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                return executeBatch(method.getReturnType());
+            }
+            if ((name.equals("executeUpdate") || name.equals("executeLargeUpdate") || name.equals("execute"))
+                && args.length == 0) {
+                record.rowCount++;
+                record.roundTripCount++;
+                return executeResult(method.getReturnType());
+            }
+            if (name.equals("getParameterMetaData")) {
+                throw new SQLFeatureNotSupportedException("No parameter metadata while planning");
+            }
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            return defaultValue(method.getReturnType());
+        }
+
+        private Object executeBatch(Class<?> returnType) {
+            int count = record.batchedRowCount;
+            if (count > 0) {
+                record.roundTripCount++;
+                record.batchedRowCount = 0;
+            }
+            if (returnType == long[].class) {
+                long[] result = new long[count];
+                Arrays.fill(result, 1L);
+                return result;
+            }
+            int[] result = new int[count];
+            Arrays.fill(result, 1);
+            return result;
+        }
+
+        /**
+         * Returns the result of the execution of a single row: no result set, or one updated row
+         */
+        private Object executeResult(Class<?> returnType) {
+            if (returnType == boolean.class) {
+                return false;
+            }
+            if (returnType == long.class) {
+                return 1L;
+            }
+            return 1;
+        }
+
+        private long estimateBoundBytes(String name, Object[] args) {
+            if (name.equals("setNull")) {
+                return 0;
+            }
+            if (name.endsWith("Stream") || name.equals("setBlob") || name.endsWith("Clob")) {
+                // the size of a stream, reader, blob or clob is only known if passed as argument
+                if (args.length >= 3 && args[2] instanceof Number) {
+                    return ((Number) args[2]).longValue();
+                }
+                return 0;
+            }
+            return estimateBytes(args[1]);
+        }
+
+        @Override
+        public String toString() {
+            return "PlanRecorder statement [" + record.sql + "]";
+        }
+    }
+
+    private final class MetaDataHandler extends RecordingHandler {
+        @Override
+        protected Object handle(Object proxy, String name, Object[] args, Method method)
+            throws SQLFeatureNotSupportedException {
+            if (name.equals("getColumns")) {
+                throw new SQLFeatureNotSupportedException("No column metadata while planning");
+            }
+            if (name.equals("supportsBatchUpdates")) {
+                return true;
+            }
+            if (name.equals("getDatabaseProductName")) {
+                return DATABASE_PRODUCT_NAME;
+            }
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            return defaultValue(method.getReturnType());
+        }
+
+        @Override
+        public String toString() {
+            return "PlanRecorder metadata";
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.plan;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The planned cost of a single statement, as part of a {@link LaunchPlan}. A statement is either a prepared statement
+ * (used to insert rows, for example), or a plain statement executing a single SQL query (used to delete all the rows
+ * of a table, for example).
+ * @author JB Nizet
+ */
+@Immutable
+public final class StatementPlan {
+    private final String sql;
+    private final String table;
+    private final boolean prepared;
+    private final int rowCount;
+    private final int bindCount;
+    private final int roundTripCount;
+    private final long payloadBytes;
+
+    StatementPlan(String sql,
+                  String table,
+                  boolean prepared,
+                  int rowCount,
+                  int bindCount,
+                  int roundTripCount,
+                  long payloadBytes) {
+        this.sql = sql;
+        this.table = table;
+        this.prepared = prepared;
+        this.rowCount = rowCount;
+        this.bindCount = bindCount;
+        this.roundTripCount = roundTripCount;
+        this.payloadBytes = payloadBytes;
+    }
+
+    /**
+     * Gets the SQL of the statement
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * Gets the table affected by the statement, or <code>null</code> if the table can't be deduced from the SQL of
+     * the statement. Only insert, update, delete and truncate statements have a table.
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Tells if the statement is a prepared statement
+     */
+    public boolean isPrepared() {
+        return prepared;
+    }
+
+    /**
+     * Gets the number of rows sent to the database by the statement, i.e. the number of times the prepared statement
+     * is executed or added to a batch, or the number of times the plain statement is executed.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the number of parameters bound to the statement, for all its rows
+     */
+    public int getBindCount() {
+        return bindCount;
+    }
+
+    /**
+     * Gets the number of times the statement, or a batch of rows, is sent to the database. The preparation of the
+     * statement is not counted, since most drivers don't make a round trip to prepare a statement.
+     */
+    public int getRoundTripCount() {
+        return roundTripCount;
+    }
+
+    /**
+     * Gets the estimated number of bytes sent to the database by the statement: the length of its SQL (once for a
+     * prepared statement, at each execution for a plain statement), and the estimated size of every bound value.
+     */
+    public long getPayloadBytes() {
+        return payloadBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementPlan [sql="
+               + sql
+               + ", table="
+               + table
+               + ", prepared="
+               + prepared
+               + ", rowCount="
+               + rowCount
+               + ", bindCount="
+               + bindCount
+               + ", roundTripCount="
+               + roundTripCount
+               + ", payloadBytes="
+               + payloadBytes
+               + "]";
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.plan;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * The planned cost of all the statements affecting a given table, as part of a {@link LaunchPlan}.
+ * @author JB Nizet
+ */
+@Immutable
+public final class TablePlan {
+    private final String table;
+    private final int statementCount;
+    private final int rowCount;
+    private final int bindCount;
+    private final int roundTripCount;
+    private final long payloadBytes;
+
+    TablePlan(String table, int statementCount, int rowCount, int bindCount, int roundTripCount, long payloadBytes) {
+        this.table = table;
+        this.statementCount = statementCount;
+        this.rowCount = rowCount;
+        this.bindCount = bindCount;
+        this.roundTripCount = roundTripCount;
+        this.payloadBytes = payloadBytes;
+    }
+
+    /**
+     * Gets the name of the table, as found in the SQL of its statements
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the number of statements affecting the table
+     * @see StatementPlan
+     */
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /**
+     * Gets the total number of rows sent by the statements affecting the table
+     * @see StatementPlan#getRowCount()
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the total number of bind calls of the statements affecting the table
+     * @see StatementPlan#getBindCount()
+     */
+    public int getBindCount() {
+        return bindCount;
+    }
+
+    /**
+     * Gets the total number of round trips of the statements affecting the table
+     * @see StatementPlan#getRoundTripCount()
+     */
+    public int getRoundTripCount() {
+        return roundTripCount;
+    }
+
+    /**
+     * Gets the total estimated number of bytes sent by the statements affecting the table
+     * @see StatementPlan#getPayloadBytes()
+     */
+    public long getPayloadBytes() {
+        return payloadBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "TablePlan [table="
+               + table
+               + ", statementCount="
+               + statementCount
+               + ", rowCount="
+               + rowCount
+               + ", bindCount="
+               + bindCount
+               + ", roundTripCount="
+               + roundTripCount
+               + ", payloadBytes="
+               + payloadBytes
+               + "]";
+    }
+}
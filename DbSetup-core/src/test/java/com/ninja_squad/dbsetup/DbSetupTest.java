@@ -37,6 +37,7 @@ import com.ninja_squad.dbsetup.bind.BinderConfiguration;
 import com.ninja_squad.dbsetup.bind.DefaultBinderConfiguration;
 import com.ninja_squad.dbsetup.destination.Destination;
 import com.ninja_squad.dbsetup.operation.Operation;
+import com.ninja_squad.dbsetup.plan.LaunchPlan;
 
 /**
  * @author JB Nizet
@@ -140,6 +141,18 @@ public class DbSetupTest {
         assertFalse(setup1.equals(new DbSetup(destination1, operation1, config2)));
     }
 
+    @Test
+    public void planDoesntConnectToDestination() throws SQLException {
+        Destination destination = mock(Destination.class);
+        Operation operation = Operations.sequenceOf(Operations.deleteAllFrom("A"),
+                                                    Operations.insertInto("A").columns("x").values(1).build());
+
+        LaunchPlan plan = new DbSetup(destination, operation).plan();
+        assertEquals(2, plan.getStatements().size());
+        assertEquals(2, plan.getRoundTripCount());
+        verifyZeroInteractions(destination);
+    }
+
     @Test
     public void toStringWorks() throws SQLException {
         Destination destination1 = mock(Destination.class);
@@ -24,6 +24,7 @@
 
 package com.ninja_squad.dbsetup.bind;
 
+import static org.junit.Assert.*;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
@@ -32,6 +33,7 @@ import static org.mockito.Mockito.verify;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Date;
+import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Time;
@@ -437,6 +439,138 @@ public class BindersTest {
         verify(stmt).setObject(1, Boolean.TRUE);
     }
 
+    @Test
+    public void dateTimeAndTimestampBindersConvertStrings() {
+        assertEquals(Date.valueOf("1975-07-19"), ((ConvertingBinder) Binders.dateBinder()).convert("1975-07-19"));
+        assertEquals(Time.valueOf("13:14:15"), ((ConvertingBinder) Binders.timeBinder()).convert("13:14:15"));
+        assertEquals(Timestamp.valueOf("1975-07-19 13:14:15"),
+                     ((ConvertingBinder) Binders.timestampBinder()).convert("1975-07-19 13:14:15"));
+        assertEquals(Timestamp.valueOf("1975-07-19 00:00:00"),
+                     ((ConvertingBinder) Binders.timestampBinder()).convert("1975-07-19"));
+    }
+
+    @Test
+    public void convertedStringsAreBoundLikeStrings() throws SQLException {
+        ConvertingBinder binder = (ConvertingBinder) Binders.timestampBinder();
+        binder.bind(stmt, 1, binder.convert("1975-07-19"));
+        verify(stmt).setTimestamp(1, Timestamp.valueOf("1975-07-19 00:00:00"));
+    }
+
+    @Test
+    public void dateTimeAndTimestampBindersDontConvertOtherValues() {
+        LocalDate localDate = LocalDate.of(1975, 7, 19);
+        assertSame(localDate, ((ConvertingBinder) Binders.dateBinder()).convert(localDate));
+        assertSame(localDate, ((ConvertingBinder) Binders.timestampBinder()).convert(localDate));
+        assertNull(((ConvertingBinder) Binders.timeBinder()).convert(null));
+    }
+
+    @Test
+    public void numericBindersBindPrimitives() throws SQLException {
+        ((LongBinder) Binders.integerBinder()).bindLong(stmt, 1, 42L);
+        verify(stmt).setLong(1, 42L);
+        ((LongBinder) Binders.decimalBinder()).bindLong(stmt, 2, 42L);
+        verify(stmt).setLong(2, 42L);
+        ((LongBinder) Binders.defaultBinder()).bindLong(stmt, 3, 42L);
+        verify(stmt).setLong(3, 42L);
+        ((DoubleBinder) Binders.decimalBinder()).bindDouble(stmt, 4, 4.2);
+        verify(stmt).setDouble(4, 4.2);
+        ((DoubleBinder) Binders.defaultBinder()).bindDouble(stmt, 5, 4.2);
+        verify(stmt).setDouble(5, 4.2);
+        ((DoubleBinder) Binders.typedBinder(JDBCType.DOUBLE)).bindDouble(stmt, 6, 4.2);
+        verify(stmt).setDouble(6, 4.2);
+    }
+
+    @Test
+    public void typedBindersBindConvertedValuesWithExactSetters() throws SQLException {
+        Binders.typedBinder(JDBCType.BIGINT).bind(stmt, 1, "42");
+        verify(stmt).setLong(1, 42L);
+        Binders.typedBinder(JDBCType.INTEGER).bind(stmt, 2, 42L);
+        verify(stmt).setInt(2, 42);
+        Binders.typedBinder(JDBCType.NUMERIC).bind(stmt, 3, 12.6);
+        verify(stmt).setBigDecimal(3, new BigDecimal("12.6"));
+        Binders.typedBinder(JDBCType.DOUBLE).bind(stmt, 4, "1.5");
+        verify(stmt).setDouble(4, 1.5);
+        Binders.typedBinder(JDBCType.BOOLEAN).bind(stmt, 5, "true");
+        verify(stmt).setBoolean(5, true);
+        Binders.typedBinder(JDBCType.VARCHAR).bind(stmt, 6, TestEnum.BAR);
+        verify(stmt).setString(6, "BAR");
+        Binders.typedBinder(JDBCType.DATE).bind(stmt, 7, LocalDate.of(1975, 7, 19));
+        verify(stmt).setDate(7, Date.valueOf("1975-07-19"));
+        Binders.typedBinder(JDBCType.TIME).bind(stmt, 8, "13:14:15");
+        verify(stmt).setTime(8, Time.valueOf("13:14:15"));
+        Binders.typedBinder(JDBCType.TIMESTAMP).bind(stmt, 9, "1975-07-19");
+        verify(stmt).setTimestamp(9, Timestamp.valueOf("1975-07-19 00:00:00"));
+    }
+
+    @Test
+    public void typedBindersBindNullWithTheirType() throws SQLException {
+        Binders.typedBinder(JDBCType.BIGINT).bind(stmt, 1, null);
+        verify(stmt).setNull(1, Types.BIGINT);
+    }
+
+    @Test
+    public void typedBindersFallBackForUnconvertedValues() throws SQLException {
+        java.util.Date date = new java.util.Date(123456789L);
+        Binders.typedBinder(JDBCType.TIMESTAMP).bind(stmt, 1, date);
+        verify(stmt).setTimestamp(1, new Timestamp(123456789L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void typedBindersRejectUnconvertibleValues() {
+        ((ConvertingBinder) Binders.typedBinder(JDBCType.INTEGER)).convert(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void typedBindersConvertIntegralFloatingPointNumbers() {
+        assertEquals(12, ((ConvertingBinder) Binders.typedBinder(JDBCType.INTEGER)).convert(12.0));
+        assertEquals(12L, ((ConvertingBinder) Binders.typedBinder(JDBCType.BIGINT)).convert(12.0F));
+    }
+
+    @Test
+    public void typedBindersKeepValuesBoundSpecificallyByTheirFallback() {
+        assertNull(((ConvertingBinder) Binders.typedBinder(JDBCType.DATE)).convert(null));
+        assertSame(TestEnum.BAR, ((ConvertingBinder) Binders.typedBinder(JDBCType.INTEGER)).convert(TestEnum.BAR));
+        Calendar calendar = Calendar.getInstance();
+        assertSame(calendar, ((ConvertingBinder) Binders.typedBinder(JDBCType.TIMESTAMP)).convert(calendar));
+        OffsetTime offsetTime = OffsetTime.of(13, 14, 15, 0, ZoneOffset.UTC);
+        assertSame(offsetTime, ((ConvertingBinder) Binders.typedBinder(JDBCType.TIME)).convert(offsetTime));
+        Object object = new Object();
+        assertSame(object, ((ConvertingBinder) Binders.typedBinder(JDBCType.VARCHAR)).convert(object));
+    }
+
+    @Test
+    public void typedBindersRejectValuesOfUnsupportedTypes() {
+        Object[][] rejected = new Object[][] {
+            {JDBCType.INTEGER, 12.5},
+            {JDBCType.BIGINT, Double.NaN},
+            {JDBCType.BIGINT, "abc"},
+            {JDBCType.INTEGER, true},
+            {JDBCType.DOUBLE, LocalDate.of(1975, 7, 19)},
+            {JDBCType.DECIMAL, TestEnum.BAR},
+            {JDBCType.BOOLEAN, 1.5},
+            {JDBCType.DATE, LocalTime.of(13, 14)},
+            {JDBCType.TIME, LocalDate.of(1975, 7, 19)},
+            {JDBCType.TIMESTAMP, 42L}
+        };
+        for (Object[] typeAndValue : rejected) {
+            ConvertingBinder binder = (ConvertingBinder) Binders.typedBinder((JDBCType) typeAndValue[0]);
+            try {
+                binder.convert(typeAndValue[1]);
+                fail(typeAndValue[1] + " shouldn't be convertible to " + typeAndValue[0]);
+            }
+            catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void typedBinderIsDefaultBinderForOtherTypes() {
+        assertSame(Binders.defaultBinder(), Binders.typedBinder(JDBCType.BLOB));
+        assertSame(Binders.typedBinder(JDBCType.BIGINT), Binders.typedBinder(JDBCType.BIGINT));
+        assertEquals("Binders.typedBinder(BIGINT)", Binders.typedBinder(JDBCType.BIGINT).toString());
+    }
+
     @Test
     public void decimalBinderBindsString() throws SQLException {
         Binder binder = Binders.decimalBinder();
@@ -493,10 +627,47 @@ public class BindersTest {
         verify(stmt).setObject(1, null);
     }
 
+    @Test
+    public void bindersDispatchOnEachValueClass() throws SQLException {
+        Binder binder = Binders.stringBinder();
+        binder.bind(stmt, 1, "hello");
+        binder.bind(stmt, 2, TestEnum.FOO);
+        binder.bind(stmt, 3, new Foo());
+        binder.bind(stmt, 4, null);
+        binder.bind(stmt, 5, "world");
+        verify(stmt).setString(1, "hello");
+        verify(stmt).setString(2, TestEnum.FOO.name());
+        verify(stmt).setString(3, "foo");
+        verify(stmt).setObject(4, null);
+        verify(stmt).setString(5, "world");
+    }
+
+    @Test
+    public void bindersDispatchOnSubclasses() throws SQLException {
+        Binders.integerBinder().bind(stmt, 1, EnumWithBody.BAZ);
+        verify(stmt).setInt(1, EnumWithBody.BAZ.ordinal());
+
+        Binders.defaultBinder().bind(stmt, 2, EnumWithBody.BAZ);
+        verify(stmt).setString(2, EnumWithBody.BAZ.name());
+
+        Timestamp timestamp = Timestamp.valueOf("1975-07-19 13:14:15");
+        Binders.dateBinder().bind(stmt, 3, timestamp);
+        verify(stmt).setDate(3, new Date(timestamp.getTime()));
+    }
+
     private enum TestEnum {
         FOO, BAR;
     }
 
+    private enum EnumWithBody {
+        BAZ {
+            @Override
+            public String toString() {
+                return "baz";
+            }
+        };
+    }
+
     private static class Foo {
         @Override
         public String toString() {
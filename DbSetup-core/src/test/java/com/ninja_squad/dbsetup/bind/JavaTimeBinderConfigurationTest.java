@@ -0,0 +1,173 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author JB Nizet
+ */
+public class JavaTimeBinderConfigurationTest {
+
+    private PreparedStatement stmt;
+    private JavaTimeBinderConfiguration config;
+
+    @Before
+    public void prepare() {
+        stmt = mock(PreparedStatement.class);
+        config = new JavaTimeBinderConfiguration();
+    }
+
+    @Test
+    public void shouldBindJavaTimeValuesNatively() throws SQLException {
+        Binder binder = config.getBinder(null, 1);
+
+        LocalDate date = LocalDate.of(2026, 10, 19);
+        binder.bind(stmt, 1, date);
+        verify(stmt).setObject(1, date, JDBCType.DATE);
+
+        OffsetDateTime dateTime = OffsetDateTime.of(2026, 10, 19, 12, 30, 0, 0, ZoneOffset.ofHours(2));
+        binder.bind(stmt, 2, dateTime);
+        verify(stmt).setObject(2, dateTime, JDBCType.TIMESTAMP_WITH_TIMEZONE);
+
+        assertTrue(config.isNativeBindingSupported(JDBCType.DATE));
+    }
+
+    @Test
+    public void shouldFallBackOnceIfNativeBindingIsNotSupportedForAType() throws SQLException {
+        LocalDate date = LocalDate.of(2026, 10, 19);
+        doThrow(new SQLFeatureNotSupportedException()).when(stmt).setObject(1, date, JDBCType.DATE);
+
+        Binder binder = config.getBinder(null, 1);
+        binder.bind(stmt, 1, date);
+        verify(stmt).setDate(1, Date.valueOf(date));
+        assertFalse(config.isNativeBindingSupported(JDBCType.DATE));
+
+        config.getBinder(null, 2).bind(stmt, 2, date);
+        verify(stmt).setDate(2, Date.valueOf(date));
+        verify(stmt, never()).setObject(2, date, JDBCType.DATE);
+
+        LocalDateTime dateTime = LocalDateTime.of(2026, 10, 19, 12, 30);
+        config.getBinder(null, 3).bind(stmt, 3, dateTime);
+        verify(stmt).setObject(3, dateTime, JDBCType.TIMESTAMP);
+        assertTrue(config.isNativeBindingSupported(JDBCType.TIMESTAMP));
+    }
+
+    @Test
+    public void shouldPropagateExceptionsOtherThanFeatureNotSupported() throws SQLException {
+        LocalDate date = LocalDate.of(2026, 10, 19);
+        SQLException exception = new SQLException();
+        doThrow(exception).when(stmt).setObject(1, date, JDBCType.DATE);
+        try {
+            config.getBinder(null, 1).bind(stmt, 1, date);
+            fail();
+        }
+        catch (SQLException e) {
+            assertSame(exception, e);
+        }
+        verify(stmt, never()).setDate(1, Date.valueOf(date));
+        assertTrue(config.isNativeBindingSupported(JDBCType.DATE));
+    }
+
+    @Test
+    public void shouldUseDelegateBinderForOtherValues() throws SQLException {
+        config.getBinder(null, 1).bind(stmt, 1, "hello");
+        verify(stmt).setObject(1, "hello");
+    }
+
+    @Test
+    public void shouldUseDelegateBinderIfParameterTypeDoesntMatch() throws SQLException {
+        ParameterMetaData metadata = mock(ParameterMetaData.class);
+        when(metadata.getParameterType(1)).thenReturn(Types.TIMESTAMP);
+
+        LocalDate date = LocalDate.of(2026, 10, 19);
+        config.getBinder(metadata, 1).bind(stmt, 1, date);
+        verify(stmt).setTimestamp(1, Timestamp.valueOf(date.atStartOfDay()));
+        verify(stmt, never()).setObject(1, date, JDBCType.DATE);
+    }
+
+    @Test
+    public void shouldBindNativelyIfParameterTypeMatches() throws SQLException {
+        ParameterMetaData metadata = mock(ParameterMetaData.class);
+        when(metadata.getParameterType(1)).thenReturn(Types.TIMESTAMP);
+
+        LocalDateTime dateTime = LocalDateTime.of(2026, 10, 19, 12, 30);
+        config.getBinder(metadata, 1).bind(stmt, 1, dateTime);
+        verify(stmt).setObject(1, dateTime, JDBCType.TIMESTAMP);
+    }
+
+    @Test
+    public void shouldUseDelegateBinderForNull() throws SQLException {
+        config.getBinder(null, 1).bind(stmt, 1, null);
+        verify(stmt).setObject(1, null);
+    }
+
+    @Test
+    public void shouldReuseBinders() throws SQLException {
+        ParameterMetaData metadata = mock(ParameterMetaData.class);
+        when(metadata.getParameterType(1)).thenReturn(Types.DATE);
+        when(metadata.getParameterType(2)).thenReturn(Types.DATE);
+        when(metadata.getParameterType(3)).thenReturn(Types.TIMESTAMP);
+
+        assertSame(config.getBinder(null, 1), config.getBinder(null, 2));
+        assertSame(config.getBinder(metadata, 1), config.getBinder(metadata, 2));
+        assertNotSame(config.getBinder(metadata, 1), config.getBinder(metadata, 3));
+    }
+
+    @Test
+    public void shouldReturnDelegateBinderIfParameterTypeCantBeBoundNatively() throws SQLException {
+        ParameterMetaData metadata = mock(ParameterMetaData.class);
+        when(metadata.getParameterType(1)).thenReturn(Types.VARCHAR);
+
+        assertSame(Binders.stringBinder(), config.getBinder(metadata, 1));
+    }
+
+    @Test
+    public void equalsAndHashCodeWork() {
+        BinderConfiguration delegate = mock(BinderConfiguration.class);
+        assertEquals(new JavaTimeBinderConfiguration(), config);
+        assertEquals(new JavaTimeBinderConfiguration().hashCode(), config.hashCode());
+        assertEquals(new JavaTimeBinderConfiguration(delegate), new JavaTimeBinderConfiguration(delegate));
+        assertFalse(config.equals(new JavaTimeBinderConfiguration(delegate)));
+        assertFalse(config.equals(DefaultBinderConfiguration.INSTANCE));
+    }
+}
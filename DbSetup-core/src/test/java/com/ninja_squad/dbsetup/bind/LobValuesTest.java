@@ -0,0 +1,131 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * @author JB Nizet
+ */
+public class LobValuesTest {
+
+    private PreparedStatement stmt;
+    private Path file;
+
+    @Before
+    public void prepare() throws IOException {
+        stmt = mock(PreparedStatement.class);
+        file = Files.createTempFile("dbsetup-test-", ".txt");
+        Files.write(file, "h\u00e9llo".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void binaryFileIsStreamedWithItsSize() throws SQLException, IOException {
+        Binders.defaultBinder().bind(stmt, 1, LobValues.binaryFile(file));
+
+        ArgumentCaptor<InputStream> captor = ArgumentCaptor.forClass(InputStream.class);
+        verify(stmt).setBinaryStream(eq(1), captor.capture(), eq(6L));
+        InputStream in = captor.getValue();
+        byte[] buffer = new byte[10];
+        assertEquals(6, in.read(buffer));
+        assertEquals(-1, in.read(buffer));
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void textFileIsStreamedWithItsNumberOfCharacters() throws SQLException, IOException {
+        Binders.stringBinder().bind(stmt, 1, LobValues.textFile(file, StandardCharsets.UTF_8));
+
+        ArgumentCaptor<Reader> captor = ArgumentCaptor.forClass(Reader.class);
+        verify(stmt).setCharacterStream(eq(1), captor.capture(), eq(5L));
+        char[] buffer = new char[10];
+        assertEquals(5, captor.getValue().read(buffer));
+        assertEquals("h\u00e9llo", new String(buffer, 0, 5));
+    }
+
+    @Test
+    public void fileIsOpenedWhenBound() throws SQLException, IOException {
+        LobValue value = LobValues.binaryFile(file);
+        Files.delete(file);
+        try {
+            Binders.defaultBinder().bind(stmt, 1, value);
+            fail();
+        }
+        catch (SQLException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void suppliedReaderIsStreamedWithGivenLength() throws SQLException {
+        final Reader reader = new StringReader("hello");
+        LobValues.ReaderSupplier supplier = new LobValues.ReaderSupplier() {
+            @Override
+            public Reader open() {
+                return reader;
+            }
+        };
+        Binders.timestampBinder().bind(stmt, 1, LobValues.textStream(supplier, 5L));
+        verify(stmt).setCharacterStream(eq(1), any(Reader.class), eq(5L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void resourceMustExist() {
+        LobValues.binaryResource("/unexisting/resource.bin");
+    }
+
+    @Test
+    public void equalsAndHashCodeWork() {
+        assertEquals(LobValues.binaryFile(file), LobValues.binaryFile(file));
+        assertEquals(LobValues.binaryFile(file).hashCode(), LobValues.binaryFile(file).hashCode());
+        assertEquals(LobValues.textFile(file, StandardCharsets.UTF_8),
+                     LobValues.textFile(file, StandardCharsets.UTF_8));
+        assertFalse(LobValues.textFile(file, StandardCharsets.UTF_8)
+                             .equals(LobValues.textFile(file, StandardCharsets.ISO_8859_1)));
+        assertFalse(LobValues.binaryFile(file).equals(LobValues.textFile(file, StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ParameterMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * @author JB Nizet
+ */
+public class SchemaBinderConfigurationTest {
+
+    private Connection connection;
+    private DatabaseMetaData metaData;
+    private SchemaBinderConfiguration config;
+
+    @Before
+    public void prepare() throws SQLException {
+        connection = mock(Connection.class);
+        metaData = mock(DatabaseMetaData.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(connection.getCatalog()).thenReturn("CAT");
+        when(connection.getSchema()).thenReturn("PUBLIC");
+        when(metaData.storesUpperCaseIdentifiers()).thenReturn(true);
+        when(metaData.getSearchStringEscape()).thenReturn("\\");
+        config = new SchemaBinderConfiguration();
+    }
+
+    @Test
+    public void shouldReturnBindersFromColumnTypes() throws SQLException {
+        ResultSet rs = columns("PUBLIC", "A_ID", Types.BIGINT, "PUBLIC", "DA", Types.DATE);
+        when(metaData.getColumns("CAT", "PUBLIC", "CLIENT\\_A", "%")).thenReturn(rs);
+
+        assertEquals(Binders.integerBinder(), config.getBinder(connection, "client_a", "a_id"));
+        assertEquals(Binders.dateBinder(), config.getBinder(connection, "client_a", "DA"));
+        assertNull(config.getBinder(connection, "client_a", "unknown"));
+
+        verify(metaData, times(1)).getColumns(anyString(), anyString(), anyString(), anyString());
+        verify(rs).close();
+    }
+
+    @Test
+    public void shouldUseSchemaAndQuotedNames() throws SQLException {
+        ResultSet rs = columns("app", "Name", Types.VARCHAR);
+        when(metaData.getColumns("CAT", "APP", "Client", "%")).thenReturn(rs);
+
+        assertEquals(Binders.stringBinder(), config.getBinder(connection, "app.\"Client\"", "\"Name\""));
+    }
+
+    @Test
+    public void shouldSearchUnqualifiedTablesInCurrentSchema() throws SQLException {
+        when(connection.getSchema()).thenReturn("MY_APP");
+        ResultSet rs = columns("MY_APP", "A", Types.DATE);
+        when(metaData.getColumns("CAT", "MY\\_APP", "T", "%")).thenReturn(rs);
+
+        assertEquals(Binders.dateBinder(), config.getBinder(connection, "T", "A"));
+    }
+
+    @Test
+    public void shouldNotFindTableInSeveralSchemasIfCurrentSchemaIsUnknown() throws SQLException {
+        when(connection.getSchema()).thenThrow(new SQLException());
+        ResultSet rs = columns("S1", "A", Types.DATE, "S2", "B", Types.TIME);
+        when(metaData.getColumns("CAT", null, "T", "%")).thenReturn(rs);
+
+        assertNull(config.getBinder(connection, "T", "A"));
+        assertNull(config.getBinder(connection, "T", "B"));
+    }
+
+    @Test
+    public void shouldSearchAllSchemasIfCurrentSchemaIsUnknown() throws SQLException {
+        when(connection.getSchema()).thenReturn(null);
+        ResultSet rs = columns("S1", "A", Types.DATE);
+        when(metaData.getColumns("CAT", null, "T", "%")).thenReturn(rs);
+
+        assertEquals(Binders.dateBinder(), config.getBinder(connection, "T", "A"));
+    }
+
+    @Test
+    public void shouldCacheUnknownTables() throws SQLException {
+        ResultSet empty = columns();
+        when(metaData.getColumns("CAT", "PUBLIC", "T", "%")).thenReturn(empty);
+
+        assertNull(config.getBinder(connection, "T", "A"));
+        assertNull(config.getBinder(connection, "T", "A"));
+        verify(metaData, times(1)).getColumns(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void shouldReturnNullIfColumnsCantBeRead() throws SQLException {
+        when(metaData.getColumns("CAT", "PUBLIC", "T", "%")).thenThrow(new SQLException());
+
+        assertNull(config.getBinder(connection, "T", "A"));
+    }
+
+    @Test
+    public void shouldNotCacheColumnsWhichCantBeRead() throws SQLException {
+        ResultSet rs = columns("PUBLIC", "A", Types.DATE);
+        when(metaData.getColumns("CAT", "PUBLIC", "T", "%")).thenThrow(new SQLException()).thenReturn(rs);
+
+        assertNull(config.getBinder(connection, "T", "A"));
+        assertEquals(Binders.dateBinder(), config.getBinder(connection, "T", "A"));
+        assertEquals(Binders.dateBinder(), config.getBinder(connection, "T", "A"));
+        verify(metaData, times(2)).getColumns(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void shouldUseDelegateForColumnTypesAndParameterMetadata() throws SQLException {
+        Binder binder = mock(Binder.class);
+        BinderConfiguration delegate = mock(BinderConfiguration.class);
+        when(delegate.getBinder(any(ParameterMetaData.class), eq(1))).thenReturn(binder);
+        config = new SchemaBinderConfiguration(delegate);
+
+        ResultSet rs = columns("PUBLIC", "A", Types.DATE);
+        when(metaData.getColumns("CAT", "PUBLIC", "T", "%")).thenReturn(rs);
+        assertSame(binder, config.getBinder(connection, "T", "A"));
+
+        ParameterMetaData metadata = mock(ParameterMetaData.class);
+        config.getBinder(metadata, 2);
+        verify(delegate).getBinder(metadata, 2);
+    }
+
+    @Test
+    public void equalsAndHashCodeWork() {
+        BinderConfiguration delegate = mock(BinderConfiguration.class);
+        assertEquals(new SchemaBinderConfiguration(), config);
+        assertEquals(new SchemaBinderConfiguration().hashCode(), config.hashCode());
+        assertEquals(new SchemaBinderConfiguration(delegate), new SchemaBinderConfiguration(delegate));
+        assertFalse(config.equals(new SchemaBinderConfiguration(delegate)));
+        assertFalse(config.equals(DefaultBinderConfiguration.INSTANCE));
+    }
+
+    /**
+     * Creates a result set returning the given columns, each one being described by its schema, name and type
+     */
+    private ResultSet columns(final Object... columns) {
+        return mock(ResultSet.class, new Answer<Object>() {
+            private int row = -1;
+
+            @Override
+            public Object answer(InvocationOnMock invocation) {
+                String name = invocation.getMethod().getName();
+                if (name.equals("next")) {
+                    row++;
+                    return row < columns.length / 3;
+                }
+                if (name.equals("getString") || name.equals("getInt")) {
+                    // the schema, name and type are the columns 2, 4 and 5 of the result set
+                    int index = (Integer) invocation.getArguments()[0];
+                    return columns[row * 3 + (index == 2 ? 0 : index - 3)];
+                }
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bind;
+
+import static org.junit.Assert.*;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * @author JB Nizet
+ */
+public class TimeZonesTest {
+
+    @Test
+    public void timeZoneWorks() {
+        ZoneId paris = ZoneId.of("Europe/Paris");
+        assertEquals(TimeZone.getTimeZone(paris), TimeZones.timeZone(paris));
+        assertSame(TimeZones.timeZone(paris), TimeZones.timeZone(ZoneId.of("Europe/Paris")));
+        assertEquals(TimeZone.getTimeZone(ZoneOffset.ofHours(2)), TimeZones.timeZone(ZoneOffset.ofHours(2)));
+    }
+
+    @Test
+    public void calendarIsReusedByTheSameThread() throws InterruptedException {
+        ZoneId paris = ZoneId.of("Europe/Paris");
+        final Calendar calendar = TimeZones.calendar(paris);
+        assertEquals(TimeZone.getTimeZone(paris), calendar.getTimeZone());
+        assertSame(calendar, TimeZones.calendar(paris));
+        assertEquals(TimeZone.getTimeZone(ZoneOffset.UTC), TimeZones.calendar(ZoneOffset.UTC).getTimeZone());
+
+        final Calendar[] otherThreadCalendar = new Calendar[1];
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                otherThreadCalendar[0] = TimeZones.calendar(ZoneId.of("Europe/Paris"));
+            }
+        });
+        thread.start();
+        thread.join();
+        assertNotSame(calendar, otherThreadCalendar[0]);
+        assertEquals(calendar.getTimeZone(), otherThreadCalendar[0].getTimeZone());
+    }
+
+    @Test
+    public void timestampWorks() {
+        Instant[] instants = new Instant[] {
+            Instant.ofEpochSecond(0L),
+            Instant.ofEpochSecond(1356437112L, 123456789),
+            Instant.ofEpochSecond(-1356437112L, 987654321),
+            Instant.ofEpochSecond(-1L, 1)
+        };
+        for (Instant instant : instants) {
+            Timestamp expected = Timestamp.from(instant);
+            Timestamp actual = TimeZones.timestamp(instant.getEpochSecond(), instant.getNano());
+            assertEquals(expected, actual);
+            assertEquals(expected.getTime(), actual.getTime());
+            assertEquals(instant.toEpochMilli(), TimeZones.epochMilli(instant.getEpochSecond(), instant.getNano()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void timestampFailsIfOverflow() {
+        TimeZones.timestamp(Long.MAX_VALUE / 10, 0);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.bulk;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ninja_squad.dbsetup.bind.LobValues;
+
+/**
+ * @author JB Nizet
+ */
+public class BulkLoadersTest {
+
+    @Test
+    public void toTextWorks() {
+        assertNull(BulkLoaders.toText(null));
+        assertEquals("hello", BulkLoaders.toText("hello"));
+        assertEquals("BAR", BulkLoaders.toText(TestEnum.BAR));
+        assertEquals("42", BulkLoaders.toText(42L));
+        assertEquals("true", BulkLoaders.toText(true));
+        assertEquals("1000000", BulkLoaders.toText(new BigDecimal("1E+6")));
+        assertEquals("0aff", BulkLoaders.toText(new byte[] {10, -1}));
+        assertEquals("1975-07-19", BulkLoaders.toText(java.sql.Date.valueOf("1975-07-19")));
+        assertEquals("2012-12-25 13:05:12.0", BulkLoaders.toText(Timestamp.valueOf("2012-12-25 13:05:12")));
+        assertEquals("2012-12-25 13:05:12.0",
+                     BulkLoaders.toText(new java.util.Date(Timestamp.valueOf("2012-12-25 13:05:12").getTime())));
+        assertEquals("2012-12-25 13:05:12.0", BulkLoaders.toText(LocalDateTime.parse("2012-12-25T13:05:12")));
+        ZonedDateTime zonedDateTime = LocalDateTime.parse("2012-12-25T13:05:12").atZone(ZoneOffset.ofHours(5));
+        assertEquals("2012-12-25 13:05:12.0", BulkLoaders.toText(zonedDateTime));
+        assertEquals("2012-12-25 13:05:12.0", BulkLoaders.toText(zonedDateTime.toOffsetDateTime()));
+        assertEquals("13:05:12", BulkLoaders.toText(OffsetTime.parse("13:05:12+05:00")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toTextRejectsLobValues() {
+        LobValues.ReaderSupplier supplier = new LobValues.ReaderSupplier() {
+            @Override
+            public Reader open() {
+                return new StringReader("hello");
+            }
+        };
+        BulkLoaders.toText(LobValues.textStream(supplier, 5L));
+    }
+
+    @Test
+    public void writeCsvWorks() throws IOException {
+        List<List<?>> rows = Arrays.<List<?>>asList(Arrays.asList(1L, "a \"quoted\" value", null),
+                                                    Arrays.asList(2L, "a, b", ""));
+        StringWriter writer = new StringWriter();
+        BulkLoaders.writeCsv(writer, rows.iterator());
+        assertEquals("\"1\",\"a \"\"quoted\"\" value\",\n\"2\",\"a, b\",\"\"\n", writer.toString());
+    }
+
+    @Test
+    public void quoteWorks() {
+        assertEquals("'C:\\tmp\\it''s.csv'", BulkLoaders.quote("C:\\tmp\\it's.csv"));
+    }
+
+    @Test
+    public void loadersSupportTheirDatabaseOnly() throws SQLException {
+        assertTrue(BulkLoaders.h2CsvRead().supports(connectionTo("H2")));
+        assertFalse(BulkLoaders.h2CsvRead().supports(connectionTo("HSQL Database Engine")));
+        assertTrue(BulkLoaders.hsqldbTextTable().supports(connectionTo("HSQL Database Engine")));
+        assertFalse(BulkLoaders.hsqldbTextTable().supports(connectionTo("PostgreSQL")));
+    }
+
+    private Connection connectionTo(String databaseProductName) throws SQLException {
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn(databaseProductName);
+        return connection;
+    }
+
+    private enum TestEnum {
+        FOO, BAR;
+    }
+}
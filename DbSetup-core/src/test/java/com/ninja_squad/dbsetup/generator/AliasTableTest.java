@@ -0,0 +1,74 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+import static org.junit.Assert.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+/**
+ * @author JB Nizet
+ */
+public class AliasTableTest {
+
+    @Test
+    public void picksIndicesAccordingToWeights() {
+        double[] weights = {1.0, 0.0, 3.0, 6.0};
+        AliasTable table = new AliasTable(weights);
+        assertEquals(4, table.size());
+        int[] counts = new int[4];
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int i = 0; i < 100000; i++) {
+            counts[table.sample(random.nextLong())]++;
+        }
+        assertEquals(0, counts[1]);
+        assertEquals(10000, counts[0], 500);
+        assertEquals(30000, counts[2], 1000);
+        assertEquals(60000, counts[3], 1000);
+    }
+
+    @Test
+    public void picksTheOnlyIndex() {
+        AliasTable table = new AliasTable(new double[] {0.5});
+        assertEquals(0, table.sample(0L));
+        assertEquals(0, table.sample(-1L));
+        assertEquals(0, table.sample(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void picksUniformlyWithEqualWeights() {
+        AliasTable table = new AliasTable(new double[] {2.0, 2.0, 2.0});
+        int[] counts = new int[3];
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int i = 0; i < 30000; i++) {
+            counts[table.sample(random.nextLong())]++;
+        }
+        for (int count : counts) {
+            assertEquals(10000, count, 500);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ninja_squad.dbsetup.DbSetupRuntimeException;
+import com.ninja_squad.dbsetup.destination.Destination;
+
+/**
+ * @author JB Nizet
+ */
+public class DatabaseSequenceValueGeneratorTest {
+
+    private Destination destination;
+    private Connection connection;
+    private Statement statement;
+    private ResultSet resultSet;
+
+    @Before
+    public void prepare() throws SQLException {
+        destination = mock(Destination.class);
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        resultSet = mock(ResultSet.class);
+        when(destination.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+    }
+
+    @Test
+    public void shouldReserveBlocks() throws SQLException {
+        when(resultSet.getLong(1)).thenReturn(1L, 101L);
+        DatabaseSequenceValueGenerator sequence = ValueGenerators.databaseSequence(destination, "S", 100);
+        for (int i = 1; i <= 150; i++) {
+            assertEquals(i, sequence.nextLong());
+        }
+        verify(statement, times(2)).executeQuery("values (next value for S)");
+        verify(statement, times(2)).close();
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    public void shouldGenerateValuesInBulk() throws SQLException {
+        when(resultSet.getLong(1)).thenReturn(1L, 11L, 21L);
+        DatabaseSequenceValueGenerator sequence = ValueGenerators.databaseSequence(destination, "S", 10);
+        assertEquals(1L, sequence.nextLong());
+        long[] values = new long[27];
+        sequence.nextLongs(values, 2, 25);
+        assertEquals(0L, values[0]);
+        assertEquals(0L, values[1]);
+        for (int i = 0; i < 25; i++) {
+            assertEquals(i + 2, values[i + 2]);
+        }
+        assertEquals(Long.valueOf(27L), sequence.nextValue());
+        verify(statement, times(3)).executeQuery(anyString());
+    }
+
+    @Test
+    public void shouldUseCustomQuery() throws SQLException {
+        when(resultSet.getLong(1)).thenReturn(42L);
+        DatabaseSequenceValueGenerator sequence =
+            ValueGenerators.databaseSequence(destination, "S", 1).withQuery("select nextval('S')");
+        assertEquals(42L, sequence.nextLong());
+        verify(statement).executeQuery("select nextval('S')");
+    }
+
+    @Test
+    public void shouldNotQueryBeforeFirstValue() throws SQLException {
+        ValueGenerators.databaseSequence(destination, "S", 10);
+        verify(destination, never()).getConnection();
+    }
+
+    @Test(expected = DbSetupRuntimeException.class)
+    public void shouldWrapSQLException() throws SQLException {
+        when(statement.executeQuery(anyString())).thenThrow(new SQLException("no such sequence"));
+        try {
+            ValueGenerators.databaseSequence(destination, "S", 10).nextLong();
+        }
+        finally {
+            verify(connection).close();
+        }
+    }
+
+    @Test(expected = DbSetupRuntimeException.class)
+    public void shouldThrowIfNoValue() throws SQLException {
+        when(resultSet.next()).thenReturn(false);
+        ValueGenerators.databaseSequence(destination, "S", 10).nextLong();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNonPositiveBlockSize() {
+        ValueGenerators.databaseSequence(destination, "S", 0);
+    }
+
+    @Test
+    public void toStringWorks() {
+        assertEquals("DatabaseSequenceValueGenerator[sequenceName=S, blockSize=10, "
+                         + "query=values (next value for S), next=0, remaining=0]",
+                     ValueGenerators.databaseSequence(destination, "S", 10).toString());
+    }
+}
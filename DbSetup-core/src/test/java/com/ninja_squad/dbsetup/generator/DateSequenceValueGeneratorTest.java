@@ -24,6 +24,7 @@
 
 package com.ninja_squad.dbsetup.generator;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 import java.text.ParseException;
@@ -34,6 +35,7 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.TimeZone;
@@ -195,6 +197,101 @@ public class DateSequenceValueGeneratorTest {
         assertEquals("2013-07-19T00:00:00.001", toLongString(sequence.nextValue()));
     }
 
+    @Test
+    public void jumpsToTheSameDateAsRepeatedIncrements() {
+        ZoneId paris = ZoneId.of("Europe/Paris");
+        ZonedDateTime[] starts = new ZonedDateTime[] {
+            LocalDateTime.parse("2013-01-01T02:30:00").atZone(paris),
+            LocalDateTime.parse("2013-01-31T00:00:00").atZone(paris),
+            LocalDateTime.parse("2013-01-12T10:00:00").atZone(paris)
+        };
+        ChronoUnit[] units = new ChronoUnit[] {ChronoUnit.HOURS, ChronoUnit.DAYS, ChronoUnit.MONTHS};
+        for (ZonedDateTime start : starts) {
+            for (ChronoUnit unit : units) {
+                DateSequenceValueGenerator incremented =
+                    ValueGenerators.dateSequence().startingAt(start).incrementingBy(1, unit);
+                DateSequenceValueGenerator jumped =
+                    ValueGenerators.dateSequence().startingAt(start).incrementingBy(1, unit);
+                for (int i = 0; i < 400; i++) {
+                    incremented.nextValue();
+                }
+                jumped.jump(400L);
+                assertEquals(incremented.nextValue(), jumped.nextValue());
+            }
+        }
+    }
+
+    @Test
+    public void splitsIntoDisjointRanges() {
+        ZonedDateTime start = LocalDate.parse("2013-07-19").atStartOfDay(ZoneOffset.UTC);
+        DateSequenceValueGenerator second = ValueGenerators.dateSequence().startingAt(start);
+        DateSequenceValueGenerator first = second.split(2L);
+        assertEquals(start, first.nextValue());
+        assertEquals(start.plusDays(1), first.nextValue());
+        assertEquals(start.plusDays(2), second.nextValue());
+    }
+
+    @Test
+    public void incrementsByHoursAcrossDaylightSavingTimeTransitions() {
+        ZoneId paris = ZoneId.of("Europe/Paris");
+        DateSequenceValueGenerator sequence =
+            ValueGenerators.dateSequence()
+                           .startingAt(LocalDateTime.parse("2013-03-31T01:00:00").atZone(paris))
+                           .incrementingBy(1, ChronoUnit.HOURS);
+        assertEquals(LocalDateTime.parse("2013-03-31T01:00:00").atZone(paris), sequence.nextValue());
+        assertEquals(LocalDateTime.parse("2013-03-31T03:00:00").atZone(paris), sequence.nextValue());
+        assertEquals(LocalDateTime.parse("2013-03-31T04:00:00"), sequence.nextLocalDateTime());
+        assertEquals(LocalDateTime.parse("2013-03-31T05:00:00").atZone(paris).toInstant().toEpochMilli(),
+                     sequence.nextEpochMilli());
+    }
+
+    @Test
+    public void keepsCalendarRulesForDaysInTimeZoneWithDaylightSavingTime() {
+        ZoneId paris = ZoneId.of("Europe/Paris");
+        DateSequenceValueGenerator sequence =
+            ValueGenerators.dateSequence().startingAt(LocalDateTime.parse("2013-03-30T12:00:00").atZone(paris));
+        sequence.nextValue();
+        assertEquals(LocalDateTime.parse("2013-03-31T12:00:00").atZone(paris), sequence.nextValue());
+        assertEquals(LocalDateTime.parse("2013-04-01T12:00:00"), sequence.nextLocalDateTime());
+    }
+
+    @Test
+    public void generatesEpochMillis() {
+        DateSequenceValueGenerator sequence =
+            ValueGenerators.dateSequence()
+                           .startingAt(LocalDateTime.parse("1969-12-31T23:59:59.500").atZone(ZoneOffset.UTC))
+                           .incrementingBy(250, ChronoUnit.MILLIS);
+        LongValueGenerator millis = sequence.asEpochMillis();
+        long[] values = new long[4];
+        millis.nextLongs(values, 0, 4);
+        assertArrayEquals(new long[] {-500L, -250L, 0L, 250L}, values);
+        assertEquals(LocalDateTime.parse("1970-01-01T00:00:00.500").atZone(ZoneOffset.UTC), sequence.nextValue());
+    }
+
+    @Test
+    public void generatesLocalDateTimes() {
+        ZoneOffset offset = ZoneOffset.ofHours(2);
+        ValueGenerator<LocalDateTime> sequence =
+            ValueGenerators.dateSequence()
+                           .startingAt(LocalDateTime.parse("2013-07-19T10:00:00").atOffset(offset).toZonedDateTime())
+                           .incrementingBy(2, ChronoUnit.WEEKS)
+                           .asLocalDateTimes();
+        assertEquals(LocalDateTime.parse("2013-07-19T10:00:00"), sequence.nextValue());
+        assertEquals(LocalDateTime.parse("2013-08-02T10:00:00"), sequence.nextValue());
+    }
+
+    @Test
+    public void keepsPositionWhenIncrementChanges() {
+        DateSequenceValueGenerator sequence =
+            ValueGenerators.dateSequence()
+                           .startingAt(LocalDateTime.parse("2013-07-19T10:00:00").atZone(ZoneOffset.UTC))
+                           .incrementingBy(1, ChronoUnit.HOURS);
+        sequence.nextValue();
+        sequence.incrementingBy(1, ChronoUnit.MONTHS);
+        assertEquals(LocalDateTime.parse("2013-07-19T11:00:00").atZone(ZoneOffset.UTC), sequence.nextValue());
+        assertEquals(LocalDateTime.parse("2013-08-19T11:00:00").atZone(ZoneOffset.UTC), sequence.nextValue());
+    }
+
     private String toLongString(ZonedDateTime date) {
         return DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS").format(date);
     }
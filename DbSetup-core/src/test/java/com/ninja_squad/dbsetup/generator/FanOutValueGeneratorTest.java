@@ -0,0 +1,78 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author JB Nizet
+ */
+public class FanOutValueGeneratorTest {
+    @Test
+    public void roundRobinCyclesOverValues() {
+        ValueGenerator<String> generator = ValueGenerators.roundRobin(Arrays.asList("a", "b"));
+        assertEquals("a", generator.nextValue());
+        assertEquals("b", generator.nextValue());
+        assertEquals("a", generator.nextValue());
+    }
+
+    @Test
+    public void fanOutRepeatsEachValue() {
+        ValueGenerator<Long> generator = ValueGenerators.fanOut(Arrays.asList(1L, 2L), 2);
+        assertEquals(1L, generator.nextValue().longValue());
+        assertEquals(1L, generator.nextValue().longValue());
+        assertEquals(2L, generator.nextValue().longValue());
+        assertEquals(2L, generator.nextValue().longValue());
+        assertEquals(1L, generator.nextValue().longValue());
+    }
+
+    @Test
+    public void splitsIntoDisjointRanges() {
+        List<Integer> values = Arrays.asList(1, 2, 3, 4, 5);
+        SplittableValueGenerator<Integer> second = ValueGenerators.fanOut(values, 3);
+        SplittableValueGenerator<Integer> first = second.split(4L);
+        assertEquals(1, first.nextValue().intValue());
+        first.jump(2L);
+        assertEquals(2, first.nextValue().intValue());
+        assertEquals(2, second.nextValue().intValue());
+        assertEquals(2, second.nextValue().intValue());
+        assertEquals(3, second.nextValue().intValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesEmptyList() {
+        ValueGenerators.roundRobin(Arrays.<String>asList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesNullFanOut() {
+        ValueGenerators.fanOut(Arrays.asList("a"), 0);
+    }
+}
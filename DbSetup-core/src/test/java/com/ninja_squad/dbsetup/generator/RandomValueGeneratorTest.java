@@ -0,0 +1,372 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+/**
+ * @author JB Nizet
+ */
+public class RandomValueGeneratorTest {
+
+    private enum Priority {
+        LOW, MEDIUM, HIGH
+    }
+
+    @Test
+    public void usesTheRandomNumbersOfSplittableRandom() {
+        SplittableRandom random = new SplittableRandom(42L);
+        RandomLongValueGenerator generator = ValueGenerators.randomLong(42L, 0L, Long.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(RandomValueGenerator.bounded(random.nextLong(), Long.MAX_VALUE), generator.nextLong());
+        }
+    }
+
+    @Test
+    public void isDeterministic() {
+        RandomValueGenerator<String> generator1 = ValueGenerators.randomString(42L, "ABC", 1, 10);
+        RandomValueGenerator<String> generator2 = ValueGenerators.randomString(42L, "ABC", 1, 10);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(generator1.nextValue(), generator2.nextValue());
+        }
+        assertFalse(generate(ValueGenerators.randomString(43L, "ABC", 1, 10), 10)
+                        .equals(generate(ValueGenerators.randomString(42L, "ABC", 1, 10), 10)));
+    }
+
+    @Test
+    public void splitGeneratesTheSameValuesAsSequentialGeneration() {
+        List<String> expected = generate(ValueGenerators.randomString(42L, "ABC", 1, 10), 100);
+
+        RandomValueGenerator<String> second = ValueGenerators.randomString(42L, "ABC", 1, 10);
+        RandomValueGenerator<String> first = second.split(40L);
+        List<String> actual = generate(first, 40);
+        actual.addAll(generate(second, 60));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void jumpSkipsValues() {
+        List<Long> expected = generate(ValueGenerators.randomLong(42L, 0L, 1000L), 100);
+        RandomLongValueGenerator generator = ValueGenerators.randomLong(42L, 0L, 1000L);
+        generator.jump(99L);
+        assertEquals(expected.get(99).longValue(), generator.nextLong());
+    }
+
+    @Test
+    public void generatesLongsInRange() {
+        RandomLongValueGenerator generator = ValueGenerators.randomLong(42L, -5L, 5L);
+        long[] values = new long[1000];
+        generator.nextLongs(values, 0, values.length);
+        boolean[] found = new boolean[10];
+        for (long value : values) {
+            assertTrue(value >= -5L && value < 5L);
+            found[(int) value + 5] = true;
+        }
+        for (boolean b : found) {
+            assertTrue(b);
+        }
+    }
+
+    @Test
+    public void generatesLongsInWholeRange() {
+        RandomLongValueGenerator generator = ValueGenerators.randomLong(42L, Long.MIN_VALUE, Long.MAX_VALUE);
+        boolean negativeFound = false;
+        boolean positiveFound = false;
+        for (int i = 0; i < 100; i++) {
+            long value = generator.nextLong();
+            negativeFound |= value < 0;
+            positiveFound |= value > 0;
+        }
+        assertTrue(negativeFound && positiveFound);
+    }
+
+    @Test
+    public void generatesDecimalsInRange() {
+        RandomValueGenerator<BigDecimal> generator =
+            ValueGenerators.randomDecimal(42L, new BigDecimal("-1.5"), new BigDecimal("1.5"), 2);
+        for (int i = 0; i < 1000; i++) {
+            BigDecimal value = generator.nextValue();
+            assertEquals(2, value.scale());
+            assertTrue(value.compareTo(new BigDecimal("-1.5")) >= 0);
+            assertTrue(value.compareTo(new BigDecimal("1.5")) < 0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesDecimalsOutOfLongRange() {
+        ValueGenerators.randomDecimal(42L, BigDecimal.ZERO, new BigDecimal("1E20"), 2);
+    }
+
+    @Test
+    public void generatesStringsFromAlphabet() {
+        RandomValueGenerator<String> generator = ValueGenerators.randomString(42L, "AB", 2, 4);
+        for (int i = 0; i < 1000; i++) {
+            String value = generator.nextValue();
+            assertTrue(value.matches("[AB]{2,4}"));
+        }
+    }
+
+    @Test
+    public void generatesDatesInRange() {
+        LocalDate origin = LocalDate.parse("2013-07-19");
+        RandomValueGenerator<LocalDate> generator = ValueGenerators.randomDate(42L, origin, origin.plusDays(10));
+        for (int i = 0; i < 1000; i++) {
+            LocalDate value = generator.nextValue();
+            assertFalse(value.isBefore(origin));
+            assertTrue(value.isBefore(origin.plusDays(10)));
+        }
+    }
+
+    @Test
+    public void picksValuesAccordingToWeights() {
+        Map<Priority, Integer> weights = new EnumMap<Priority, Integer>(Priority.class);
+        weights.put(Priority.LOW, 3);
+        weights.put(Priority.MEDIUM, 0);
+        weights.put(Priority.HIGH, 1);
+        RandomValueGenerator<Priority> generator = ValueGenerators.randomChoice(42L, weights);
+        Map<Priority, Integer> counts = new EnumMap<Priority, Integer>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            counts.put(priority, 0);
+        }
+        for (int i = 0; i < 10000; i++) {
+            Priority priority = generator.nextValue();
+            counts.put(priority, counts.get(priority) + 1);
+        }
+        assertEquals(0, counts.get(Priority.MEDIUM).intValue());
+        assertTrue(counts.get(Priority.LOW) > 7000 && counts.get(Priority.LOW) < 8000);
+    }
+
+    @Test
+    public void picksValuesUniformly() {
+        RandomValueGenerator<String> generator = ValueGenerators.randomChoice(42L, "a", "b");
+        List<String> values = generate(generator, 1000);
+        assertTrue(values.contains("a"));
+        assertTrue(values.contains("b"));
+    }
+
+    @Test
+    public void picksElementsUniformly() {
+        List<Long> keys = Arrays.asList(10L, 20L, 30L, 40L);
+        RandomValueGenerator<Long> generator = ValueGenerators.randomElement(42L, keys);
+        int[] counts = new int[4];
+        for (int i = 0; i < 10000; i++) {
+            counts[keys.indexOf(generator.nextValue())]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 2300 && count < 2700);
+        }
+    }
+
+    @Test
+    public void picksFirstElementsMoreOftenWhenSkewed() {
+        List<Integer> keys = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            keys.add(i);
+        }
+        RandomValueGenerator<Integer> generator = ValueGenerators.skewedElement(42L, keys, 2.0);
+        int firstQuarterCount = 0;
+        for (int i = 0; i < 10000; i++) {
+            int key = generator.nextValue();
+            assertTrue(key >= 0 && key < 100);
+            if (key < 25) {
+                firstQuarterCount++;
+            }
+        }
+        assertTrue(firstQuarterCount > 4700 && firstQuarterCount < 5300);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesSkewLowerThanOne() {
+        ValueGenerators.skewedElement(42L, Arrays.asList(1, 2), 0.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesNullTotalWeight() {
+        Map<Priority, Integer> weights = new EnumMap<Priority, Integer>(Priority.class);
+        weights.put(Priority.LOW, 0);
+        ValueGenerators.randomChoice(42L, weights);
+    }
+
+    @Test
+    public void picksElementsFollowingZipfDistribution() {
+        List<Integer> keys = new ArrayList<Integer>();
+        for (int i = 0; i < 10; i++) {
+            keys.add(i);
+        }
+        RandomValueGenerator<Integer> generator = ValueGenerators.zipfElement(42L, keys, 1.0);
+        int[] counts = new int[10];
+        for (int i = 0; i < 100000; i++) {
+            counts[generator.nextValue()]++;
+        }
+        // the harmonic number H(10) is about 2.929, so the first key is picked about 34% of the time
+        assertEquals(34142, counts[0], 1000);
+        assertEquals(17071, counts[1], 1000);
+        assertEquals(3414, counts[9], 500);
+    }
+
+    @Test
+    public void picksElementsUniformlyWithZipfExponentZero() {
+        RandomValueGenerator<Integer> generator = ValueGenerators.zipfElement(42L, Arrays.asList(0, 1), 0.0);
+        int zeroCount = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (generator.nextValue() == 0) {
+                zeroCount++;
+            }
+        }
+        assertEquals(5000, zeroCount, 300);
+    }
+
+    @Test
+    public void splitGeneratesTheSameZipfElementsAsSequentialGeneration() {
+        List<Integer> keys = Arrays.asList(1, 2, 3, 4, 5);
+        RandomValueGenerator<Integer> sequential = ValueGenerators.zipfElement(42L, keys, 1.5);
+        RandomValueGenerator<Integer> generator = ValueGenerators.zipfElement(42L, keys, 1.5);
+        RandomValueGenerator<Integer> first = generator.split(10);
+        List<Integer> expected = generate(sequential, 20);
+        List<Integer> actual = generate(first, 10);
+        actual.addAll(generate(generator, 10));
+        assertEquals(expected, actual);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesNegativeZipfExponent() {
+        ValueGenerators.zipfElement(42L, Arrays.asList(1, 2), -1.0);
+    }
+
+    @Test
+    public void generatesValuesFollowingHistogram() {
+        RandomValueGenerator<Long> generator =
+            ValueGenerators.randomHistogram(42L, new long[] {0L, 10L, 20L, 1000L}, new long[] {3L, 0L, 1L});
+        int lowCount = 0;
+        for (int i = 0; i < 10000; i++) {
+            long value = generator.nextValue();
+            assertTrue(value >= 0L && value < 1000L);
+            assertFalse(value >= 10L && value < 20L);
+            if (value < 10L) {
+                lowCount++;
+            }
+        }
+        assertEquals(7500, lowCount, 300);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesHistogramWithUnorderedBounds() {
+        ValueGenerators.randomHistogram(42L, new long[] {0L, 10L, 10L}, new long[] {1L, 1L});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesHistogramWithWrongNumberOfBounds() {
+        ValueGenerators.randomHistogram(42L, new long[] {0L, 10L}, new long[] {1L, 1L});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesHistogramWithNullTotalFrequency() {
+        ValueGenerators.randomHistogram(42L, new long[] {0L, 10L}, new long[] {0L});
+    }
+
+    @Test
+    public void generatesNormallyDistributedValues() {
+        RandomValueGenerator<Double> generator = ValueGenerators.randomNormal(42L, 100.0, 15.0);
+        int count = 100000;
+        double sum = 0.0;
+        double sumOfSquares = 0.0;
+        int withinOneDeviation = 0;
+        for (int i = 0; i < count; i++) {
+            double value = generator.nextValue();
+            sum += value;
+            sumOfSquares += value * value;
+            if (value > 85.0 && value < 115.0) {
+                withinOneDeviation++;
+            }
+        }
+        double mean = sum / count;
+        assertEquals(100.0, mean, 0.5);
+        assertEquals(15.0, Math.sqrt(sumOfSquares / count - mean * mean), 0.5);
+        assertEquals(68269, withinOneDeviation, 1000);
+    }
+
+    @Test
+    public void generatesExponentiallyDistributedValues() {
+        RandomValueGenerator<Double> generator = ValueGenerators.randomExponential(42L, 10.0);
+        int count = 100000;
+        double sum = 0.0;
+        int belowMean = 0;
+        for (int i = 0; i < count; i++) {
+            double value = generator.nextValue();
+            assertTrue(value >= 0.0);
+            sum += value;
+            if (value < 10.0) {
+                belowMean++;
+            }
+        }
+        assertEquals(10.0, sum / count, 0.2);
+        // 1 - 1/e of the values are lower than the mean
+        assertEquals(63212, belowMean, 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesNonPositiveExponentialMean() {
+        ValueGenerators.randomExponential(42L, 0.0);
+    }
+
+    @Test
+    public void doubleGeneratorsGeneratePrimitiveDoublesInBulk() {
+        assertSameDoubles(ValueGenerators.randomNormal(42L, 100.0, 15.0),
+                          ValueGenerators.randomNormal(42L, 100.0, 15.0));
+        assertSameDoubles(ValueGenerators.randomExponential(42L, 10.0),
+                          ValueGenerators.randomExponential(42L, 10.0));
+    }
+
+    private static void assertSameDoubles(RandomValueGenerator<Double> generator,
+                                          RandomValueGenerator<Double> primitiveGenerator) {
+        double[] values = new double[5];
+        ((DoubleValueGenerator) primitiveGenerator).nextDoubles(values, 1, 3);
+        values[4] = ((DoubleValueGenerator) primitiveGenerator).nextDouble();
+
+        assertEquals(0.0, values[0], 0.0);
+        for (int i = 1; i < values.length; i++) {
+            assertEquals(generator.nextValue().doubleValue(), values[i], 0.0);
+        }
+    }
+
+    private static <T> List<T> generate(ValueGenerator<T> generator, int count) {
+        List<T> result = new ArrayList<T>();
+        for (int i = 0; i < count; i++) {
+            result.add(generator.nextValue());
+        }
+        return result;
+    }
+}
@@ -58,4 +58,61 @@ public class SequenceValueGeneratorTest {
         assertEquals(1L, sequence.nextValue().longValue());
         assertEquals(11L, sequence.nextValue().longValue());
     }
+
+    @Test
+    public void generatesPrimitiveLongs() {
+        SequenceValueGenerator sequence = ValueGenerators.sequence().startingAt(3L);
+        assertEquals(3L, sequence.nextLong());
+        assertEquals(4L, sequence.nextValue().longValue());
+    }
+
+    @Test
+    public void generatesLongsInBulk() {
+        SequenceValueGenerator sequence = ValueGenerators.sequence().incrementingBy(10);
+        long[] values = new long[4];
+        sequence.nextLongs(values, 1, 3);
+        assertArrayEquals(new long[] {0L, 1L, 11L, 21L}, values);
+        assertEquals(31L, sequence.nextLong());
+    }
+
+    @Test
+    public void defaultBulkGenerationCallsNextLong() {
+        LongValueGenerator generator = new LongValueGenerator() {
+            private long next = 5L;
+
+            @Override
+            public long nextLong() {
+                return next++;
+            }
+
+            @Override
+            public Long nextValue() {
+                return nextLong();
+            }
+        };
+        long[] values = new long[2];
+        generator.nextLongs(values, 0, 2);
+        assertArrayEquals(new long[] {5L, 6L}, values);
+    }
+
+    @Test
+    public void jumpsOverValues() {
+        SequenceValueGenerator sequence = ValueGenerators.sequence().startingAt(10L).incrementingBy(5);
+        sequence.jump(1000L);
+        assertEquals(5010L, sequence.nextLong());
+    }
+
+    @Test
+    public void splitsIntoDisjointRanges() {
+        SequenceValueGenerator second = ValueGenerators.sequence().incrementingBy(2);
+        SequenceValueGenerator first = second.split(2L);
+        assertEquals(1L, first.nextLong());
+        assertEquals(3L, first.nextLong());
+        assertEquals(5L, second.nextLong());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesNegativeJump() {
+        ValueGenerators.sequence().jump(-1L);
+    }
 }
@@ -81,4 +81,48 @@ public class StringSequenceValueGeneratorTest {
         assertEquals("CODE_1", sequence.nextValue());
         assertEquals("CODE_2", sequence.nextValue());
     }
+
+    @Test
+    public void splitsIntoDisjointRanges() {
+        StringSequenceValueGenerator second = ValueGenerators.stringSequence("CODE_").withLeftPadding(3);
+        StringSequenceValueGenerator first = second.split(2L);
+        assertEquals("CODE_001", first.nextValue());
+        assertEquals("CODE_002", first.nextValue());
+        assertEquals("CODE_003", second.nextValue());
+        second.jump(10L);
+        assertEquals("CODE_014", second.nextValue());
+    }
+
+    @Test
+    public void formatsNegativeAndExtremeNumbers() {
+        StringSequenceValueGenerator sequence = ValueGenerators.stringSequence("CODE_").startingAt(-1L);
+        assertEquals("CODE_-1", sequence.nextValue());
+        assertEquals("CODE_0", sequence.nextValue());
+        sequence.startingAt(Long.MIN_VALUE);
+        assertEquals("CODE_" + Long.MIN_VALUE, sequence.nextValue());
+        sequence.startingAt(Long.MAX_VALUE).withLeftPadding(25);
+        assertEquals("CODE_000000" + Long.MAX_VALUE, sequence.nextValue());
+    }
+
+    @Test
+    public void padsShorterNumbersAfterLongerOnes() {
+        StringSequenceValueGenerator sequence =
+            ValueGenerators.stringSequence("CODE_").withLeftPadding(4).startingAt(12345L);
+        assertEquals("CODE_12345", sequence.nextValue());
+        sequence.startingAt(7L);
+        assertEquals("CODE_0007", sequence.nextValue());
+    }
+
+    @Test
+    public void generatesCharSequences() {
+        StringSequenceValueGenerator sequence =
+            ValueGenerators.stringSequence("CUST-").withLeftPadding(9).startingAt(123L);
+        CharSequence value = sequence.nextCharSequence();
+        assertEquals(14, value.length());
+        assertEquals('1', value.charAt(11));
+        assertEquals("CUST-000000123", value.toString());
+        assertEquals("000000123", value.subSequence(5, 14).toString());
+        assertEquals("CUST-000000124", sequence.nextCharSequence().toString());
+        assertEquals("CUST-000000125", sequence.nextValue());
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.generator;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * @author JB Nizet
+ */
+public class UniqueRandomLongValueGeneratorTest {
+
+    @Test
+    public void generatesAllTheValuesOfTheRangeOnce() {
+        for (int size = 1; size <= 70; size++) {
+            UniqueRandomLongValueGenerator generator = ValueGenerators.uniqueRandomLong(42L, 10L, 10L + size);
+            Set<Long> values = new HashSet<Long>();
+            for (int i = 0; i < size; i++) {
+                long value = generator.nextLong();
+                assertTrue(value >= 10L && value < 10L + size);
+                assertTrue(values.add(value));
+            }
+        }
+    }
+
+    @Test
+    public void generatesRandomLookingValues() {
+        UniqueRandomLongValueGenerator generator = ValueGenerators.uniqueRandomLong(42L, 0L, 1000L);
+        int ascendingCount = 0;
+        long previous = generator.nextLong();
+        for (int i = 1; i < 1000; i++) {
+            long value = generator.nextLong();
+            if (value > previous) {
+                ascendingCount++;
+            }
+            previous = value;
+        }
+        assertTrue(ascendingCount > 400 && ascendingCount < 600);
+    }
+
+    @Test
+    public void generatesUniqueValuesInLargeRange() {
+        UniqueRandomLongValueGenerator generator = ValueGenerators.uniqueRandomLong(42L, 0L, Long.MAX_VALUE);
+        Set<Long> values = new HashSet<Long>();
+        for (int i = 0; i < 100000; i++) {
+            long value = generator.nextLong();
+            assertTrue(value >= 0L);
+            assertTrue(values.add(value));
+        }
+    }
+
+    @Test
+    public void isDeterministic() {
+        UniqueRandomLongValueGenerator generator1 = ValueGenerators.uniqueRandomLong(42L, 0L, 1000000L);
+        UniqueRandomLongValueGenerator generator2 = ValueGenerators.uniqueRandomLong(42L, 0L, 1000000L);
+        UniqueRandomLongValueGenerator generator3 = ValueGenerators.uniqueRandomLong(43L, 0L, 1000000L);
+        boolean different = false;
+        for (int i = 0; i < 100; i++) {
+            long value = generator1.nextLong();
+            assertEquals(value, generator2.nextLong());
+            different |= value != generator3.nextLong();
+        }
+        assertTrue(different);
+    }
+
+    @Test
+    public void generatesValuesInBulk() {
+        UniqueRandomLongValueGenerator generator1 = ValueGenerators.uniqueRandomLong(42L, 0L, 1000L);
+        UniqueRandomLongValueGenerator generator2 = ValueGenerators.uniqueRandomLong(42L, 0L, 1000L);
+        long[] values = new long[12];
+        generator1.nextLongs(values, 2, 10);
+        assertEquals(0L, values[0]);
+        assertEquals(0L, values[1]);
+        for (int i = 2; i < 12; i++) {
+            assertEquals(generator2.nextLong(), values[i]);
+        }
+        assertEquals(generator2.nextValue(), generator1.nextValue());
+    }
+
+    @Test
+    public void splitGeneratesTheSameValuesAsSequentialGeneration() {
+        UniqueRandomLongValueGenerator sequential = ValueGenerators.uniqueRandomLong(42L, 0L, 1000L);
+        UniqueRandomLongValueGenerator second = ValueGenerators.uniqueRandomLong(42L, 0L, 1000L);
+        UniqueRandomLongValueGenerator first = second.split(10);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(sequential.nextLong(), first.nextLong());
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(sequential.nextLong(), second.nextLong());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void throwsWhenRangeIsExhausted() {
+        UniqueRandomLongValueGenerator generator = ValueGenerators.uniqueRandomLong(42L, 0L, 2L);
+        generator.nextLong();
+        generator.nextLong();
+        generator.nextLong();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void throwsWhenRangeIsExhaustedInBulk() {
+        UniqueRandomLongValueGenerator generator = ValueGenerators.uniqueRandomLong(42L, 0L, 5L);
+        generator.nextLongs(new long[6], 0, 6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesTooLargeRange() {
+        ValueGenerators.uniqueRandomLong(42L, -1L, Long.MAX_VALUE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void refusesEmptyRange() {
+        ValueGenerators.uniqueRandomLong(42L, 1L, 1L);
+    }
+
+    @Test
+    public void toStringWorks() {
+        UniqueRandomLongValueGenerator generator = ValueGenerators.uniqueRandomLong(42L, 10L, 20L);
+        generator.nextLong();
+        assertEquals("UniqueRandomLongValueGenerator[seed=42, origin=10, bound=20, index=1]", generator.toString());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.integration;
+
+import static org.junit.Assert.*;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.ninja_squad.dbsetup.DbSetup;
+import com.ninja_squad.dbsetup.Operations;
+import com.ninja_squad.dbsetup.bind.LobValues;
+import com.ninja_squad.dbsetup.bulk.BulkLoader;
+import com.ninja_squad.dbsetup.bulk.BulkLoaders;
+import com.ninja_squad.dbsetup.destination.Destination;
+import com.ninja_squad.dbsetup.destination.DriverManagerDestination;
+import com.ninja_squad.dbsetup.generator.ValueGenerators;
+import com.ninja_squad.dbsetup.operation.Insert;
+
+/**
+ * @author JB Nizet
+ */
+public class BulkLoadIntegrationTest {
+
+    private static final Destination H2_DESTINATION =
+        new DriverManagerDestination("jdbc:h2:mem:dbsetup;DB_CLOSE_DELAY=-1", "sa", "");
+
+    /**
+     * HSQLDB only reads textdb.allow_full_path when a database is opened, so the text table test uses its own
+     * database, which is opened after the property has been set, instead of the shared one which is typically already
+     * opened by other tests.
+     */
+    private static Destination hsqldbTextTableDestination;
+
+    @BeforeClass
+    public static void allowFullPathForHsqldbTextTables() {
+        System.setProperty("textdb.allow_full_path", "true");
+        hsqldbTextTableDestination =
+            new DriverManagerDestination("jdbc:hsqldb:mem:dbsetup_bulkload;textdb.allow_full_path=true",
+                                         Database.USER,
+                                         Database.PASSWORD);
+    }
+
+    @Test
+    public void testH2CsvRead() throws SQLException {
+        testBulkLoad(H2_DESTINATION, BulkLoaders.h2CsvRead());
+    }
+
+    @Test
+    public void testHsqldbTextTable() throws SQLException {
+        testBulkLoad(hsqldbTextTableDestination, BulkLoaders.hsqldbTextTable());
+    }
+
+    @Test
+    public void testFallbackWhenDatabaseNotSupported() throws SQLException {
+        testBulkLoad(Database.DESTINATION, BulkLoaders.h2CsvRead());
+    }
+
+    @Test
+    public void testFallbackWhenValuesContainLobs() throws SQLException {
+        new DbSetup(H2_DESTINATION, Operations.sequenceOf(CommonOperations.DROP_TABLES,
+                                                         CommonOperations.CREATE_TABLES)).launch();
+        LobValues.ReaderSupplier supplier = new LobValues.ReaderSupplier() {
+            @Override
+            public Reader open() {
+                return new StringReader("streamed");
+            }
+        };
+        Insert insertA =
+            Insert.into("A")
+                  .columns("a_id", "va")
+                  .values(1L, LobValues.textStream(supplier, 8L))
+                  .withBulkLoader(BulkLoaders.h2CsvRead())
+                  .build();
+        new DbSetup(H2_DESTINATION, insertA).launch();
+
+        Connection connection = H2_DESTINATION.getConnection();
+        try {
+            ResultSet rs = connection.createStatement().executeQuery("select va from A where a_id = 1");
+            assertTrue(rs.next());
+            assertEquals("streamed", rs.getString("va"));
+        }
+        finally {
+            connection.close();
+        }
+    }
+
+    private void testBulkLoad(Destination destination, BulkLoader bulkLoader) throws SQLException {
+        new DbSetup(destination, Operations.sequenceOf(CommonOperations.DROP_TABLES,
+                                                       CommonOperations.CREATE_TABLES)).launch();
+        Insert insertA =
+            Insert.into("A")
+                  .columns("a_id", "va", "nu", "bo", "da", "tis")
+                  .values(1L, "a \"quoted\", value", 12.6, true, "1975-07-19",
+                          Timestamp.valueOf("2012-12-25 13:05:12"))
+                  .values(2L, null, new BigDecimal("13.6"), false, Date.valueOf("1976-10-16"), null)
+                  .withGeneratedValue("seq", ValueGenerators.sequence().startingAt(10L).incrementingBy(5))
+                  .withBulkLoader(bulkLoader)
+                  .build();
+        new DbSetup(destination, insertA).launch();
+
+        Connection connection = destination.getConnection();
+        try {
+            Statement stmt = connection.createStatement();
+            ResultSet rs = stmt.executeQuery("select * from A order by a_id");
+            assertTrue(rs.next());
+            assertEquals(1L, rs.getLong("a_id"));
+            assertEquals("a \"quoted\", value", rs.getString("va"));
+            assertTrue(new BigDecimal("12.6").compareTo(rs.getBigDecimal("nu")) == 0);
+            assertEquals(true, rs.getBoolean("bo"));
+            assertEquals(Date.valueOf("1975-07-19"), rs.getDate("da"));
+            assertEquals(Timestamp.valueOf("2012-12-25 13:05:12"), rs.getTimestamp("tis"));
+            assertEquals(10L, rs.getLong("seq"));
+
+            assertTrue(rs.next());
+            assertEquals(2L, rs.getLong("a_id"));
+            assertNull(rs.getString("va"));
+            assertTrue(new BigDecimal("13.6").compareTo(rs.getBigDecimal("nu")) == 0);
+            assertEquals(false, rs.getBoolean("bo"));
+            assertEquals(Date.valueOf("1976-10-16"), rs.getDate("da"));
+            assertNull(rs.getTimestamp("tis"));
+            assertEquals(15L, rs.getLong("seq"));
+
+            assertFalse(rs.next());
+        }
+        finally {
+            connection.close();
+        }
+    }
+}
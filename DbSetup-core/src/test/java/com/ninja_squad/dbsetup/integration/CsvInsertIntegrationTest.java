@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.integration;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ninja_squad.dbsetup.DbSetup;
+import com.ninja_squad.dbsetup.Operations;
+
+/**
+ * @author JB Nizet
+ */
+public class CsvInsertIntegrationTest {
+    private Connection connection;
+    private Path file;
+
+    @Before
+    public void prepare() throws SQLException, IOException {
+        new DbSetup(Database.DESTINATION, Operations.sequenceOf(CommonOperations.DROP_TABLES,
+                                                                CommonOperations.CREATE_TABLES)).launch();
+        connection = Database.getConnection();
+        file = Files.createTempFile("dbsetup-test-", ".csv");
+    }
+
+    @After
+    public void cleanup() throws SQLException, IOException {
+        connection.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testInsertCsv() throws SQLException, IOException {
+        String content = "a_id,va,nu,bo,da,tim,tis\n"
+            + "1,\"hello, world\",12.6,true,1975-07-19,14:15:22,2012-12-25 13:05:12\n"
+            + "2,,13.6,false,1976-10-16,14:15:23,2012-12-25 13:05:13\n";
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+
+        new DbSetup(Database.DESTINATION, Operations.insertCsv("A", file)).launch();
+
+        Statement stmt = connection.createStatement();
+        ResultSet rs = stmt.executeQuery("select * from A order by a_id");
+        assertTrue(rs.next());
+        assertEquals(1L, rs.getLong("a_id"));
+        assertEquals("hello, world", rs.getString("va"));
+        assertTrue(new BigDecimal("12.6").compareTo(rs.getBigDecimal("nu")) == 0);
+        assertEquals(true, rs.getBoolean("bo"));
+        assertEquals(Date.valueOf("1975-07-19"), rs.getDate("da"));
+        assertEquals(Time.valueOf("14:15:22"), rs.getTime("tim"));
+        assertEquals(Timestamp.valueOf("2012-12-25 13:05:12"), rs.getTimestamp("tis"));
+
+        assertTrue(rs.next());
+        assertEquals(2L, rs.getLong("a_id"));
+        assertNull(rs.getString("va"));
+        assertTrue(new BigDecimal("13.6").compareTo(rs.getBigDecimal("nu")) == 0);
+        assertEquals(false, rs.getBoolean("bo"));
+        assertEquals(Date.valueOf("1976-10-16"), rs.getDate("da"));
+        assertEquals(Time.valueOf("14:15:23"), rs.getTime("tim"));
+        assertEquals(Timestamp.valueOf("2012-12-25 13:05:13"), rs.getTimestamp("tis"));
+
+        assertFalse(rs.next());
+    }
+}
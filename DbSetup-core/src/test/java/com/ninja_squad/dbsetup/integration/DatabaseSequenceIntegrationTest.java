@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.integration;
+
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ninja_squad.dbsetup.DbSetup;
+import com.ninja_squad.dbsetup.Operations;
+import com.ninja_squad.dbsetup.generator.ValueGenerators;
+import com.ninja_squad.dbsetup.operation.Insert;
+
+/**
+ * @author JB Nizet
+ */
+public class DatabaseSequenceIntegrationTest {
+
+    private Connection connection;
+
+    @Before
+    public void prepare() throws SQLException {
+        new DbSetup(Database.DESTINATION,
+                    Operations.sequenceOf(Operations.sql("drop table if exists Q cascade"),
+                                          Operations.sql("drop sequence if exists Q_SEQ"),
+                                          Operations.sql("create table Q (q_id bigint primary key, name varchar(20))"),
+                                          Operations.sql("create sequence Q_SEQ start with 1 increment by 10")))
+            .launch();
+        connection = Database.getConnection();
+    }
+
+    @After
+    public void cleanup() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    public void testInsertWithDatabaseSequence() throws SQLException {
+        Insert.Builder builder =
+            Operations.insertInto("Q")
+                      .withGeneratedValue("q_id", ValueGenerators.databaseSequence(Database.DESTINATION, "Q_SEQ", 10))
+                      .columns("name");
+        for (int i = 0; i < 25; i++) {
+            builder.values("name" + i);
+        }
+        new DbSetup(Database.DESTINATION, builder.build()).launch();
+
+        Statement stmt = connection.createStatement();
+        ResultSet rs = stmt.executeQuery("select q_id, name from Q order by q_id");
+        for (int i = 0; i < 25; i++) {
+            assertTrue(rs.next());
+            assertEquals(i + 1, rs.getLong("q_id"));
+            assertEquals("name" + i, rs.getString("name"));
+        }
+        assertFalse(rs.next());
+
+        rs = stmt.executeQuery("values (next value for Q_SEQ)");
+        assertTrue(rs.next());
+        assertEquals(31L, rs.getLong(1));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.integration;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalTime;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ninja_squad.dbsetup.DbSetup;
+import com.ninja_squad.dbsetup.DbSetupRuntimeException;
+import com.ninja_squad.dbsetup.Operations;
+import com.ninja_squad.dbsetup.bind.Binder;
+import com.ninja_squad.dbsetup.bind.BinderConfiguration;
+import com.ninja_squad.dbsetup.destination.Destination;
+import com.ninja_squad.dbsetup.destination.DriverManagerDestination;
+import com.ninja_squad.dbsetup.export.FixtureExporter;
+
+/**
+ * @author JB Nizet
+ */
+public class FixtureExporterIntegrationTest {
+    private static final Destination H2_DESTINATION =
+        new DriverManagerDestination("jdbc:h2:mem:dbsetup_export;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private Connection connection;
+    private Path file;
+
+    @Before
+    public void prepare() throws SQLException, IOException {
+        new DbSetup(Database.DESTINATION, Operations.sequenceOf(CommonOperations.DROP_TABLES,
+                                                                CommonOperations.CREATE_TABLES)).launch();
+        connection = Database.getConnection();
+        file = Files.createTempFile("dbsetup-test-", ".dbsetup");
+    }
+
+    @After
+    public void cleanup() throws SQLException, IOException {
+        Statement stmt = connection.createStatement();
+        stmt.executeUpdate("drop table if exists T");
+        stmt.close();
+        connection.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testExportAndReload() throws SQLException {
+        new DbSetup(Database.DESTINATION,
+                    Operations.sequenceOf(
+                        Operations.insertInto("A")
+                                  .columns("a_id", "va", "nu", "bo", "da", "tis", "tim")
+                                  .values(1L, "hello", "12.6", true,
+                                          "1975-07-19", "2012-12-25 13:05:12.123", "14:15:22")
+                                  .values(2L, null, null, null, null, null, null)
+                                  .build(),
+                        Operations.insertInto("B")
+                                  .columns("b_id", "a_id", "va")
+                                  .values(1L, 1, "world")
+                                  .build())).launch();
+
+        FixtureExporter.from(Database.DESTINATION).withFetchSize(1).export(file, "A", "B");
+
+        new DbSetup(Database.DESTINATION,
+                    Operations.sequenceOf(Operations.deleteAllFrom("B", "A"),
+                                          Operations.insertFixture(file))).launch();
+
+        Statement stmt = connection.createStatement();
+        ResultSet rs = stmt.executeQuery("select * from A order by a_id");
+        assertTrue(rs.next());
+        assertEquals(1L, rs.getLong("a_id"));
+        assertEquals("hello", rs.getString("va"));
+        assertTrue(new BigDecimal("12.6").compareTo(rs.getBigDecimal("nu")) == 0);
+        assertEquals(true, rs.getBoolean("bo"));
+        assertEquals(Date.valueOf("1975-07-19"), rs.getDate("da"));
+        assertEquals(Timestamp.valueOf("2012-12-25 13:05:12.123"), rs.getTimestamp("tis"));
+        assertEquals(Time.valueOf("14:15:22"), rs.getTime("tim"));
+
+        assertTrue(rs.next());
+        assertEquals(2L, rs.getLong("a_id"));
+        assertNull(rs.getString("va"));
+        assertNull(rs.getBigDecimal("nu"));
+        assertNull(rs.getObject("bo"));
+        assertNull(rs.getDate("da"));
+        assertNull(rs.getTimestamp("tis"));
+        assertNull(rs.getTime("tim"));
+        assertFalse(rs.next());
+
+        rs = stmt.executeQuery("select * from B");
+        assertTrue(rs.next());
+        assertEquals(1L, rs.getLong("b_id"));
+        assertEquals(1, rs.getInt("a_id"));
+        assertEquals("world", rs.getString("va"));
+        assertFalse(rs.next());
+    }
+
+    @Test
+    public void testExportKeepsFractionalSecondsOfTimes() throws SQLException {
+        // HSQLDB 2.3 truncates the fractional seconds of times read with getTime(), so H2 is used here
+        Connection h2Connection = H2_DESTINATION.getConnection();
+        try {
+            Statement stmt = h2Connection.createStatement();
+            stmt.executeUpdate("drop table if exists T");
+            stmt.executeUpdate("create table T (t_id bigint primary key, tim time(3))");
+            stmt.executeUpdate("insert into T (t_id, tim) values (1, '14:15:22.123')");
+
+            FixtureExporter.from(H2_DESTINATION).export(file, "T");
+
+            // the default binders bind a LocalTime as a java.sql.Time, without its fractional seconds
+            BinderConfiguration setObjectConfiguration = new BinderConfiguration() {
+                @Override
+                public Binder getBinder(ParameterMetaData metadata, int param) {
+                    return new Binder() {
+                        @Override
+                        public void bind(PreparedStatement statement, int param, Object value) throws SQLException {
+                            statement.setObject(param, value);
+                        }
+                    };
+                }
+            };
+            new DbSetup(H2_DESTINATION,
+                        Operations.sequenceOf(Operations.deleteAllFrom("T"), Operations.insertFixture(file)),
+                        setObjectConfiguration).launch();
+
+            ResultSet rs = stmt.executeQuery("select tim from T");
+            assertTrue(rs.next());
+            assertEquals(LocalTime.of(14, 15, 22, 123_000_000), rs.getObject("tim", LocalTime.class));
+            stmt.executeUpdate("drop table T");
+        }
+        finally {
+            h2Connection.close();
+        }
+    }
+
+    @Test
+    public void testExportFailsWithTableAndColumnOfUnsupportedValue() throws SQLException {
+        Statement stmt = connection.createStatement();
+        stmt.executeUpdate("create table T (t_id bigint primary key, arr integer array)");
+        stmt.executeUpdate("insert into T (t_id, arr) values (1, array[1, 2])");
+
+        try {
+            FixtureExporter.from(Database.DESTINATION).export(file, "T");
+            fail("expected a DbSetupRuntimeException");
+        }
+        catch (DbSetupRuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("column ARR of the table T"));
+        }
+    }
+}
@@ -49,6 +49,7 @@ import com.ninja_squad.dbsetup.DbSetupRuntimeException;
 import com.ninja_squad.dbsetup.Operations;
 import com.ninja_squad.dbsetup.bind.Binder;
 import com.ninja_squad.dbsetup.bind.Binders;
+import com.ninja_squad.dbsetup.bind.SchemaBinderConfiguration;
 import com.ninja_squad.dbsetup.generator.ValueGenerators;
 import com.ninja_squad.dbsetup.operation.Insert;
 import org.junit.After;
@@ -129,6 +130,45 @@ public class InsertIntegrationTest {
         assertEquals("BAR", rs.getString("va"));
     }
 
+    @Test
+    public void testInsertWithSchemaBinderConfiguration() throws SQLException {
+        Insert insertA =
+            Insert.into("A")
+                  .columns("a_id", "nu", "bo", "da", "tim", "tis")
+                  .values("1", "12.6", true, "1975-07-19", "14:15:22", "2012-12-25")
+                  .withDefaultValue("va", TestEnum.BAR)
+                  .build();
+        SchemaBinderConfiguration configuration = new SchemaBinderConfiguration();
+        new DbSetup(Database.DESTINATION, insertA, configuration).launch();
+
+        Statement stmt = connection.createStatement();
+        ResultSet rs = stmt.executeQuery("select * from A order by a_id");
+        assertTrue(rs.next());
+        assertEquals(1L, rs.getLong("a_id"));
+        assertTrue(new BigDecimal("12.6").compareTo(rs.getBigDecimal("nu")) == 0);
+        assertEquals(true, rs.getBoolean("bo"));
+        assertEquals(Date.valueOf("1975-07-19"), rs.getDate("da"));
+        assertEquals(Time.valueOf("14:15:22"), rs.getTime("tim"));
+        assertEquals(Timestamp.valueOf("2012-12-25 00:00:00"), rs.getTimestamp("tis"));
+        assertEquals("BAR", rs.getString("va"));
+        assertEquals(Binders.timestampBinder(), configuration.getBinder(connection, "A", "tis"));
+    }
+
+    @Test
+    public void testSchemaBinderConfigurationStillWorksAfterPlanning() throws SQLException {
+        Insert insertA =
+            Insert.into("A")
+                  .columns("a_id", "tis")
+                  .values("1", "2012-12-25")
+                  .build();
+        SchemaBinderConfiguration configuration = new SchemaBinderConfiguration();
+        DbSetup dbSetup = new DbSetup(Database.DESTINATION, insertA, configuration);
+        dbSetup.plan();
+        dbSetup.launch();
+
+        assertEquals(Binders.timestampBinder(), configuration.getBinder(connection, "A", "tis"));
+    }
+
     @Test
     public void testWithoutMetadata() throws SQLException {
         Insert insertA =
@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.integration;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ninja_squad.dbsetup.DbSetup;
+import com.ninja_squad.dbsetup.Operations;
+import com.ninja_squad.dbsetup.bind.LobValues;
+
+/**
+ * @author JB Nizet
+ */
+public class LobIntegrationTest {
+    private static final String TEXT = "Hello, w\u00f6rld";
+    private static final byte[] BYTES = {1, 2, 3, 4, 5};
+
+    private Connection connection;
+    private Path textFile;
+    private Path binaryFile;
+
+    @Before
+    public void prepare() throws SQLException, IOException {
+        new DbSetup(Database.DESTINATION,
+                    Operations.sequenceOf(Operations.sql("drop table if exists L cascade"),
+                                          Operations.sql("create table L (l_id bigint primary key, bl blob, cl clob)")))
+            .launch();
+        connection = Database.getConnection();
+        textFile = Files.createTempFile("dbsetup-test-", ".txt");
+        Files.write(textFile, TEXT.getBytes(StandardCharsets.UTF_8));
+        binaryFile = Files.createTempFile("dbsetup-test-", ".bin");
+        Files.write(binaryFile, BYTES);
+    }
+
+    @After
+    public void cleanup() throws SQLException, IOException {
+        connection.close();
+        Files.deleteIfExists(textFile);
+        Files.deleteIfExists(binaryFile);
+    }
+
+    @Test
+    public void testInsertLobs() throws SQLException {
+        LobValues.InputStreamSupplier supplier = new LobValues.InputStreamSupplier() {
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(BYTES);
+            }
+        };
+        new DbSetup(Database.DESTINATION,
+                    Operations.insertInto("L")
+                              .columns("l_id", "bl", "cl")
+                              .values(1L, LobValues.binaryFile(binaryFile), LobValues.textFile(textFile,
+                                                                                               StandardCharsets.UTF_8))
+                              .values(2L, LobValues.binaryStream(supplier, BYTES.length), null)
+                              .useMetadata(false)
+                              .build()).launch();
+
+        Statement stmt = connection.createStatement();
+        ResultSet rs = stmt.executeQuery("select * from L order by l_id");
+        assertTrue(rs.next());
+        assertArrayEquals(BYTES, rs.getBytes("bl"));
+        assertEquals(TEXT, rs.getString("cl"));
+        assertTrue(rs.next());
+        assertArrayEquals(BYTES, rs.getBytes("bl"));
+        assertNull(rs.getString("cl"));
+    }
+
+    @Test
+    public void testStreamsAreClosedOnceInserted() throws SQLException {
+        final int[] closeCount = new int[1];
+        LobValues.InputStreamSupplier supplier = new LobValues.InputStreamSupplier() {
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(BYTES) {
+                    @Override
+                    public void close() {
+                        closeCount[0]++;
+                    }
+                };
+            }
+        };
+        new DbSetup(Database.DESTINATION,
+                    Operations.insertInto("L")
+                              .columns("l_id", "bl")
+                              .values(1L, LobValues.binaryStream(supplier, BYTES.length))
+                              .values(2L, LobValues.binaryStream(supplier, BYTES.length))
+                              .useMetadata(false)
+                              .build()).launch();
+
+        assertEquals(2, closeCount[0]);
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.ninja_squad.dbsetup.bind.Binder;
+import com.ninja_squad.dbsetup.bind.BinderConfiguration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+/**
+ * @author JB Nizet
+ */
+public class BinaryFixtureTest {
+
+    private Path file;
+    private Connection connection;
+    private BinderConfiguration config;
+    private ParameterMetaData metadata;
+    private PreparedStatement statement;
+    private Binder aBinder;
+    private Binder bBinder;
+
+    @Before
+    public void prepare() throws IOException, SQLException {
+        file = Files.createTempFile("dbsetup-test-", ".dbsetup");
+
+        aBinder = mock(Binder.class);
+        bBinder = mock(Binder.class);
+        connection = mock(Connection.class);
+        config = mock(BinderConfiguration.class);
+        metadata = mock(ParameterMetaData.class);
+        statement = mock(PreparedStatement.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.supportsBatchUpdates()).thenReturn(true);
+        when(connection.prepareStatement("insert into A (a, b) values (?, ?)")).thenReturn(statement);
+        when(statement.getParameterMetaData()).thenReturn(metadata);
+        when(config.getBinder(metadata, 1)).thenReturn(aBinder);
+        when(config.getBinder(metadata, 2)).thenReturn(bBinder);
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void insertWorks() throws SQLException, IOException {
+        BinaryFixture.Writer writer = BinaryFixture.writer(file);
+        writer.startTable("A", Arrays.asList("a", "b"));
+        writer.writeRow(1L, "hello");
+        writer.writeRow(2L, null);
+        writer.writeRow(3L, "");
+        writer.close();
+
+        BinaryFixture.from(file, 2).execute(connection, config);
+
+        InOrder inOrder = inOrder(aBinder, bBinder, statement);
+        inOrder.verify(aBinder).bind(statement, 1, 1L);
+        inOrder.verify(bBinder).bind(statement, 2, "hello");
+        inOrder.verify(statement).addBatch();
+        inOrder.verify(aBinder).bind(statement, 1, 2L);
+        inOrder.verify(bBinder).bind(statement, 2, null);
+        inOrder.verify(statement).addBatch();
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(aBinder).bind(statement, 1, 3L);
+        inOrder.verify(bBinder).bind(statement, 2, "");
+        inOrder.verify(statement).addBatch();
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(statement).close();
+    }
+
+    @Test
+    public void insertWorksWithSeveralTables() throws SQLException, IOException {
+        PreparedStatement statement2 = mock(PreparedStatement.class);
+        ParameterMetaData metadata2 = mock(ParameterMetaData.class);
+        Binder cBinder = mock(Binder.class);
+        when(connection.prepareStatement("insert into B (c) values (?)")).thenReturn(statement2);
+        when(statement2.getParameterMetaData()).thenReturn(metadata2);
+        when(config.getBinder(metadata2, 1)).thenReturn(cBinder);
+
+        BinaryFixture.Writer writer = BinaryFixture.writer(file);
+        writer.startTable("A", Arrays.asList("a", "b"));
+        writer.writeRow(1, true);
+        writer.startTable("B", Collections.singletonList("c"));
+        writer.writeRow("x");
+        writer.close();
+
+        BinaryFixture.from(file, 1).execute(connection, config);
+
+        InOrder inOrder = inOrder(aBinder, bBinder, cBinder, statement, statement2);
+        inOrder.verify(aBinder).bind(statement, 1, 1);
+        inOrder.verify(bBinder).bind(statement, 2, true);
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).close();
+        inOrder.verify(cBinder).bind(statement2, 1, "x");
+        inOrder.verify(statement2).executeUpdate();
+        inOrder.verify(statement2).close();
+    }
+
+    @Test
+    public void valuesAreReadWithTheirType() throws SQLException, IOException {
+        Object[] values = new Object[] {
+            (byte) 2,
+            (short) 3,
+            4.5F,
+            new BigDecimal("-123.450"),
+            new BigInteger("123456789012345678901234567890"),
+            LocalDate.of(1975, 7, 19),
+            java.sql.Date.valueOf("1980-01-02"),
+            LocalTime.of(14, 15, 22, 123),
+            Time.valueOf("08:09:10"),
+            LocalDateTime.of(2012, 12, 25, 13, 5, 12, 456),
+            Timestamp.valueOf("2012-12-25 13:05:12.456"),
+            OffsetDateTime.of(2012, 12, 25, 13, 5, 12, 0, ZoneOffset.ofHours(2)),
+            Instant.ofEpochSecond(1000L, 789),
+            Thread.State.NEW
+        };
+
+        BinaryFixture.Writer writer = BinaryFixture.writer(file);
+        writer.startTable("A", Arrays.asList("a", "b"));
+        for (Object value : values) {
+            writer.writeRow(value, new byte[] {1, 2, 3});
+        }
+        writer.close();
+
+        BinaryFixture.from(file).execute(connection, config);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(aBinder, times(values.length)).bind(eq(statement), eq(1), captor.capture());
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], captor.getAllValues().get(i));
+            assertSame(values[i].getClass(), captor.getAllValues().get(i).getClass());
+        }
+        verify(bBinder, times(values.length)).bind(statement, 2, new byte[] {1, 2, 3});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writeRowFailsWithUnsupportedType() throws IOException {
+        BinaryFixture.Writer writer = BinaryFixture.writer(file);
+        try {
+            writer.startTable("A", Arrays.asList("a", "b"));
+            writer.writeRow(1, new Object());
+        }
+        finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void writeRowWritesNothingIfAValueHasAnUnsupportedType() throws IOException, SQLException {
+        BinaryFixture.Writer writer = BinaryFixture.writer(file);
+        writer.startTable("A", Arrays.asList("a", "b"));
+        writer.writeRow(1L, "hello");
+        try {
+            writer.writeRow(2L, new Object());
+            fail("expected an IllegalArgumentException");
+        }
+        catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("column b of the table A"));
+        }
+        writer.writeRow(3L, "world");
+        writer.close();
+
+        BinaryFixture.from(file, 1).execute(connection, config);
+
+        InOrder inOrder = inOrder(aBinder, bBinder, statement);
+        inOrder.verify(aBinder).bind(statement, 1, 1L);
+        inOrder.verify(bBinder).bind(statement, 2, "hello");
+        inOrder.verify(aBinder).bind(statement, 1, 3L);
+        inOrder.verify(bBinder).bind(statement, 2, "world");
+        verify(aBinder, never()).bind(statement, 1, 2L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writeRowFailsWithWrongNumberOfValues() throws IOException {
+        BinaryFixture.Writer writer = BinaryFixture.writer(file);
+        try {
+            writer.startTable("A", Arrays.asList("a", "b"));
+            writer.writeRow(1);
+        }
+        finally {
+            writer.close();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void writeRowFailsWithoutTable() throws IOException {
+        BinaryFixture.Writer writer = BinaryFixture.writer(file);
+        try {
+            writer.writeRow(1);
+        }
+        finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void executeFailsWithInvalidFile() throws IOException {
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6});
+        try {
+            BinaryFixture.from(file).execute(connection, config);
+            fail();
+        }
+        catch (SQLException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void executeFailsWithTruncatedFile() throws IOException, SQLException {
+        BinaryFixture.Writer writer = BinaryFixture.writer(file);
+        writer.startTable("A", Arrays.asList("a", "b"));
+        writer.writeRow(1L, "hello");
+        writer.close();
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+
+        try {
+            BinaryFixture.from(file).execute(connection, config);
+            fail();
+        }
+        catch (SQLException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+        verify(statement).close();
+    }
+
+    @Test
+    public void executeFailsWithCorruptedLength() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(FixtureFormat.MAGIC);
+        out.writeShort(FixtureFormat.VERSION);
+        out.writeByte(FixtureFormat.TABLE);
+        out.writeInt(Integer.MAX_VALUE);
+        out.writeByte('A');
+        out.close();
+        Files.write(file, bytes.toByteArray());
+
+        try {
+            BinaryFixture.from(file).execute(connection, config);
+            fail();
+        }
+        catch (SQLException e) {
+            assertTrue(e.getCause() instanceof EOFException);
+        }
+    }
+
+    @Test
+    public void equalsAndHashCodeWork() {
+        Path otherFile = file.resolveSibling("other.dbsetup");
+        assertEquals(BinaryFixture.from(file), BinaryFixture.from(file));
+        assertEquals(BinaryFixture.from(file).hashCode(), BinaryFixture.from(file).hashCode());
+        assertEquals(BinaryFixture.from(file), BinaryFixture.from(file, BinaryFixture.DEFAULT_BATCH_SIZE));
+        assertFalse(BinaryFixture.from(file).equals(BinaryFixture.from(file, 10)));
+        assertFalse(BinaryFixture.from(file).equals(BinaryFixture.from(otherFile)));
+    }
+
+    @Test
+    public void toStringWorks() {
+        assertEquals("insert from binary fixture file " + file + " [batchSize=1000]",
+                     BinaryFixture.from(file).toString());
+    }
+}
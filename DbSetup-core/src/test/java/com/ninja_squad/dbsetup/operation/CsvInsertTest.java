@@ -0,0 +1,205 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.zip.GZIPOutputStream;
+
+import com.ninja_squad.dbsetup.bind.Binder;
+import com.ninja_squad.dbsetup.bind.BinderConfiguration;
+import com.ninja_squad.dbsetup.bind.Binders;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+/**
+ * @author JB Nizet
+ */
+public class CsvInsertTest {
+
+    private Path file;
+    private Connection connection;
+    private BinderConfiguration config;
+    private ParameterMetaData metadata;
+    private PreparedStatement statement;
+    private Binder aBinder;
+    private Binder bBinder;
+
+    @Before
+    public void prepare() throws IOException, SQLException {
+        file = Files.createTempFile("dbsetup-test-", ".csv");
+
+        aBinder = mock(Binder.class);
+        bBinder = mock(Binder.class);
+        connection = mock(Connection.class);
+        config = mock(BinderConfiguration.class);
+        metadata = mock(ParameterMetaData.class);
+        statement = mock(PreparedStatement.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.supportsBatchUpdates()).thenReturn(true);
+        when(connection.prepareStatement("insert into A (a, b) values (?, ?)")).thenReturn(statement);
+        when(statement.getParameterMetaData()).thenReturn(metadata);
+        when(config.getBinder(metadata, 1)).thenReturn(aBinder);
+        when(config.getBinder(metadata, 2)).thenReturn(bBinder);
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void insertWorks() throws SQLException, IOException {
+        write("a,b\n1,\"hello, world\"\n2,\n3,\"\"\n");
+
+        CsvInsert insert = CsvInsert.into("A", file).withBatchSize(2).build();
+        insert.execute(connection, config);
+
+        InOrder inOrder = inOrder(aBinder, bBinder, statement);
+        inOrder.verify(aBinder).bind(statement, 1, "1");
+        inOrder.verify(bBinder).bind(statement, 2, "hello, world");
+        inOrder.verify(statement).addBatch();
+        inOrder.verify(aBinder).bind(statement, 1, "2");
+        inOrder.verify(bBinder).bind(statement, 2, null);
+        inOrder.verify(statement).addBatch();
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(aBinder).bind(statement, 1, "3");
+        inOrder.verify(bBinder).bind(statement, 2, "");
+        inOrder.verify(statement).addBatch();
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(statement).close();
+    }
+
+    @Test
+    public void insertWorksWithGzippedFileAndColumnMapping() throws SQLException, IOException {
+        OutputStream out = new GZIPOutputStream(Files.newOutputStream(file));
+        try {
+            out.write("x;b\n1;2\n".getBytes(StandardCharsets.UTF_8));
+        }
+        finally {
+            out.close();
+        }
+
+        CsvInsert insert = CsvInsert.into("A", file)
+                                    .withSeparator(';')
+                                    .withColumnMapping("x", "a")
+                                    .build();
+        insert.execute(connection, config);
+
+        InOrder inOrder = inOrder(aBinder, bBinder, statement);
+        inOrder.verify(aBinder).bind(statement, 1, "1");
+        inOrder.verify(bBinder).bind(statement, 2, "2");
+        inOrder.verify(statement).addBatch();
+        inOrder.verify(statement).executeBatch();
+        inOrder.verify(statement).close();
+    }
+
+    @Test
+    public void insertInsertsRowByRowWhenBatchesNotSupported() throws SQLException, IOException {
+        write("a,b\n1,2\n");
+        when(connection.getMetaData().supportsBatchUpdates()).thenReturn(false);
+
+        CsvInsert insert = CsvInsert.into("A", file).build();
+        insert.execute(connection, config);
+
+        InOrder inOrder = inOrder(aBinder, bBinder, statement);
+        inOrder.verify(aBinder).bind(statement, 1, "1");
+        inOrder.verify(bBinder).bind(statement, 2, "2");
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).close();
+        verify(statement, never()).executeBatch();
+    }
+
+    @Test
+    public void insertUsesExplicitBinders() throws SQLException, IOException {
+        write("a,b\n1,2\n");
+        Binder explicitBinder = mock(Binder.class);
+
+        CsvInsert insert = CsvInsert.into("A", file).withBinder(explicitBinder, "b").build();
+        insert.execute(connection, config);
+
+        verify(aBinder).bind(statement, 1, "1");
+        verify(explicitBinder).bind(statement, 2, "2");
+        verify(bBinder, never()).bind(any(PreparedStatement.class), anyInt(), any());
+    }
+
+    @Test
+    public void insertFailsWhenRecordHasWrongNumberOfFields() throws SQLException, IOException {
+        write("a,b\n1,2,3\n");
+
+        CsvInsert insert = CsvInsert.into("A", file).build();
+        try {
+            insert.execute(connection, config);
+            fail("expected a SQLException");
+        }
+        catch (SQLException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+        verify(statement).close();
+    }
+
+    @Test
+    public void equalsAndHashCodeWork() {
+        CsvInsert insertA = CsvInsert.into("A", file).withSeparator(';').withBinder(Binders.dateBinder(), "b").build();
+        CsvInsert insertB = CsvInsert.into("A", file).withSeparator(';').withBinder(Binders.dateBinder(), "b").build();
+        assertEquals(insertA, insertA);
+        assertEquals(insertA, insertB);
+        assertEquals(insertA.hashCode(), insertB.hashCode());
+        assertFalse(insertA.equals(null));
+        assertFalse(insertA.equals("hello"));
+
+        insertB = CsvInsert.into("B", file).withSeparator(';').withBinder(Binders.dateBinder(), "b").build();
+        assertFalse(insertA.equals(insertB));
+
+        insertB = CsvInsert.into("A", file).withBinder(Binders.dateBinder(), "b").build();
+        assertFalse(insertA.equals(insertB));
+
+        insertB = CsvInsert.into("A", file).withSeparator(';').build();
+        assertFalse(insertA.equals(insertB));
+    }
+
+    @Test
+    public void toStringWorks() {
+        assertNotNull(CsvInsert.into("A", file).build().toString());
+    }
+
+    private void write(String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * @author JB Nizet
+ */
+public class CsvReaderTest {
+
+    @Test
+    public void readsSimpleRecords() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,c\n1,2,3\n"), ',');
+        assertEquals(Arrays.asList("a", "b", "c"), reader.readRecord());
+        assertEquals(Arrays.asList("1", "2", "3"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readsLastRecordWithoutLineBreak() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a;b\r\n1;2"), ';');
+        assertEquals(Arrays.asList("a", "b"), reader.readRecord());
+        assertEquals(Arrays.asList("1", "2"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readsQuotedFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"a, \"\"b\"\"\",\"multi\r\nline\"\n"), ',');
+        assertEquals(Arrays.asList("a, \"b\"", "multi\nline"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readsEmptyUnquotedFieldsAsNull() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(",\"\",\n"), ',');
+        assertEquals(Arrays.asList(null, "", null), reader.readRecord());
+    }
+
+    @Test
+    public void ignoresBlankLines() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\na\n\n\r\nb\n\n"), ',');
+        assertEquals(Arrays.asList("a"), reader.readRecord());
+        assertEquals(Arrays.asList("b"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readsRecordsIntoArray() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("1,2\n3,\n"), ',');
+        String[] fields = new String[2];
+        assertTrue(reader.readRecord(fields));
+        assertArrayEquals(new String[] {"1", "2"}, fields);
+        assertTrue(reader.readRecord(fields));
+        assertArrayEquals(new String[] {"3", null}, fields);
+        assertFalse(reader.readRecord(fields));
+    }
+
+    @Test
+    public void readsRecordsLongerThanBuffer() throws IOException {
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            longValue.append(i % 10);
+        }
+        CsvReader reader = new CsvReader(new StringReader("\"" + longValue + "\"," + longValue + "\n"), ',');
+        assertEquals(Arrays.asList(longValue.toString(), longValue.toString()), reader.readRecord());
+    }
+
+    @Test(expected = IOException.class)
+    public void failsWhenNumberOfFieldsDoesNotMatch() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("1,2,3\n"), ',');
+        reader.readRecord(new String[2]);
+    }
+
+    @Test(expected = IOException.class)
+    public void failsWhenQuotedFieldIsNotTerminated() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"abc\n"), ',');
+        reader.readRecord();
+    }
+
+    @Test(expected = IOException.class)
+    public void failsWhenQuotedFieldIsFollowedByOtherCharacters() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"abc\"d\n"), ',');
+        reader.readRecord();
+    }
+}
@@ -24,22 +24,39 @@
 
 package com.ninja_squad.dbsetup.operation;
 
+import static com.ninja_squad.dbsetup.operation.TypedColumn.col;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.sql.Connection;
+import java.sql.JDBCType;
 import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.IntFunction;
 
 import com.ninja_squad.dbsetup.bind.Binder;
 import com.ninja_squad.dbsetup.bind.BinderConfiguration;
 import com.ninja_squad.dbsetup.bind.Binders;
+import com.ninja_squad.dbsetup.bind.ConvertingBinder;
+import com.ninja_squad.dbsetup.bind.DefaultBinderConfiguration;
+import com.ninja_squad.dbsetup.bind.LobValues;
+import com.ninja_squad.dbsetup.bulk.BulkLoader;
+import com.ninja_squad.dbsetup.generator.LongValueGenerator;
+import com.ninja_squad.dbsetup.generator.ValueGenerator;
 import com.ninja_squad.dbsetup.generator.ValueGenerators;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
 /**
@@ -429,6 +446,10 @@ public class InsertTest {
 
         assertNotNull(builder.toString());
 
+        builder.preconvertValues(true);
+
+        assertNotNull(builder.toString());
+
         builder.build();
 
         assertNotNull(builder.toString());
@@ -525,6 +546,574 @@ public class InsertTest {
                         .useMetadata(false)
                         .build();
         assertFalse(insertA.equals(insertB));
+        insertB = Insert.into("A")
+                        .columns("a", "b")
+                        .values("a1", "b1")
+                        .values("a2", "b2")
+                        .withDefaultValue("c", "c3")
+                        .withGeneratedValue("d", ValueGenerators.sequence())
+                        .withBinder(Binders.decimalBinder(), "b")
+                        .useMetadata(false)
+                        .preconvertValues(true)
+                        .build();
+        assertFalse(insertA.equals(insertB));
+    }
+
+    @Test
+    public void insertUsesBulkLoaderWhenSupported() throws SQLException {
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = DefaultBinderConfiguration.INSTANCE;
+        BulkLoader bulkLoader = mock(BulkLoader.class);
+        when(bulkLoader.supports(connection)).thenReturn(true);
+
+        Insert insert = Insert.into("A")
+                              .columns("a", "b")
+                              .values("a1", "b1")
+                              .values("a2", "b2")
+                              .withDefaultValue("c", "c3")
+                              .withGeneratedValue("d", ValueGenerators.sequence())
+                              .withBulkLoader(bulkLoader)
+                              .build();
+        insert.execute(connection, config);
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ArgumentCaptor<Iterator<List<?>>> rows = (ArgumentCaptor) ArgumentCaptor.forClass(Iterator.class);
+        verify(bulkLoader).load(eq(connection), eq("A"), eq(Arrays.asList("a", "b", "c", "d")), rows.capture());
+        verify(connection, never()).prepareStatement(anyString());
+
+        List<List<?>> loadedRows = new ArrayList<List<?>>();
+        for (Iterator<List<?>> it = rows.getValue(); it.hasNext(); ) {
+            loadedRows.add(it.next());
+        }
+        assertEquals(Arrays.asList(Arrays.asList("a1", "b1", "c3", 1L),
+                                   Arrays.asList("a2", "b2", "c3", 2L)),
+                     loadedRows);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void insertFallsBackToStatementWhenBulkLoaderNotSupported() throws SQLException {
+        Binder defaultBinder = mock(Binder.class);
+
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        when(config.getBinder(null, 1)).thenReturn(defaultBinder);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a) values (?)")).thenReturn(statement);
+        BulkLoader bulkLoader = mock(BulkLoader.class);
+        when(bulkLoader.supports(connection)).thenReturn(false);
+
+        Insert insert = Insert.into("A")
+                              .columns("a")
+                              .values("a1")
+                              .useMetadata(false)
+                              .withBulkLoader(bulkLoader)
+                              .build();
+        insert.execute(connection, config);
+
+        verify(bulkLoader, never()).load(any(Connection.class), anyString(), anyList(), any(Iterator.class));
+        InOrder inOrder = inOrder(statement, defaultBinder);
+        inOrder.verify(defaultBinder).bind(statement, 1, "a1");
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void insertFallsBackToStatementWhenExplicitBinderIsUsed() throws SQLException {
+        Binder aBinder = mock(Binder.class);
+
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a) values (?)")).thenReturn(statement);
+        BulkLoader bulkLoader = mock(BulkLoader.class);
+        when(bulkLoader.supports(connection)).thenReturn(true);
+
+        Insert insert = Insert.into("A")
+                              .columns("a")
+                              .values("a1")
+                              .withBinder(aBinder, "a")
+                              .withBulkLoader(bulkLoader)
+                              .build();
+        insert.execute(connection, config);
+
+        verify(bulkLoader, never()).load(any(Connection.class), anyString(), anyList(), any(Iterator.class));
+        InOrder inOrder = inOrder(statement, aBinder);
+        inOrder.verify(aBinder).bind(statement, 1, "a1");
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void insertFallsBackToStatementWhenRowsContainLobValues() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a, b) values (?, ?)")).thenReturn(statement);
+        BulkLoader bulkLoader = mock(BulkLoader.class);
+        when(bulkLoader.supports(connection)).thenReturn(true);
+        LobValues.InputStreamSupplier supplier = new LobValues.InputStreamSupplier() {
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(new byte[] {1, 2});
+            }
+        };
+
+        Insert insert = Insert.into("A")
+                              .columns("a", "b")
+                              .values("a1", null)
+                              .values("a2", LobValues.binaryStream(supplier, 2L))
+                              .useMetadata(false)
+                              .withBulkLoader(bulkLoader)
+                              .build();
+        insert.execute(connection, DefaultBinderConfiguration.INSTANCE);
+        insert.execute(connection, DefaultBinderConfiguration.INSTANCE);
+
+        verify(bulkLoader, never()).load(any(Connection.class), anyString(), anyList(), any(Iterator.class));
+        verify(statement, times(2)).setBinaryStream(eq(2), any(InputStream.class), eq(2L));
+        verify(statement, times(4)).executeUpdate();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void insertFallsBackToStatementWhenConfigurationIsNotTheDefaultOne() throws SQLException {
+        Binder aBinder = mock(Binder.class);
+
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        when(config.getBinder(null, 1)).thenReturn(aBinder);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a) values (?)")).thenReturn(statement);
+        BulkLoader bulkLoader = mock(BulkLoader.class);
+        when(bulkLoader.supports(connection)).thenReturn(true);
+
+        Insert insert = Insert.into("A")
+                              .columns("a")
+                              .values("a1")
+                              .useMetadata(false)
+                              .withBulkLoader(bulkLoader)
+                              .build();
+        insert.execute(connection, config);
+
+        verify(bulkLoader, never()).load(any(Connection.class), anyString(), anyList(), any(Iterator.class));
+        InOrder inOrder = inOrder(statement, aBinder);
+        inOrder.verify(aBinder).bind(statement, 1, "a1");
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).close();
+    }
+
+    @Test
+    public void insertConvertsValuesOnlyOnceWhenPreconverted() throws SQLException {
+        ConvertingBinder aBinder = mock(ConvertingBinder.class);
+        when(aBinder.convert("a1")).thenReturn("A1");
+        when(aBinder.convert("a2")).thenReturn("A2");
+        Binder bBinder = mock(Binder.class);
+
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        ParameterMetaData metadata = mock(ParameterMetaData.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a, b) values (?, ?)")).thenReturn(statement);
+        when(statement.getParameterMetaData()).thenReturn(metadata);
+        when(config.getBinder(metadata, 1)).thenReturn(aBinder);
+        when(config.getBinder(metadata, 2)).thenReturn(bBinder);
+
+        Insert insert = Insert.into("A")
+                              .columns("a")
+                              .values("a1")
+                              .values("a2")
+                              .withDefaultValue("b", "b1")
+                              .preconvertValues(true)
+                              .build();
+        insert.execute(connection, config);
+        insert.execute(connection, config);
+
+        verify(aBinder, times(1)).convert("a1");
+        verify(aBinder, times(1)).convert("a2");
+        verify(aBinder, times(2)).bind(statement, 1, "A1");
+        verify(aBinder, times(2)).bind(statement, 1, "A2");
+        verify(bBinder, times(4)).bind(statement, 2, "b1");
+        verify(statement, times(4)).executeUpdate();
+        verify(statement, times(2)).close();
+    }
+
+    @Test
+    public void insertDoesNotConvertValuesAgainWhenOnlyNonConvertingBindersChange() throws SQLException {
+        ConvertingBinder aBinder = mock(ConvertingBinder.class);
+        when(aBinder.convert("a1")).thenReturn("A1");
+        Binder firstBBinder = mock(Binder.class);
+        Binder secondBBinder = mock(Binder.class);
+
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        when(config.getBinder(null, 1)).thenReturn(aBinder);
+        when(config.getBinder(null, 2)).thenReturn(firstBBinder, secondBBinder);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a, b) values (?, ?)")).thenReturn(statement);
+
+        Insert insert = Insert.into("A")
+                              .columns("a", "b")
+                              .values("a1", "b1")
+                              .useMetadata(false)
+                              .preconvertValues(true)
+                              .build();
+        insert.execute(connection, config);
+        insert.execute(connection, config);
+
+        verify(aBinder, times(1)).convert("a1");
+        verify(aBinder, times(2)).bind(statement, 1, "A1");
+        verify(firstBBinder).bind(statement, 2, "b1");
+        verify(secondBBinder).bind(statement, 2, "b1");
+    }
+
+    @Test
+    public void insertConvertsValuesAgainWhenBindersChange() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a) values (?)")).thenReturn(statement);
+
+        Insert insert = Insert.into("A")
+                              .columns("a")
+                              .values("2012-01-01")
+                              .useMetadata(false)
+                              .preconvertValues(true)
+                              .build();
+
+        BinderConfiguration dateConfig = mock(BinderConfiguration.class);
+        when(dateConfig.getBinder(null, 1)).thenReturn(Binders.dateBinder());
+        insert.execute(connection, dateConfig);
+        verify(statement).setDate(1, java.sql.Date.valueOf("2012-01-01"));
+
+        BinderConfiguration timestampConfig = mock(BinderConfiguration.class);
+        when(timestampConfig.getBinder(null, 1)).thenReturn(Binders.timestampBinder());
+        insert.execute(connection, timestampConfig);
+        verify(statement).setTimestamp(1, java.sql.Timestamp.valueOf("2012-01-01 00:00:00"));
+    }
+
+    @Test
+    public void insertClosesLobStreamsOnceRowsAreInserted() throws SQLException {
+        final List<InputStream> closedStreams = new ArrayList<InputStream>();
+        LobValues.InputStreamSupplier supplier = new LobValues.InputStreamSupplier() {
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(new byte[] {1, 2}) {
+                    @Override
+                    public void close() {
+                        closedStreams.add(this);
+                    }
+                };
+            }
+        };
+
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        when(config.getBinder(null, 1)).thenReturn(Binders.defaultBinder());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a) values (?)")).thenReturn(statement);
+
+        Insert insert = Insert.into("A")
+                              .columns("a")
+                              .values(LobValues.binaryStream(supplier, 2L))
+                              .values(LobValues.binaryStream(supplier, 2L))
+                              .useMetadata(false)
+                              .build();
+        insert.execute(connection, config);
+
+        assertEquals(2, closedStreams.size());
+        assertNotSame(closedStreams.get(0), closedStreams.get(1));
+    }
+
+    @Test
+    public void insertClosesLobStreamsWhenInsertionFails() throws SQLException {
+        final int[] closeCount = new int[1];
+        LobValues.InputStreamSupplier supplier = new LobValues.InputStreamSupplier() {
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(new byte[] {1, 2}) {
+                    @Override
+                    public void close() {
+                        closeCount[0]++;
+                    }
+                };
+            }
+        };
+
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        when(config.getBinder(null, 1)).thenReturn(Binders.defaultBinder());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a) values (?)")).thenReturn(statement);
+        SQLException exception = new SQLException();
+        when(statement.executeUpdate()).thenThrow(exception);
+
+        Insert insert = Insert.into("A")
+                              .columns("a")
+                              .values(LobValues.binaryStream(supplier, 2L))
+                              .useMetadata(false)
+                              .build();
+        try {
+            insert.execute(connection, config);
+            fail();
+        }
+        catch (SQLException e) {
+            assertSame(exception, e);
+        }
+        assertEquals(1, closeCount[0]);
+        verify(statement).close();
+    }
+
+    @Test
+    public void insertBindsGeneratedLongsAsPrimitives() throws SQLException {
+        Binder bBinder = mock(Binder.class);
+
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        when(config.getBinder(null, 1)).thenReturn(Binders.integerBinder());
+        when(config.getBinder(null, 2)).thenReturn(bBinder);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a, b) values (?, ?)")).thenReturn(statement);
+
+        Insert insert = Insert.into("A")
+                              .withGeneratedValue("a", ValueGenerators.sequence().startingAt(10L))
+                              .withGeneratedValue("b", ValueGenerators.sequence())
+                              .repeatingValues().times(2)
+                              .useMetadata(false)
+                              .build();
+        insert.execute(connection, config);
+
+        InOrder inOrder = inOrder(statement, bBinder);
+        inOrder.verify(statement).setLong(1, 10L);
+        inOrder.verify(bBinder).bind(statement, 2, 1L);
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).setLong(1, 11L);
+        inOrder.verify(bBinder).bind(statement, 2, 2L);
+        inOrder.verify(statement).executeUpdate();
+        verify(statement, never()).setObject(anyInt(), any());
+    }
+
+    @Test
+    public void insertOnlyBindsLongsOfLongGeneratorsAsPrimitives() throws SQLException {
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        when(config.getBinder(null, 1)).thenReturn(Binders.decimalBinder());
+        when(config.getBinder(null, 2)).thenReturn(Binders.decimalBinder());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a, b) values (?, ?)")).thenReturn(statement);
+
+        Insert insert = Insert.into("A")
+                              .withGeneratedValue("a", ValueGenerators.sequence().startingAt(10L))
+                              .withDefaultValue("b", 42L)
+                              .repeatingValues().times(2)
+                              .useMetadata(false)
+                              .build();
+        insert.execute(connection, config);
+
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).setLong(1, 10L);
+        inOrder.verify(statement).setObject(2, 42L);
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).setLong(1, 11L);
+        inOrder.verify(statement).setObject(2, 42L);
+        inOrder.verify(statement).executeUpdate();
+        verify(statement, never()).setLong(eq(2), anyLong());
+        assertEquals(Arrays.asList(42L, 42L), insert.getColumnValues("b"));
+    }
+
+    @Test
+    public void insertBindsGeneratedDoublesAsPrimitives() throws SQLException {
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        when(config.getBinder(null, 1)).thenReturn(Binders.decimalBinder());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a) values (?)")).thenReturn(statement);
+
+        Insert insert = Insert.into("A")
+                              .withGeneratedValue("a", ValueGenerators.randomExponential(42L, 10.0))
+                              .repeatingValues().times(2)
+                              .useMetadata(false)
+                              .build();
+        insert.execute(connection, config);
+
+        ValueGenerator<Double> expected = ValueGenerators.randomExponential(42L, 10.0);
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).setDouble(1, expected.nextValue());
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).setDouble(1, expected.nextValue());
+        inOrder.verify(statement).executeUpdate();
+        verify(statement, never()).setObject(anyInt(), any());
+    }
+
+    @Test
+    public void insertGeneratesLongsInBulk() throws SQLException {
+        // a generator which can only generate values in bulk
+        LongValueGenerator generator = new LongValueGenerator() {
+            @Override
+            public long nextLong() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void nextLongs(long[] values, int offset, int count) {
+                for (int i = 0; i < count; i++) {
+                    values[offset + i] = 7L + i;
+                }
+            }
+
+            @Override
+            public Long nextValue() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        when(config.getBinder(null, 1)).thenReturn(Binders.integerBinder());
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a) values (?)")).thenReturn(statement);
+
+        Insert insert = Insert.into("A")
+                              .withGeneratedValue("a", generator)
+                              .repeatingValues().times(2)
+                              .useMetadata(false)
+                              .build();
+        insert.execute(connection, config);
+
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).setLong(1, 7L);
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).setLong(1, 8L);
+        inOrder.verify(statement).executeUpdate();
+    }
+
+    @Test
+    public void insertWithTypedColumnsDoesNotUseMetadata() throws SQLException {
+        Connection connection = mock(Connection.class);
+        BinderConfiguration config = mock(BinderConfiguration.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a, b, c) values (?, ?, ?)")).thenReturn(statement);
+
+        Insert insert = Insert.into("A")
+                              .columns(col("a", JDBCType.BIGINT),
+                                       col("b", JDBCType.DATE),
+                                       col("c", JDBCType.VARCHAR))
+                              .values("1", "2012-01-01", 12)
+                              .values(2, null, "c2")
+                              .build();
+        insert.execute(connection, config);
+
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).setLong(1, 1L);
+        inOrder.verify(statement).setDate(2, java.sql.Date.valueOf("2012-01-01"));
+        inOrder.verify(statement).setString(3, "12");
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).setLong(1, 2L);
+        inOrder.verify(statement).setNull(2, Types.DATE);
+        inOrder.verify(statement).setString(3, "c2");
+        inOrder.verify(statement).executeUpdate();
+        verify(statement, never()).getParameterMetaData();
+        verifyZeroInteractions(config);
+    }
+
+    @Test
+    public void typedColumnsCanBeOverriddenByExplicitBinder() throws SQLException {
+        Binder aBinder = mock(Binder.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a) values (?)")).thenReturn(statement);
+
+        Insert insert = Insert.into("A")
+                              .columns(col("a", JDBCType.INTEGER))
+                              .values("x")
+                              .withBinder(aBinder, "a")
+                              .build();
+        insert.execute(connection, mock(BinderConfiguration.class));
+
+        verify(aBinder).bind(statement, 1, "x");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void buildFailsWhenValueCantBeConvertedToColumnType() {
+        Insert.into("A")
+              .columns(col("a", JDBCType.INTEGER))
+              .values("x")
+              .build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void buildFailsWhenValueHasUnsupportedTypeForColumnType() {
+        Insert.into("A")
+              .columns(col("a", JDBCType.INTEGER))
+              .values(1.5)
+              .build();
+    }
+
+    @Test
+    public void typedColumnsAreComparedAndPrinted() {
+        Insert insertA = Insert.into("A").columns(col("a", JDBCType.INTEGER)).values("1").build();
+        Insert insertB = Insert.into("A").columns(col("a", JDBCType.INTEGER)).values(1).build();
+        Insert insertC = Insert.into("A").columns(col("a", JDBCType.BIGINT)).values(1).build();
+        assertEquals(insertA, insertB);
+        assertEquals(insertA.hashCode(), insertB.hashCode());
+        assertFalse(insertA.equals(insertC));
+        assertEquals("a INTEGER", col("a", JDBCType.INTEGER).toString());
+        assertEquals(col("a", JDBCType.INTEGER), col("a", JDBCType.INTEGER));
+    }
+
+    @Test
+    public void valuesFromWorks() throws SQLException {
+        Insert insert = Insert.into("A")
+                              .columns("a", "b_c")
+                              .valuesFrom(Arrays.asList(new Bean("a1", 1), new Bean("a2", 2)))
+                              .valuesFrom(java.util.stream.Stream.of(new Bean("a3", 3)))
+                              .build();
+        Insert expected = Insert.into("A")
+                                .columns("a", "b_c")
+                                .values("a1", 1)
+                                .values("a2", 2)
+                                .values("a3", 3)
+                                .build();
+        assertEquals(expected, insert);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void valuesFromFailsWhenColumnsNotSpecified() {
+        Insert.into("A").valuesFrom(Arrays.asList(new Bean("a1", 1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void valuesFromFailsWhenObjectIsNull() {
+        Insert.into("A").columns("a").valuesFrom(Arrays.asList(new Bean("a1", 1), null));
+    }
+
+    @Test
+    public void getColumnValuesWorks() {
+        Insert insert = Insert.into("A")
+                              .withGeneratedValue("id", ValueGenerators.sequence().startingAt(10L))
+                              .columns("a", "b")
+                              .values("a1", "b1")
+                              .values("a2", "b2")
+                              .build();
+        assertEquals(Arrays.asList(10L, 11L), insert.getColumnValues("id"));
+        assertEquals(Arrays.asList("b1", "b2"), insert.getColumnValues("b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getColumnValuesFailsForUnknownColumn() {
+        Insert.into("A").columns("a").values("a1").build().getColumnValues("b");
+    }
+
+    @Test
+    public void getColumnValuesAllowsGeneratingForeignKeys() {
+        Insert parents = Insert.into("A")
+                               .withGeneratedValue("id", ValueGenerators.sequence())
+                               .repeatingValues().times(2)
+                               .build();
+        Insert children = Insert.into("B")
+                                .withGeneratedValue("a_id", ValueGenerators.fanOut(parents.getColumnValues("id"), 2))
+                                .repeatingValues().times(4)
+                                .build();
+        assertEquals(Arrays.asList(1L, 1L, 2L, 2L), children.getColumnValues("a_id"));
     }
 
     @Test
@@ -536,4 +1125,139 @@ public class InsertTest {
                               .build();
         assertEquals(2, insert.getRowCount());
     }
+
+    @Test
+    public void indexedValuesAreComputedLazily() throws SQLException {
+        final int[] callCount = new int[1];
+        IntFunction<Object[]> rowFunction = new IntFunction<Object[]>() {
+            @Override
+            public Object[] apply(int index) {
+                callCount[0]++;
+                return new Object[] {index, "b" + index, index * 10};
+            }
+        };
+
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("insert into A (a, b, c) values (?, ?, ?)")).thenReturn(statement);
+
+        Insert insert = Insert.into("A")
+                              .columns(col("a", JDBCType.BIGINT),
+                                       col("b", JDBCType.VARCHAR),
+                                       col("c", JDBCType.INTEGER))
+                              .indexedValues(2, rowFunction)
+                              .build();
+        assertEquals(0, callCount[0]);
+        assertEquals(2, insert.getRowCount());
+
+        insert.execute(connection, mock(BinderConfiguration.class));
+        assertEquals(2, callCount[0]);
+
+        InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).setLong(1, 0L);
+        inOrder.verify(statement).setString(2, "b0");
+        inOrder.verify(statement).setInt(3, 0);
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).setLong(1, 1L);
+        inOrder.verify(statement).setString(2, "b1");
+        inOrder.verify(statement).setInt(3, 10);
+        inOrder.verify(statement).executeUpdate();
+        inOrder.verify(statement).close();
+    }
+
+    @Test
+    public void indexedValuesCanBeCombinedWithGeneratedValues() {
+        Insert insert = Insert.into("A")
+                              .columns("a", "b")
+                              .indexedValues(3, new IntFunction<Object[]>() {
+                                  @Override
+                                  public Object[] apply(int index) {
+                                      return new Object[] {"a" + index, index * index};
+                                  }
+                              })
+                              .withGeneratedValue("id", ValueGenerators.sequence())
+                              .build();
+        assertEquals(Arrays.asList("a0", "a1", "a2"), insert.getColumnValues("a"));
+        assertEquals(Arrays.asList(1L, 2L, 3L), insert.getColumnValues("id"));
+        assertEquals(Arrays.asList(0, 1, 4), insert.getColumnValues("b"));
+        assertTrue(insert.toString().contains("rows=[3 rows computed by "));
+    }
+
+    @Test
+    public void indexedInsertsAreEqualOnlyIfTheyUseTheSameFunction() {
+        IntFunction<Object[]> rowFunction = new IntFunction<Object[]>() {
+            @Override
+            public Object[] apply(int index) {
+                throw new AssertionError("equals and hashCode must not compute the rows");
+            }
+        };
+        Insert insertA = Insert.into("A").columns("a").indexedValues(3, rowFunction).build();
+        Insert insertB = Insert.into("A").columns("a").indexedValues(3, rowFunction).build();
+        assertEquals(insertA, insertB);
+        assertEquals(insertA.hashCode(), insertB.hashCode());
+
+        assertFalse(insertA.equals(Insert.into("A").columns("a").indexedValues(2, rowFunction).build()));
+        assertFalse(insertA.equals(Insert.into("A").columns("a").indexedValues(3, constantRow("a")).build()));
+
+        Insert insertC = Insert.into("A").columns("a").indexedValues(1, constantRow("a")).build();
+        Insert insertD = Insert.into("A").columns("a").values("a").build();
+        assertFalse(insertC.equals(insertD));
+        assertFalse(insertD.equals(insertC));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indexedValuesFailWhenNumberOfValuesDoesntMatch() {
+        Insert insert = Insert.into("A")
+                              .columns("a", "b")
+                              .indexedValues(1, new IntFunction<Object[]>() {
+                                  @Override
+                                  public Object[] apply(int index) {
+                                      return new Object[] {"a"};
+                                  }
+                              })
+                              .build();
+        insert.getColumnValues("a").get(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void indexedValuesFailWhenColumnsNotSpecified() {
+        Insert.into("A").indexedValues(1, constantRow("a"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void indexedValuesFailWhenRowsAlreadyAdded() {
+        Insert.into("A").columns("a").values("a1").indexedValues(1, constantRow("a"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void valuesFailWhenIndexedValuesAdded() {
+        Insert.into("A").columns("a").indexedValues(1, constantRow("a")).values("a1");
+    }
+
+    private static IntFunction<Object[]> constantRow(final Object... values) {
+        return new IntFunction<Object[]>() {
+            @Override
+            public Object[] apply(int index) {
+                return values;
+            }
+        };
+    }
+
+    public static class Bean {
+        private final String a;
+        private final int bC;
+
+        public Bean(String a, int bC) {
+            this.a = a;
+            this.bC = bC;
+        }
+
+        public String getA() {
+            return a;
+        }
+
+        public int getBC() {
+            return bC;
+        }
+    }
 }
@@ -0,0 +1,275 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import static org.junit.Assert.*;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import com.ninja_squad.dbsetup.bind.Binder;
+import com.ninja_squad.dbsetup.bind.BinderConfiguration;
+import com.ninja_squad.dbsetup.bind.Binders;
+import com.ninja_squad.dbsetup.bulk.BulkLoaders;
+import com.ninja_squad.dbsetup.generator.ValueGenerators;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author JB Nizet
+ */
+public class OperationFilesTest {
+
+    private Path file;
+
+    @Before
+    public void prepare() throws IOException {
+        file = Files.createTempFile("dbsetup-test-", ".dbsetup");
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void writeAndLoadWork() throws IOException {
+        Operation insertA = Insert.into("A")
+                                  .columns("a", "b", "c", "d", "e")
+                                  .values(1L, "hello", true, new BigDecimal("12.60"), LocalDate.of(1975, 7, 19))
+                                  .values(2L, null, false, null, null)
+                                  .withBinder(Binders.stringBinder(), "b")
+                                  .withBinder(Binders.decimalBinder(), "d")
+                                  .useMetadata(false)
+                                  .build();
+        Operation insertB = Insert.into("B")
+                                  .columns("x")
+                                  .values("y")
+                                  .withBulkLoader(BulkLoaders.hsqldbTextTable())
+                                  .build();
+        Operation operation = CompositeOperation.sequenceOf(DeleteAll.from("A", "B"),
+                                                            Truncate.table("C"),
+                                                            SqlOperation.of("update D set e = 1"),
+                                                            insertA,
+                                                            insertB);
+
+        OperationFiles.write(operation, file);
+        Operation loaded = OperationFiles.load(file);
+
+        assertEquals(operation, loaded);
+        assertEquals(operation.toString(), loaded.toString());
+    }
+
+    @Test
+    public void nopWorks() throws IOException {
+        OperationFiles.write(CompositeOperation.sequenceOf(), file);
+        assertSame(CompositeOperation.sequenceOf(), OperationFiles.load(file));
+    }
+
+    @Test
+    public void generatedValuesAreLoadedAsRegularColumns() throws IOException {
+        Insert insert = Insert.into("A")
+                              .columns("b")
+                              .values("x")
+                              .values("y")
+                              .values("z")
+                              .withGeneratedValue("a", ValueGenerators.sequence().startingAt(10L))
+                              .build();
+
+        OperationFiles.write(insert, file);
+        Insert loaded = (Insert) OperationFiles.load(file);
+
+        assertEquals(Arrays.asList("b", "a"), loaded.getAllColumnNames());
+        assertEquals(3, loaded.getRowCount());
+        Iterator<List<?>> rows = loaded.completeRows();
+        assertEquals(Arrays.asList("x", 10L), rows.next());
+        assertEquals(Arrays.asList("y", 11L), rows.next());
+        assertEquals(Arrays.asList("z", 12L), rows.next());
+        assertFalse(rows.hasNext());
+    }
+
+    @Test
+    public void valuesAreLoadedWithTheirOriginalType() throws IOException {
+        Time timeWithMillis = Time.valueOf("08:09:10");
+        timeWithMillis.setTime(timeWithMillis.getTime() + 123L);
+        List<Object> values = Arrays.<Object>asList((byte) 1,
+                                                    (short) 2,
+                                                    3.5F,
+                                                    Thread.State.BLOCKED,
+                                                    java.sql.Date.valueOf("1975-07-19"),
+                                                    timeWithMillis,
+                                                    Timestamp.valueOf("2012-12-25 13:05:12.123456789"));
+        Insert.Builder builder = Insert.into("A").columns("a");
+        for (Object value : values) {
+            builder.values(value);
+        }
+        Insert insert = builder.withBinder(Binders.integerBinder(), "a").build();
+
+        OperationFiles.write(insert, file);
+        Insert loaded = (Insert) OperationFiles.load(file);
+
+        assertEquals(insert, loaded);
+        List<?> loadedValues = loaded.getColumnValues("a");
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(values.get(i), loadedValues.get(i));
+            assertSame(values.get(i).getClass(), loadedValues.get(i).getClass());
+        }
+        assertEquals(123L, Math.floorMod(((Time) loadedValues.get(5)).getTime(), 1000L));
+    }
+
+    @Test
+    public void largeInsertWorks() throws IOException {
+        Insert.Builder builder = Insert.into("A").columns("a", "b");
+        for (int i = 0; i < 10000; i++) {
+            builder.values(i, "value " + i);
+        }
+        Insert insert = builder.build();
+
+        OperationFiles.write(insert, file);
+        Insert loaded = (Insert) OperationFiles.load(file);
+
+        assertEquals(insert, loaded);
+    }
+
+    @Test
+    public void loadWorksWithSeveralMappedSegments() throws IOException {
+        Insert.Builder builder = Insert.into("A").columns("a", "b", "c", "d");
+        for (int i = 0; i < 1000; i++) {
+            builder.values(-i * 1000003L, "value " + i, -i, i % 2 == 0 ? (Object) (short) -i : (Object) (1.5 * i));
+        }
+        Operation operation = CompositeOperation.sequenceOf(SqlOperation.of("delete from A"), builder.build());
+
+        OperationFiles.write(operation, file);
+
+        // segments of 7 bytes, so that most values span two segments
+        assertEquals(operation, OperationFiles.load(file, 7));
+        assertEquals(operation, OperationFiles.load(file, 4096));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writeFailsWithUnsupportedOperation() throws IOException {
+        OperationFiles.write(new Operation() {
+            @Override
+            public void execute(Connection connection, BinderConfiguration configuration) {
+            }
+        }, file);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writeFailsWithUnsupportedBinder() throws IOException {
+        Binder binder = new Binder() {
+            @Override
+            public void bind(java.sql.PreparedStatement statement, int param, Object value) {
+            }
+
+            @Override
+            public String toString() {
+                return "Binders.defaultBinder";
+            }
+        };
+        OperationFiles.write(Insert.into("A").columns("a").values(1).withBinder(binder, "a").build(), file);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writeFailsWithUnsupportedValue() throws IOException {
+        OperationFiles.write(Insert.into("A").columns("a").values(new Object()).build(), file);
+    }
+
+    @Test
+    public void preconvertedValuesAreWrittenAndLoaded() throws IOException {
+        Insert insert = Insert.into("A")
+                              .columns("a", "b")
+                              .values(1L, "hello")
+                              .preconvertValues(true)
+                              .build();
+
+        OperationFiles.write(insert, file);
+        Insert loaded = (Insert) OperationFiles.load(file);
+
+        assertTrue(loaded.isValuesPreconverted());
+        assertEquals(insert, loaded);
+
+        Insert notPreconverted = Insert.into("A").columns("a", "b").values(1L, "hello").build();
+        OperationFiles.write(notPreconverted, file);
+        loaded = (Insert) OperationFiles.load(file);
+
+        assertFalse(loaded.isValuesPreconverted());
+        assertEquals(notPreconverted, loaded);
+    }
+
+    @Test
+    public void loadWorksWithVersion2Files() throws IOException {
+        Insert insert = Insert.into("A").columns("a").values("hello").useMetadata(false).build();
+        OperationFiles.write(insert, file);
+        byte[] bytes = Files.readAllBytes(file);
+
+        // the version 2 of the format has no preconverted flag after the metadata flag, which follows the magic
+        // number, the version, the insert tag, the table name and the column name
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length - 1);
+        buffer.put(bytes, 0, 22).put(bytes, 23, bytes.length - 23);
+        buffer.putShort(4, (short) 2);
+        Files.write(file, buffer.array());
+
+        Insert loaded = (Insert) OperationFiles.load(file);
+        assertFalse(loaded.isValuesPreconverted());
+        assertEquals(insert, loaded);
+    }
+
+    @Test(expected = IOException.class)
+    public void loadFailsWithInvalidFile() throws IOException {
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7});
+        OperationFiles.load(file);
+    }
+
+    @Test(expected = EOFException.class)
+    public void loadFailsWithCorruptedLength() throws IOException {
+        OperationFiles.write(Insert.into("A").columns("a").values("hello").build(), file);
+        byte[] bytes = Files.readAllBytes(file);
+        // the length of the table name follows the magic number, the version and the insert tag
+        ByteBuffer.wrap(bytes).putInt(7, Integer.MAX_VALUE);
+        Files.write(file, bytes);
+        OperationFiles.load(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void loadFailsWithTruncatedFile() throws IOException {
+        OperationFiles.write(Insert.into("A").columns("a").values("hello").build(), file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+        OperationFiles.load(file);
+    }
+}
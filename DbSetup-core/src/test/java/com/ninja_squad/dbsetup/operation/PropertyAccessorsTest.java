@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.operation;
+
+import static org.junit.Assert.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * @author JB Nizet
+ */
+public class PropertyAccessorsTest {
+    @Test
+    public void shouldReadGettersAccessorsAndFields() {
+        MethodHandle[] plan = PropertyAccessors.forClass(Client.class)
+                                               .plan(Arrays.asList("CLIENT_ID", "FIRST_NAME", "ACTIVE", "nickName"));
+        Object[] row = PropertyAccessors.read(plan, new Client());
+        assertArrayEquals(new Object[] {1L, "John", true, "Johnny"}, row);
+    }
+
+    @Test
+    public void shouldPreferGettersOverAccessorsAndFields() {
+        MethodHandle[] plan = PropertyAccessors.forClass(Client.class).plan(Arrays.asList("LAST_NAME"));
+        assertArrayEquals(new Object[] {"Doe"}, PropertyAccessors.read(plan, new Client()));
+    }
+
+    @Test
+    public void shouldComputePlanOncePerListOfColumns() {
+        PropertyAccessors accessors = PropertyAccessors.forClass(Client.class);
+        assertSame(accessors, PropertyAccessors.forClass(Client.class));
+        assertSame(accessors.plan(Arrays.asList("ACTIVE")), accessors.plan(Arrays.asList("ACTIVE")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectColumnWithoutProperty() {
+        PropertyAccessors.forClass(Client.class).plan(Arrays.asList("AGE"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotUseObjectMethods() {
+        PropertyAccessors.forClass(Client.class).plan(Arrays.asList("CLASS"));
+    }
+
+    private static class Client {
+        public String nickName = "Johnny";
+        public String lastName = "Smith";
+
+        public long getClientId() {
+            return 1L;
+        }
+
+        public String firstName() {
+            return "John";
+        }
+
+        public boolean isActive() {
+            return true;
+        }
+
+        public String lastName() {
+            return "Smith";
+        }
+
+        public String getLastName() {
+            return "Doe";
+        }
+    }
+}
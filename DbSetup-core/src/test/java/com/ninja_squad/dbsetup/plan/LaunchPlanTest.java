@@ -0,0 +1,186 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Ninja Squad
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.ninja_squad.dbsetup.plan;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import com.ninja_squad.dbsetup.DbSetupRuntimeException;
+import com.ninja_squad.dbsetup.Operations;
+import com.ninja_squad.dbsetup.bind.DefaultBinderConfiguration;
+import com.ninja_squad.dbsetup.operation.CsvInsert;
+import com.ninja_squad.dbsetup.operation.Operation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author JB Nizet
+ */
+public class LaunchPlanTest {
+
+    private Path file;
+
+    @Before
+    public void prepare() throws IOException {
+        file = Files.createTempFile("dbsetup-test-", ".csv");
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void planWorks() {
+        Operation operation =
+            Operations.sequenceOf(Operations.deleteAllFrom("A"),
+                                  Operations.insertInto("A")
+                                            .columns("x", "y")
+                                            .values(1L, "ab")
+                                            .values(2L, "\u00e9")
+                                            .values(3L, null)
+                                            .build(),
+                                  Operations.sql("create index I on A (x)"));
+
+        LaunchPlan plan = LaunchPlan.of(operation, DefaultBinderConfiguration.INSTANCE);
+
+        assertEquals(3, plan.getStatements().size());
+
+        StatementPlan delete = plan.getStatements().get(0);
+        assertEquals("delete from A", delete.getSql());
+        assertEquals("A", delete.getTable());
+        assertFalse(delete.isPrepared());
+        assertEquals(1, delete.getRowCount());
+        assertEquals(0, delete.getBindCount());
+        assertEquals(1, delete.getRoundTripCount());
+        assertEquals(13L, delete.getPayloadBytes());
+
+        StatementPlan insert = plan.getStatements().get(1);
+        assertEquals("insert into A (x, y) values (?, ?)", insert.getSql());
+        assertEquals("A", insert.getTable());
+        assertTrue(insert.isPrepared());
+        assertEquals(3, insert.getRowCount());
+        assertEquals(6, insert.getBindCount());
+        assertEquals(3, insert.getRoundTripCount());
+        assertEquals(34L + 8 + 2 + 8 + 2 + 8, insert.getPayloadBytes());
+
+        StatementPlan sql = plan.getStatements().get(2);
+        assertNull(sql.getTable());
+        assertEquals(1, sql.getRoundTripCount());
+        assertEquals(23L, sql.getPayloadBytes());
+
+        assertEquals(1, plan.getTables().size());
+        TablePlan table = plan.getTables().get(0);
+        assertEquals("A", table.getTable());
+        assertEquals(2, table.getStatementCount());
+        assertEquals(4, table.getRowCount());
+        assertEquals(6, table.getBindCount());
+        assertEquals(4, table.getRoundTripCount());
+        assertEquals(13L + 62L, table.getPayloadBytes());
+
+        assertEquals(5, plan.getRowCount());
+        assertEquals(6, plan.getBindCount());
+        assertEquals(5, plan.getRoundTripCount());
+        assertEquals(13L + 62L + 23L, plan.getPayloadBytes());
+    }
+
+    @Test
+    public void planTakesBatchingIntoAccount() throws IOException {
+        Files.write(file, "a,b\n1,2\n3,4\n5,6\n".getBytes(StandardCharsets.UTF_8));
+        Operation operation = CsvInsert.into("A", file).withBatchSize(2).build();
+
+        LaunchPlan plan = LaunchPlan.of(operation, DefaultBinderConfiguration.INSTANCE);
+
+        StatementPlan insert = plan.getStatements().get(0);
+        assertEquals(3, insert.getRowCount());
+        assertEquals(6, insert.getBindCount());
+        assertEquals(2, insert.getRoundTripCount());
+    }
+
+    @Test
+    public void planWorksWithDatesAndNulls() {
+        Operation operation = Operations.insertInto("A")
+                                        .columns("x", "y")
+                                        .values(LocalDate.of(2012, 12, 25), null)
+                                        .build();
+
+        LaunchPlan plan = LaunchPlan.of(operation, DefaultBinderConfiguration.INSTANCE);
+
+        assertEquals(34L + 4, plan.getPayloadBytes());
+    }
+
+    @Test(expected = DbSetupRuntimeException.class)
+    public void planFailsIfOperationFails() throws IOException {
+        Files.delete(file);
+        LaunchPlan.of(Operations.insertCsv("A", file), DefaultBinderConfiguration.INSTANCE);
+    }
+
+    @Test
+    public void toJsonWorks() {
+        Operation operation =
+            Operations.sequenceOf(Operations.sql("delete from \"A\"\n"),
+                                  Operations.insertInto("A").columns("x").values(1).build());
+
+        LaunchPlan plan = LaunchPlan.of(operation, DefaultBinderConfiguration.INSTANCE);
+
+        assertEquals("{\"statementCount\":2,\"rowCount\":2,\"bindCount\":1,\"roundTripCount\":2,\"payloadBytes\":48,"
+                     + "\"tables\":["
+                     + "{\"table\":\"\\\"A\\\"\",\"statementCount\":1,\"rowCount\":1,\"bindCount\":0,"
+                     + "\"roundTripCount\":1,\"payloadBytes\":16},"
+                     + "{\"table\":\"A\",\"statementCount\":1,\"rowCount\":1,\"bindCount\":1,"
+                     + "\"roundTripCount\":1,\"payloadBytes\":32}],"
+                     + "\"statements\":["
+                     + "{\"sql\":\"delete from \\\"A\\\"\\n\",\"table\":\"\\\"A\\\"\",\"prepared\":false,"
+                     + "\"rowCount\":1,\"bindCount\":0,\"roundTripCount\":1,\"payloadBytes\":16},"
+                     + "{\"sql\":\"insert into A (x) values (?)\",\"table\":\"A\",\"prepared\":true,"
+                     + "\"rowCount\":1,\"bindCount\":1,\"roundTripCount\":1,\"payloadBytes\":32}]}",
+                     plan.toJson());
+    }
+
+    @Test
+    public void tableOfWorks() {
+        assertEquals("A", PlanRecorder.tableOf("insert into A (x) values (?)"));
+        assertEquals("A", PlanRecorder.tableOf("  INSERT INTO A(x) values (?)"));
+        assertEquals("S.A", PlanRecorder.tableOf("delete from S.A where x = 1"));
+        assertEquals("A", PlanRecorder.tableOf("truncate table A"));
+        assertEquals("A", PlanRecorder.tableOf("update A set x = 1"));
+        assertNull(PlanRecorder.tableOf("create table A (x int)"));
+    }
+
+    @Test
+    public void utf8LengthWorks() {
+        assertEquals(0L, PlanRecorder.utf8Length(""));
+        assertEquals(3L, PlanRecorder.utf8Length("abc"));
+        assertEquals(2L, PlanRecorder.utf8Length("\u00e9"));
+        assertEquals(3L, PlanRecorder.utf8Length("\u20ac"));
+        assertEquals(4L, PlanRecorder.utf8Length("\ud83d\ude00"));
+    }
+}